@@ -0,0 +1,29 @@
+package com.scan_and_dine.backend.config;
+
+import com.scan_and_dine.backend.util.concurrency.ConflictRetryExecutor;
+import com.scan_and_dine.backend.util.concurrency.ConflictRetryInterceptor;
+import com.scan_and_dine.backend.util.concurrency.RetryOnConflict;
+import org.springframework.aop.Advisor;
+import org.springframework.aop.support.DefaultPointcutAdvisor;
+import org.springframework.aop.support.annotation.AnnotationMatchingPointcut;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Role;
+import org.springframework.core.Ordered;
+
+@Configuration(proxyBeanMethods = false)
+public class ConflictRetryConfig {
+
+    // Higher precedence than the transaction advisor (LOWEST_PRECEDENCE) so retries wrap the whole transaction
+    @Bean
+    @Role(BeanDefinition.ROLE_INFRASTRUCTURE)
+    static Advisor conflictRetryAdvisor(ObjectProvider<ConflictRetryExecutor> executor) {
+        DefaultPointcutAdvisor advisor = new DefaultPointcutAdvisor(
+                AnnotationMatchingPointcut.forMethodAnnotation(RetryOnConflict.class),
+                new ConflictRetryInterceptor(executor));
+        advisor.setOrder(Ordered.LOWEST_PRECEDENCE - 1);
+        return advisor;
+    }
+}
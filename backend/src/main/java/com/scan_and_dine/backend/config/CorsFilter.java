@@ -31,11 +31,11 @@ public class CorsFilter implements Filter {
                 "Accept, Accept-Language, Content-Language, Content-Type, Authorization, " +
                 "X-Requested-With, X-HTTP-Method-Override, Cache-Control, Pragma, Origin, " +
                 "User-Agent, DNT, Connection, Upgrade, Sec-WebSocket-Extensions, " +
-                "Sec-WebSocket-Key, Sec-WebSocket-Version");
+                "Sec-WebSocket-Key, Sec-WebSocket-Version, Idempotency-Key, If-None-Match");
         httpResponse.setHeader("Access-Control-Allow-Credentials", "true");
         httpResponse.setHeader("Access-Control-Max-Age", "3600");
         httpResponse.setHeader("Access-Control-Expose-Headers", 
-                "Authorization, Content-Type, Accept, X-Requested-With, Cache-Control");
+                "Authorization, Content-Type, Accept, X-Requested-With, Cache-Control, Idempotent-Replayed, Order-Tracking-Token, ETag");
         
         // Handle preflight requests
         if ("OPTIONS".equalsIgnoreCase(httpRequest.getMethod())) {
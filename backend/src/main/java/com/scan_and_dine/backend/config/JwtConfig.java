@@ -14,6 +14,7 @@ import org.springframework.util.StringUtils;
 
 import javax.crypto.SecretKey;
 import java.util.Date;
+import java.util.UUID;
 import java.util.function.Function;
 
 @Component
@@ -29,6 +30,9 @@ public class JwtConfig {
     @Value("${jwt.refresh-token-expiration:86400000}")
     private long refreshTokenExpiration;
 
+    @Value("${jwt.order-tracking-token-expiration:43200000}")
+    private long orderTrackingTokenExpiration;
+
     private SecretKey getSigningKey() {
         return Keys.hmacShaKeyFor(jwtSecret.getBytes());
     }
@@ -47,6 +51,16 @@ public class JwtConfig {
         return generateToken(email, refreshTokenExpiration, "refresh");
     }
 
+    /**
+     * A token that only lets its holder follow one order, handed to the customer who placed it.
+     */
+    public String generateOrderTrackingToken(UUID orderId) {
+        if (orderId == null) {
+            throw new IllegalArgumentException("Order id cannot be null");
+        }
+        return generateToken(orderId.toString(), orderTrackingTokenExpiration, "order-tracking");
+    }
+
     private String generateToken(String email, long expiration, String type) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + expiration);
@@ -143,6 +157,20 @@ public class JwtConfig {
         }
     }
 
+    public boolean isOrderTrackingToken(String token, UUID orderId) {
+        if (!StringUtils.hasText(token) || orderId == null) {
+            return false;
+        }
+        try {
+            Claims claims = getAllClaimsFromToken(token);
+            return "order-tracking".equals(claims.get("type", String.class))
+                    && orderId.toString().equals(claims.getSubject());
+        } catch (Exception e) {
+            log.debug("Invalid order tracking token: {}", e.getMessage());
+            return false;
+        }
+    }
+
     public boolean isRefreshToken(String token) {
         try {
             String tokenType = getTokenType(token);
@@ -56,7 +56,8 @@ public class WebConfig implements WebMvcConfigurer {
                 "Upgrade",
                 "Sec-WebSocket-Extensions",
                 "Sec-WebSocket-Key",
-                "Sec-WebSocket-Version"
+                "Sec-WebSocket-Version",
+                "If-None-Match"
         ));
         
         // Allow all methods
@@ -76,7 +77,10 @@ public class WebConfig implements WebMvcConfigurer {
                 "Content-Type",
                 "Accept",
                 "X-Requested-With",
-                "Cache-Control"
+                "Cache-Control",
+                "Idempotent-Replayed",
+                "Order-Tracking-Token",
+                "ETag"
         ));
         
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
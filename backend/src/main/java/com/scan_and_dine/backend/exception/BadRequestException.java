@@ -0,0 +1,7 @@
+package com.scan_and_dine.backend.exception;
+
+public class BadRequestException extends RuntimeException {
+    public BadRequestException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,15 @@
+package com.scan_and_dine.backend.exception;
+
+import lombok.Getter;
+
+@Getter
+public class InvalidStatusTransitionException extends RuntimeException {
+    private final String currentStatus;
+    private final String requestedStatus;
+
+    public InvalidStatusTransitionException(Enum<?> currentStatus, Enum<?> requestedStatus) {
+        super(String.format("Cannot change status from %s to %s", currentStatus, requestedStatus));
+        this.currentStatus = currentStatus.name();
+        this.requestedStatus = requestedStatus.name();
+    }
+}
@@ -0,0 +1,19 @@
+package com.scan_and_dine.backend.exception;
+
+import lombok.Getter;
+
+import java.util.List;
+import java.util.UUID;
+
+@Getter
+public class UnavailableMenuItemsException extends RuntimeException {
+    private final List<UUID> missingItemIds;
+    private final List<UUID> unavailableItemIds;
+
+    public UnavailableMenuItemsException(List<UUID> missingItemIds, List<UUID> unavailableItemIds) {
+        super(String.format("Order contains %d missing and %d unavailable menu items",
+                missingItemIds.size(), unavailableItemIds.size()));
+        this.missingItemIds = List.copyOf(missingItemIds);
+        this.unavailableItemIds = List.copyOf(unavailableItemIds);
+    }
+}
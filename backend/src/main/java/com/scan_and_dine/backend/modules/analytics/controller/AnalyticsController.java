@@ -0,0 +1,46 @@
+package com.scan_and_dine.backend.modules.analytics.controller;
+
+import com.scan_and_dine.backend.modules.analytics.dto.PopularItemsDto;
+import com.scan_and_dine.backend.modules.analytics.dto.SalesSeriesDto;
+import com.scan_and_dine.backend.modules.analytics.entity.SalesRollup;
+import com.scan_and_dine.backend.modules.analytics.service.ItemPopularityService;
+import com.scan_and_dine.backend.modules.analytics.service.SalesRollupService;
+import com.scan_and_dine.backend.modules.menu.entity.Menu;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDate;
+
+@RestController
+@RequestMapping("/analytics")
+@RequiredArgsConstructor
+@Slf4j
+public class AnalyticsController {
+
+    private final SalesRollupService salesRollupService;
+    private final ItemPopularityService itemPopularityService;
+
+    @GetMapping("/sales")
+    public ResponseEntity<SalesSeriesDto> getSalesSeries(
+            @RequestParam(defaultValue = "DAY") SalesRollup.Granularity granularity,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        log.info("Fetching {} sales series from {} to {}", granularity, from, to);
+        return ResponseEntity.ok(salesRollupService.getSeries(granularity, from, to));
+    }
+
+    @GetMapping("/popular-items")
+    public ResponseEntity<PopularItemsDto> getPopularItems(
+            @RequestParam(defaultValue = "LAST_HOUR") ItemPopularityService.Window window,
+            @RequestParam(required = false) Menu.MenuCategory category,
+            @RequestParam(defaultValue = "5") int limit) {
+        log.info("Fetching popular items for {}", window);
+        return ResponseEntity.ok(itemPopularityService.getPopularItems(window, category, limit));
+    }
+}
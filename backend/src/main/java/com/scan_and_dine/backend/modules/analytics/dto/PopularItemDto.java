@@ -0,0 +1,16 @@
+package com.scan_and_dine.backend.modules.analytics.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PopularItemDto {
+    private UUID menuItemId;
+    // Count-Min estimate: never below the true quantity, above it by a small share of the window's total
+    private long estimatedQuantity;
+}
@@ -0,0 +1,24 @@
+package com.scan_and_dine.backend.modules.analytics.dto;
+
+import com.scan_and_dine.backend.modules.analytics.service.ItemPopularityService;
+import com.scan_and_dine.backend.modules.menu.entity.Menu;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PopularItemsDto {
+    private ItemPopularityService.Window window;
+    // Start of the oldest slice counted; windows advance in whole slices
+    private LocalDateTime since;
+    // Portions ordered in the window, across all items
+    private long totalQuantity;
+    // Most ordered items first, only categories with orders in the window
+    private Map<Menu.MenuCategory, List<PopularItemDto>> categories;
+}
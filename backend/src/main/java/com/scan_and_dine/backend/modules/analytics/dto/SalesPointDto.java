@@ -0,0 +1,25 @@
+package com.scan_and_dine.backend.modules.analytics.dto;
+
+import com.scan_and_dine.backend.modules.menu.entity.Menu;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Map;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SalesPointDto {
+    private LocalDateTime bucketStart;
+    private long orderCount;
+    private BigDecimal revenue;
+    private BigDecimal tax;
+    private BigDecimal tip;
+    private BigDecimal discount;
+    // Revenue per sold order; null for buckets without sales
+    private BigDecimal averageTicket;
+    private Map<Menu.MenuCategory, BigDecimal> categoryRevenue;
+}
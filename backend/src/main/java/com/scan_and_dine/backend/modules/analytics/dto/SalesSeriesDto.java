@@ -0,0 +1,22 @@
+package com.scan_and_dine.backend.modules.analytics.dto;
+
+import com.scan_and_dine.backend.modules.analytics.entity.SalesRollup;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SalesSeriesDto {
+    private SalesRollup.Granularity granularity;
+    private LocalDate from;
+    private LocalDate to;
+    // Sum over the whole range, bucketStart is the start of the range
+    private SalesPointDto totals;
+    // One point per bucket in the range, including buckets without sales
+    private List<SalesPointDto> points;
+}
@@ -0,0 +1,50 @@
+package com.scan_and_dine.backend.modules.analytics.entity;
+
+import com.scan_and_dine.backend.modules.menu.entity.Menu;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Item revenue per menu category within a SalesRollup bucket.
+ */
+@Entity
+@Table(name = "sales_category_rollups")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SalesCategoryRollup {
+    @EmbeddedId
+    private Key id;
+
+    @Column(nullable = false, precision = 14, scale = 2)
+    private BigDecimal revenue;
+
+    @Column(nullable = false)
+    private long quantity;
+
+    @Column(name = "updatedAt")
+    private LocalDateTime updatedAt;
+
+    @Embeddable
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        @Enumerated(EnumType.STRING)
+        @Column(nullable = false, length = 10)
+        private SalesRollup.Granularity granularity;
+
+        @Column(name = "bucketStart", nullable = false)
+        private LocalDateTime bucketStart;
+
+        @Enumerated(EnumType.STRING)
+        @Column(nullable = false, length = 20)
+        private Menu.MenuCategory category;
+    }
+}
@@ -0,0 +1,59 @@
+package com.scan_and_dine.backend.modules.analytics.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Sales of one hour or one day: orders counted as sold (paid or completed, not cancelled),
+ * bucketed by the order's created_at.
+ */
+@Entity
+@Table(name = "sales_rollups")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SalesRollup {
+    @EmbeddedId
+    private Key id;
+
+    @Column(nullable = false)
+    private long orderCount;
+
+    @Column(nullable = false, precision = 14, scale = 2)
+    private BigDecimal revenue;
+
+    @Column(nullable = false, precision = 14, scale = 2)
+    private BigDecimal tax;
+
+    @Column(nullable = false, precision = 14, scale = 2)
+    private BigDecimal tip;
+
+    @Column(nullable = false, precision = 14, scale = 2)
+    private BigDecimal discount;
+
+    @Column(name = "updatedAt")
+    private LocalDateTime updatedAt;
+
+    public enum Granularity {
+        HOUR, DAY
+    }
+
+    @Embeddable
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        @Enumerated(EnumType.STRING)
+        @Column(nullable = false, length = 10)
+        private Granularity granularity;
+
+        @Column(name = "bucketStart", nullable = false)
+        private LocalDateTime bucketStart;
+    }
+}
@@ -0,0 +1,55 @@
+package com.scan_and_dine.backend.modules.analytics.repository;
+
+import com.scan_and_dine.backend.modules.analytics.entity.SalesCategoryRollup;
+import com.scan_and_dine.backend.modules.analytics.entity.SalesRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.scan_and_dine.backend.modules.analytics.repository.SalesRollupRepository.GRANULARITIES;
+import static com.scan_and_dine.backend.modules.analytics.repository.SalesRollupRepository.ORDERS_IN_RANGE;
+import static com.scan_and_dine.backend.modules.analytics.repository.SalesRollupRepository.SOLD;
+
+@Repository
+public interface SalesCategoryRollupRepository extends JpaRepository<SalesCategoryRollup, SalesCategoryRollup.Key> {
+
+    @Query("SELECT r FROM SalesCategoryRollup r WHERE r.id.granularity = :granularity " +
+           "AND r.id.bucketStart >= :from AND r.id.bucketStart < :to ORDER BY r.id.bucketStart, r.id.category")
+    List<SalesCategoryRollup> findRange(@Param("granularity") SalesRollup.Granularity granularity,
+                                        @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    @Modifying
+    @Query(value = "INSERT INTO sales_category_rollups (granularity, bucket_start, category, revenue, quantity, updated_at) " +
+           "VALUES (:granularity, :bucketStart, :category, :revenue, :quantity, CURRENT_TIMESTAMP) " +
+           "ON CONFLICT (granularity, bucket_start, category) DO UPDATE SET " +
+           "revenue = sales_category_rollups.revenue + EXCLUDED.revenue, " +
+           "quantity = sales_category_rollups.quantity + EXCLUDED.quantity, " +
+           "updated_at = EXCLUDED.updated_at", nativeQuery = true)
+    int addToBucket(@Param("granularity") String granularity, @Param("bucketStart") LocalDateTime bucketStart,
+                    @Param("category") String category, @Param("revenue") BigDecimal revenue,
+                    @Param("quantity") long quantity);
+
+    @Modifying
+    @Query(value = "DELETE FROM sales_category_rollups WHERE bucket_start >= :from AND bucket_start < :to",
+           nativeQuery = true)
+    int deleteRange(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    @Modifying
+    @Query(value = "INSERT INTO sales_category_rollups (granularity, bucket_start, category, revenue, quantity, updated_at) " +
+           "SELECT g.granularity, date_trunc(lower(g.granularity), o.created_at), m.category, " +
+           "COALESCE(SUM(i.total_price), 0), COALESCE(SUM(i.quantity), 0), CURRENT_TIMESTAMP " +
+           "FROM " + ORDERS_IN_RANGE + " o " +
+           "JOIN (SELECT order_id, menu_item_id, total_price, quantity FROM order_items " +
+           "UNION ALL SELECT order_id, menu_item_id, total_price, quantity FROM order_items_archive " +
+           "WHERE order_created_at >= :from AND order_created_at < :to) i ON i.order_id = o.id " +
+           "JOIN menu_items m ON m.id = i.menu_item_id " +
+           "CROSS JOIN " + GRANULARITIES + " WHERE " + SOLD + " " +
+           "GROUP BY g.granularity, date_trunc(lower(g.granularity), o.created_at), m.category", nativeQuery = true)
+    int rebuildRange(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+}
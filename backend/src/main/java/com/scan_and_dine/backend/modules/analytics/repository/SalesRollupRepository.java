@@ -0,0 +1,74 @@
+package com.scan_and_dine.backend.modules.analytics.repository;
+
+import com.scan_and_dine.backend.modules.analytics.entity.SalesRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface SalesRollupRepository extends JpaRepository<SalesRollup, SalesRollup.Key> {
+
+    // An order counts as sold once it is paid or completed, unless it was cancelled
+    String SOLD = "o.status <> 'CANCELLED' AND (o.payment_status = 'PAID' OR o.status = 'COMPLETED')";
+
+    // Hot and archived orders in [:from, :to), so buckets can be rebuilt however old they are
+    String ORDERS_IN_RANGE =
+            "(SELECT id, created_at, status, payment_status, total_amount, tax, tip, discount FROM orders " +
+            "WHERE created_at >= :from AND created_at < :to " +
+            "UNION ALL SELECT id, created_at, status, payment_status, total_amount, tax, tip, discount FROM orders_archive " +
+            "WHERE created_at >= :from AND created_at < :to)";
+
+    String GRANULARITIES = "(VALUES ('HOUR'), ('DAY')) AS g(granularity)";
+
+    @Query("SELECT r FROM SalesRollup r WHERE r.id.granularity = :granularity " +
+           "AND r.id.bucketStart >= :from AND r.id.bucketStart < :to ORDER BY r.id.bucketStart")
+    List<SalesRollup> findRange(@Param("granularity") SalesRollup.Granularity granularity,
+                                @Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    // Rollup locks are per day (keyed by epoch day): incremental writers share the days they add to, and a
+    // rebuild takes only the days it recomputes exclusively, so no delta lands mid-rebuild. Both sides lock
+    // days in ascending order.
+    @Query(value = "SELECT 1 FROM pg_advisory_xact_lock_shared(hashtext('sales_rollups'), :epochDay)", nativeQuery = true)
+    int lockDayForUpdate(@Param("epochDay") int epochDay);
+
+    @Query(value = "SELECT COUNT(*) FROM (SELECT pg_advisory_xact_lock(hashtext('sales_rollups'), CAST(d AS int)) " +
+           "FROM generate_series(:fromEpochDay, :toEpochDay - 1) AS d) locked", nativeQuery = true)
+    long lockDaysForRebuild(@Param("fromEpochDay") int fromEpochDay, @Param("toEpochDay") int toEpochDay);
+
+    @Modifying
+    @Query(value = "INSERT INTO sales_rollups (granularity, bucket_start, order_count, revenue, tax, tip, discount, updated_at) " +
+           "VALUES (:granularity, :bucketStart, :orderCount, :revenue, :tax, :tip, :discount, CURRENT_TIMESTAMP) " +
+           "ON CONFLICT (granularity, bucket_start) DO UPDATE SET " +
+           "order_count = sales_rollups.order_count + EXCLUDED.order_count, " +
+           "revenue = sales_rollups.revenue + EXCLUDED.revenue, tax = sales_rollups.tax + EXCLUDED.tax, " +
+           "tip = sales_rollups.tip + EXCLUDED.tip, discount = sales_rollups.discount + EXCLUDED.discount, " +
+           "updated_at = EXCLUDED.updated_at", nativeQuery = true)
+    int addToBucket(@Param("granularity") String granularity, @Param("bucketStart") LocalDateTime bucketStart,
+                    @Param("orderCount") long orderCount, @Param("revenue") BigDecimal revenue,
+                    @Param("tax") BigDecimal tax, @Param("tip") BigDecimal tip,
+                    @Param("discount") BigDecimal discount);
+
+    @Modifying
+    @Query(value = "DELETE FROM sales_rollups WHERE bucket_start >= :from AND bucket_start < :to", nativeQuery = true)
+    int deleteRange(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    // :from and :to must be day boundaries, so every hour and day bucket in the range is complete
+    @Modifying
+    @Query(value = "INSERT INTO sales_rollups (granularity, bucket_start, order_count, revenue, tax, tip, discount, updated_at) " +
+           "SELECT g.granularity, date_trunc(lower(g.granularity), o.created_at), COUNT(*), " +
+           "COALESCE(SUM(o.total_amount), 0), COALESCE(SUM(o.tax), 0), COALESCE(SUM(o.tip), 0), " +
+           "COALESCE(SUM(o.discount), 0), CURRENT_TIMESTAMP " +
+           "FROM " + ORDERS_IN_RANGE + " o CROSS JOIN " + GRANULARITIES + " WHERE " + SOLD + " " +
+           "GROUP BY g.granularity, date_trunc(lower(g.granularity), o.created_at)", nativeQuery = true)
+    int rebuildRange(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+    @Query(value = "SELECT MIN(t.created_at) FROM (SELECT MIN(created_at) AS created_at FROM orders " +
+           "UNION ALL SELECT MIN(created_at) FROM orders_archive) t", nativeQuery = true)
+    LocalDateTime findEarliestOrderTime();
+}
@@ -0,0 +1,88 @@
+package com.scan_and_dine.backend.modules.analytics.service;
+
+import java.util.Arrays;
+import java.util.UUID;
+
+/**
+ * Count-Min sketch over menu item ids: {@code depth} rows of {@code width} counters, one hashed
+ * counter per row and item. An estimate is the smallest of the item's counters, which is never below
+ * the true count and exceeds it by at most {@code e / width} of the total with probability
+ * {@code 1 - exp(-depth)}. Counters only ever take back what was added, so that bound holds with removals.
+ */
+final class CountMinSketch {
+
+    private static final long[] ROW_SEEDS = {
+            0x9E3779B97F4A7C15L, 0xC2B2AE3D27D4EB4FL, 0x165667B19E3779F9L, 0xD6E8FEB86659FD93L,
+            0xFF51AFD7ED558CCDL, 0xC4CEB9FE1A85EC53L, 0x27D4EB2F165667C5L, 0x85EBCA77C2B2AE63L
+    };
+
+    private final int width;
+    private final int depth;
+    private final long[] counters;
+    private long total;
+
+    CountMinSketch(int width, int depth) {
+        if (width < 1 || depth < 1 || depth > ROW_SEEDS.length) {
+            throw new IllegalArgumentException("Sketch needs width >= 1 and depth between 1 and " + ROW_SEEDS.length);
+        }
+        this.width = width;
+        this.depth = depth;
+        this.counters = new long[width * depth];
+    }
+
+    void add(UUID item, long count) {
+        long key = keyOf(item);
+        for (int row = 0; row < depth; row++) {
+            counters[row * width + column(key, row)] += count;
+        }
+        total += count;
+    }
+
+    long estimate(UUID item) {
+        long key = keyOf(item);
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, counters[row * width + column(key, row)]);
+        }
+        return Math.max(estimate, 0);
+    }
+
+    /**
+     * Adds this sketch's counters for the item to {@code rowSums}. Summing over several sketches of the same
+     * shape and taking the minimum gives the estimate of their union without merging whole sketches.
+     */
+    void addCounters(UUID item, long[] rowSums) {
+        long key = keyOf(item);
+        for (int row = 0; row < depth; row++) {
+            rowSums[row] += counters[row * width + column(key, row)];
+        }
+    }
+
+    long total() {
+        return total;
+    }
+
+    int depth() {
+        return depth;
+    }
+
+    void clear() {
+        Arrays.fill(counters, 0);
+        total = 0;
+    }
+
+    private static long keyOf(UUID item) {
+        return item.getMostSignificantBits() ^ Long.rotateLeft(item.getLeastSignificantBits(), 32);
+    }
+
+    // MurmurHash3 finalizer, seeded per row so the rows hash independently
+    private int column(long key, int row) {
+        long h = key ^ ROW_SEEDS[row];
+        h ^= h >>> 33;
+        h *= 0xFF51AFD7ED558CCDL;
+        h ^= h >>> 33;
+        h *= 0xC4CEB9FE1A85EC53L;
+        h ^= h >>> 33;
+        return (int) Math.floorMod(h, (long) width);
+    }
+}
@@ -0,0 +1,334 @@
+package com.scan_and_dine.backend.modules.analytics.service;
+
+import com.scan_and_dine.backend.modules.analytics.dto.PopularItemDto;
+import com.scan_and_dine.backend.modules.analytics.dto.PopularItemsDto;
+import com.scan_and_dine.backend.modules.event.dto.DomainEventDto;
+import com.scan_and_dine.backend.modules.event.entity.DomainEvent;
+import com.scan_and_dine.backend.modules.event.service.DomainEventSubscriber;
+import com.scan_and_dine.backend.modules.menu.entity.Menu;
+import com.scan_and_dine.backend.modules.menu.repository.MenuRepository;
+import com.scan_and_dine.backend.modules.order.dto.OrderResponseDto;
+import com.scan_and_dine.backend.modules.order.event.OrderEventReader;
+import com.scan_and_dine.backend.modules.order.repository.OrderRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Tracks how many portions of each menu item were ordered in the last hour, today and the last 7 days,
+ * in memory of fixed size and without querying order_items per request.
+ * <p>
+ * Time is cut into slices, 5 minutes for the last hour and 1 hour for today and the week, kept in rings
+ * that reuse the oldest slice. Each slice holds a Count-Min sketch of ordered quantities and, per menu
+ * category, a min-heap of the {@code top-k} items with the highest estimates so far. A window query
+ * takes the heap members of its slices as candidates, estimates each one over all those slices and
+ * ranks them per category. Ordered portions count when the order's CREATED event arrives from the domain
+ * event log, so orders placed on every instance count. Cancellations are not taken back: a Count-Min
+ * counter only ever grows, which keeps every estimate an upper bound, and a cancelled order may have been
+ * counted in a slice that has since been reused. A fresh instance seeds the rings from the last 7 days of
+ * orders that were not cancelled.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ItemPopularityService implements DomainEventSubscriber {
+
+    public enum Window {
+        LAST_HOUR, TODAY, LAST_7_DAYS
+    }
+
+    private static final Duration SHORT_SLICE = Duration.ofMinutes(5);
+    private static final Duration LONG_SLICE = Duration.ofHours(1);
+    private static final Duration WEEK = Duration.ofDays(7);
+
+    private final OrderRepository orderRepository;
+    private final MenuRepository menuRepository;
+    private final OrderEventReader orderEventReader;
+
+    @Value("${analytics.popularity.sketch-width:1024}")
+    private int sketchWidth;
+
+    @Value("${analytics.popularity.sketch-depth:4}")
+    private int sketchDepth;
+
+    @Value("${analytics.popularity.top-k:20}")
+    private int topK;
+
+    @Value("${analytics.popularity.max-limit:50}")
+    private int maxLimit;
+
+    // Current category of every menu item seen; category changes arrive through the event log
+    private final Map<UUID, Menu.MenuCategory> categories = new ConcurrentHashMap<>();
+    private Ring lastHour;
+    private Ring lastWeek;
+
+    @Override
+    public String name() {
+        return "item-popularity";
+    }
+
+    /**
+     * Most ordered items of the window, at most {@code limit} per category, optionally a single category.
+     */
+    public synchronized PopularItemsDto getPopularItems(Window window, Menu.MenuCategory category, int limit) {
+        int boundedLimit = Math.max(1, Math.min(limit, maxLimit));
+        LocalDateTime now = LocalDateTime.now();
+        List<Slice> slices = slicesOf(window, now);
+
+        Set<UUID> candidates = new HashSet<>();
+        long totalQuantity = 0;
+        for (Slice slice : slices) {
+            slice.heaps.values().forEach(heap -> heap.forEach(entry -> candidates.add(entry.menuItemId())));
+            totalQuantity += slice.sketch.total();
+        }
+        resolveCategories(candidates);
+
+        Map<Menu.MenuCategory, List<PopularItemDto>> ranked = new EnumMap<>(Menu.MenuCategory.class);
+        for (UUID menuItemId : candidates) {
+            Menu.MenuCategory current = categories.get(menuItemId);
+            if (current == null || (category != null && current != category)) {
+                continue; // Deleted from the menu, or not asked for
+            }
+            long estimate = estimate(slices, menuItemId);
+            if (estimate > 0) {
+                ranked.computeIfAbsent(current, c -> new ArrayList<>()).add(new PopularItemDto(menuItemId, estimate));
+            }
+        }
+        ranked.replaceAll((c, items) -> items.stream()
+                .sorted(Comparator.comparingLong(PopularItemDto::getEstimatedQuantity).reversed()
+                        .thenComparing(PopularItemDto::getMenuItemId))
+                .limit(boundedLimit)
+                .toList());
+
+        LocalDateTime since = slices.isEmpty() ? startOf(window, now) : slices.get(slices.size() - 1).start;
+        return new PopularItemsDto(window, since, totalQuantity, ranked);
+    }
+
+    /**
+     * Replaces the counts with the orders of the last 7 days.
+     */
+    @Transactional(readOnly = true)
+    public synchronized void rebuild() {
+        lastHour = new Ring(SHORT_SLICE, (int) (Duration.ofHours(1).toMinutes() / SHORT_SLICE.toMinutes()) + 1);
+        lastWeek = new Ring(LONG_SLICE, (int) WEEK.toHours() + 1);
+        LocalDateTime now = LocalDateTime.now();
+        long portions = 0;
+        for (Object[] line : orderRepository.findItemLinesSince(now.minus(WEEK))) {
+            UUID menuItemId = (UUID) line[1];
+            Menu.MenuCategory category = (Menu.MenuCategory) line[2];
+            long quantity = line[3] != null ? ((Number) line[3]).longValue() : 0;
+            categories.put(menuItemId, category);
+            add((LocalDateTime) line[0], menuItemId, category, quantity, now);
+            portions += quantity;
+        }
+        log.info("Item popularity seeded with {} portions from the last {} days", portions, WEEK.toDays());
+    }
+
+    @Override
+    public synchronized void onEvent(DomainEventDto event) {
+        if (orderEventReader.isOrderEvent(event) && event.getType() == DomainEvent.Type.CREATED) {
+            orderEventReader.readOrder(event).ifPresent(this::count);
+        } else if (event.getAggregateType() == DomainEvent.AggregateType.MENU
+                && event.getType() != DomainEvent.Type.CREATED) {
+            // Keeps the category lookup current; counts already taken stay in the slice heaps they were ranked in
+            categories.remove(event.getAggregateId());
+        }
+    }
+
+    private void count(OrderResponseDto order) {
+        if (lastWeek == null || order.getOrderItems() == null) {
+            return; // Not seeded yet
+        }
+        Set<UUID> menuItemIds = new HashSet<>();
+        order.getOrderItems().forEach(item -> menuItemIds.add(item.getMenuItemId()));
+        resolveCategories(menuItemIds);
+
+        LocalDateTime now = LocalDateTime.now();
+        for (OrderResponseDto.OrderItemResponseDto item : order.getOrderItems()) {
+            Menu.MenuCategory category = categories.get(item.getMenuItemId());
+            if (category != null && item.getQuantity() != null) {
+                add(order.getCreatedAt(), item.getMenuItemId(), category, item.getQuantity(), now);
+            }
+        }
+    }
+
+    private void add(LocalDateTime orderedAt, UUID menuItemId, Menu.MenuCategory category, long quantity,
+                     LocalDateTime now) {
+        if (orderedAt == null || quantity == 0) {
+            return;
+        }
+        for (Ring ring : List.of(lastHour, lastWeek)) {
+            Slice slice = ring.sliceAt(orderedAt, now);
+            if (slice != null) {
+                slice.sketch.add(menuItemId, quantity);
+                slice.heaps.computeIfAbsent(category, c -> new TopK(topK))
+                        .offer(menuItemId, slice.sketch.estimate(menuItemId));
+            }
+        }
+    }
+
+    private long estimate(List<Slice> slices, UUID menuItemId) {
+        long[] rowSums = new long[sketchDepth];
+        slices.forEach(slice -> slice.sketch.addCounters(menuItemId, rowSums));
+        long estimate = Long.MAX_VALUE;
+        for (long rowSum : rowSums) {
+            estimate = Math.min(estimate, rowSum);
+        }
+        return Math.max(estimate, 0);
+    }
+
+    private List<Slice> slicesOf(Window window, LocalDateTime now) {
+        if (lastWeek == null) {
+            return List.of();
+        }
+        Ring ring = window == Window.LAST_HOUR ? lastHour : lastWeek;
+        return ring.slicesSince(startOf(window, now), now);
+    }
+
+    private static LocalDateTime startOf(Window window, LocalDateTime now) {
+        return switch (window) {
+            case LAST_HOUR -> now.minusHours(1);
+            case TODAY -> now.toLocalDate().atStartOfDay();
+            case LAST_7_DAYS -> now.minus(WEEK);
+        };
+    }
+
+    private void resolveCategories(Set<UUID> menuItemIds) {
+        Set<UUID> missing = new HashSet<>();
+        for (UUID menuItemId : menuItemIds) {
+            if (menuItemId != null && !categories.containsKey(menuItemId)) {
+                missing.add(menuItemId);
+            }
+        }
+        if (!missing.isEmpty()) {
+            for (Object[] row : menuRepository.findCategoriesByIdIn(missing)) {
+                categories.put((UUID) row[0], (Menu.MenuCategory) row[1]);
+            }
+        }
+    }
+
+    /**
+     * Fixed number of consecutive slices; a slice is cleared and reused once its time has left the ring.
+     */
+    private final class Ring {
+        private final long sliceSeconds;
+        private final Slice[] slices;
+
+        private Ring(Duration sliceLength, int size) {
+            this.sliceSeconds = sliceLength.toSeconds();
+            this.slices = new Slice[size];
+        }
+
+        // The slice covering the given time, or null when that time is outside the ring
+        private Slice sliceAt(LocalDateTime time, LocalDateTime now) {
+            long index = sliceIndex(time);
+            long current = sliceIndex(now);
+            if (index > current || index <= current - slices.length) {
+                return null;
+            }
+            int position = (int) Math.floorMod(index, (long) slices.length);
+            Slice slice = slices[position];
+            if (slice == null) {
+                slice = new Slice(new CountMinSketch(sketchWidth, sketchDepth));
+                slices[position] = slice;
+            }
+            if (slice.index != index) {
+                slice.reset(index, startOf(index));
+            }
+            return slice;
+        }
+
+        // Slices overlapping [from, now], newest first
+        private List<Slice> slicesSince(LocalDateTime from, LocalDateTime now) {
+            long current = sliceIndex(now);
+            long oldest = Math.max(sliceIndex(from), current - slices.length + 1);
+            List<Slice> result = new ArrayList<>();
+            for (long index = current; index >= oldest; index--) {
+                Slice slice = slices[(int) Math.floorMod(index, (long) slices.length)];
+                if (slice != null && slice.index == index) {
+                    result.add(slice);
+                }
+            }
+            return result;
+        }
+
+        private long sliceIndex(LocalDateTime time) {
+            return Math.floorDiv(time.toEpochSecond(ZoneOffset.UTC), sliceSeconds);
+        }
+
+        private LocalDateTime startOf(long index) {
+            return LocalDateTime.ofEpochSecond(index * sliceSeconds, 0, ZoneOffset.UTC);
+        }
+    }
+
+    private static final class Slice {
+        private final CountMinSketch sketch;
+        private final Map<Menu.MenuCategory, TopK> heaps = new EnumMap<>(Menu.MenuCategory.class);
+        private long index = Long.MIN_VALUE;
+        private LocalDateTime start;
+
+        private Slice(CountMinSketch sketch) {
+            this.sketch = sketch;
+        }
+
+        private void reset(long index, LocalDateTime start) {
+            this.index = index;
+            this.start = start;
+            sketch.clear();
+            heaps.clear();
+        }
+    }
+
+    /**
+     * The {@code capacity} items with the highest estimates, as a min-heap so the weakest is replaced first.
+     */
+    private static final class TopK {
+        private final int capacity;
+        private final Map<UUID, Candidate> members = new HashMap<>();
+        private final PriorityQueue<Candidate> heap = new PriorityQueue<>(Comparator.comparingLong(Candidate::estimate));
+
+        private TopK(int capacity) {
+            this.capacity = Math.max(capacity, 1);
+        }
+
+        private void offer(UUID menuItemId, long estimate) {
+            Candidate existing = members.remove(menuItemId);
+            if (existing != null) {
+                heap.remove(existing);
+            } else if (members.size() >= capacity) {
+                if (heap.isEmpty() || heap.peek().estimate() >= estimate) {
+                    return;
+                }
+                members.remove(heap.poll().menuItemId());
+            }
+            Candidate candidate = new Candidate(menuItemId, estimate);
+            members.put(menuItemId, candidate);
+            heap.add(candidate);
+        }
+
+        private void forEach(Consumer<Candidate> action) {
+            heap.forEach(action);
+        }
+    }
+
+    private record Candidate(UUID menuItemId, long estimate) {
+    }
+}
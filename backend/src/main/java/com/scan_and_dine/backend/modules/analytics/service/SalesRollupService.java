@@ -0,0 +1,381 @@
+package com.scan_and_dine.backend.modules.analytics.service;
+
+import com.scan_and_dine.backend.exception.BadRequestException;
+import com.scan_and_dine.backend.modules.analytics.dto.SalesPointDto;
+import com.scan_and_dine.backend.modules.analytics.dto.SalesSeriesDto;
+import com.scan_and_dine.backend.modules.analytics.entity.SalesCategoryRollup;
+import com.scan_and_dine.backend.modules.analytics.entity.SalesRollup;
+import com.scan_and_dine.backend.modules.analytics.repository.SalesCategoryRollupRepository;
+import com.scan_and_dine.backend.modules.analytics.repository.SalesRollupRepository;
+import com.scan_and_dine.backend.modules.menu.entity.Menu;
+import com.scan_and_dine.backend.modules.menu.repository.MenuRepository;
+import com.scan_and_dine.backend.modules.order.dto.OrderResponseDto;
+import com.scan_and_dine.backend.modules.order.entity.Order;
+import com.scan_and_dine.backend.modules.order.event.OrderChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.UUID;
+
+/**
+ * Maintains hourly and daily sales rollups and answers time-series queries from them alone.
+ * <p>
+ * An order counts as sold while it is paid or completed and not cancelled. Each OrderChangedEvent
+ * adds the difference between the order's contribution before and after the change; the deltas of one
+ * transaction are summed per bucket and written just before it commits, in key order, so concurrent
+ * writers cannot deadlock on bucket rows. Deleting a sold order (its items are gone by then) and the
+ * periodic reconciliation recompute whole days from the orders and archive tables instead. Rebuilds lock
+ * only the days they recompute, so orders committing on other days never wait for them.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class SalesRollupService {
+
+    private static final Comparator<BucketKey> BUCKET_ORDER = Comparator
+            .comparing((BucketKey key) -> key.granularity().name())
+            .thenComparing(BucketKey::bucketStart);
+
+    private static final Comparator<CategoryKey> CATEGORY_ORDER = Comparator
+            .comparing((CategoryKey key) -> key.bucket(), BUCKET_ORDER)
+            .thenComparing(key -> key.category().name());
+
+    // Every write transaction holds back the event log's sequencing watermark (see DomainEventRelay),
+    // so a rebuild commits one day at a time
+    private static final int REBUILD_DAYS_PER_TRANSACTION = 1;
+
+    private final SalesRollupRepository rollupRepository;
+    private final SalesCategoryRollupRepository categoryRollupRepository;
+    private final MenuRepository menuRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${analytics.rollups.reconcile-days:2}")
+    private int reconcileDays;
+
+    @Value("${analytics.rollups.max-hourly-days:31}")
+    private int maxHourlyDays;
+
+    @Value("${analytics.rollups.max-daily-days:366}")
+    private int maxDailyDays;
+
+    // Bound to a transaction that has pending rollup deltas
+    private final Object transactionKey = new Object();
+
+    private static boolean isSold(Order.OrderStatus status, Order.PaymentStatus paymentStatus) {
+        return status != Order.OrderStatus.CANCELLED
+                && (paymentStatus == Order.PaymentStatus.PAID || status == Order.OrderStatus.COMPLETED);
+    }
+
+    @EventListener
+    public void onOrderChanged(OrderChangedEvent event) {
+        OrderChangedEvent.Snapshot before = event.getPrevious();
+        OrderResponseDto after = event.getType() != OrderChangedEvent.Type.DELETED ? event.getOrder() : null;
+        boolean wasSold = before != null && isSold(before.status(), before.paymentStatus());
+        boolean sold = after != null && isSold(after.getStatus(), after.getPaymentStatus());
+        if (!wasSold && !sold) {
+            return;
+        }
+        PendingRollup pending = pendingRollup();
+        if (after == null) {
+            pending.dirtyDays.add(before.createdAt().toLocalDate());
+            return;
+        }
+        // Items never change after creation, so both sides use the current lines
+        if (wasSold) {
+            pending.add(before, after.getOrderItems(), -1);
+        }
+        if (sold) {
+            pending.add(OrderChangedEvent.Snapshot.of(after), after.getOrderItems(), 1);
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public SalesSeriesDto getSeries(SalesRollup.Granularity granularity, LocalDate from, LocalDate to) {
+        if (to.isBefore(from)) {
+            throw new BadRequestException("Range must not end before it starts");
+        }
+        long days = ChronoUnit.DAYS.between(from, to) + 1;
+        int maxDays = granularity == SalesRollup.Granularity.HOUR ? maxHourlyDays : maxDailyDays;
+        if (days > maxDays) {
+            throw new BadRequestException(granularity + " series are limited to " + maxDays + " days");
+        }
+        LocalDateTime start = from.atStartOfDay();
+        LocalDateTime end = to.plusDays(1).atStartOfDay();
+
+        // Every bucket of the range gets a point, so charts need no gap filling
+        Map<LocalDateTime, Point> points = new TreeMap<>();
+        ChronoUnit step = granularity == SalesRollup.Granularity.HOUR ? ChronoUnit.HOURS : ChronoUnit.DAYS;
+        for (LocalDateTime bucket = start; bucket.isBefore(end); bucket = bucket.plus(1, step)) {
+            points.put(bucket, new Point(bucket));
+        }
+        for (SalesRollup rollup : rollupRepository.findRange(granularity, start, end)) {
+            Point point = points.get(rollup.getId().getBucketStart());
+            if (point != null) {
+                point.add(rollup);
+            }
+        }
+        for (SalesCategoryRollup rollup : categoryRollupRepository.findRange(granularity, start, end)) {
+            Point point = points.get(rollup.getId().getBucketStart());
+            if (point != null) {
+                point.addCategory(rollup.getId().getCategory(), rollup.getRevenue());
+            }
+        }
+
+        Point totals = new Point(start);
+        points.values().forEach(totals::add);
+        List<SalesPointDto> series = points.values().stream().map(Point::toDto).toList();
+        return new SalesSeriesDto(granularity, from, to, totals.toDto(), series);
+    }
+
+    /**
+     * Recomputes the recent days from source, and the whole history the first time.
+     */
+    @Scheduled(initialDelayString = "${analytics.rollups.initial-delay:PT30S}",
+            fixedDelayString = "${analytics.rollups.reconcile-interval:PT15M}")
+    public void reconcile() {
+        LocalDate tomorrow = LocalDate.now().plusDays(1);
+        LocalDate from = tomorrow.minusDays(Math.max(reconcileDays, 1));
+        if (rollupRepository.count() == 0) {
+            LocalDateTime earliest = rollupRepository.findEarliestOrderTime();
+            if (earliest != null && earliest.toLocalDate().isBefore(from)) {
+                from = earliest.toLocalDate();
+                log.info("Building sales rollups from {}", from);
+            }
+        }
+        rebuild(from, tomorrow);
+    }
+
+    /**
+     * Recomputes all buckets of the days in [{@code from}, {@code to}) from the orders and archive tables.
+     */
+    public void rebuild(LocalDate from, LocalDate to) {
+        TransactionTemplate requiresNew = new TransactionTemplate(transactionTemplate.getTransactionManager());
+        requiresNew.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        for (LocalDate chunk = from; chunk.isBefore(to); chunk = chunk.plusDays(REBUILD_DAYS_PER_TRANSACTION)) {
+            LocalDateTime start = chunk.atStartOfDay();
+            LocalDate chunkEnd = chunk.plusDays(REBUILD_DAYS_PER_TRANSACTION);
+            LocalDateTime end = (chunkEnd.isBefore(to) ? chunkEnd : to).atStartOfDay();
+            requiresNew.executeWithoutResult(status -> {
+                rollupRepository.lockDaysForRebuild((int) start.toLocalDate().toEpochDay(),
+                        (int) end.toLocalDate().toEpochDay());
+                rollupRepository.deleteRange(start, end);
+                categoryRollupRepository.deleteRange(start, end);
+                rollupRepository.rebuildRange(start, end);
+                categoryRollupRepository.rebuildRange(start, end);
+            });
+        }
+        log.debug("Sales rollups rebuilt for {} to {}", from, to);
+    }
+
+    private PendingRollup pendingRollup() {
+        PendingRollup pending = (PendingRollup) TransactionSynchronizationManager.getResource(transactionKey);
+        if (pending != null) {
+            return pending;
+        }
+        PendingRollup created = new PendingRollup();
+        TransactionSynchronizationManager.bindResource(transactionKey, created);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                write(created);
+            }
+
+            @Override
+            public void afterCommit() {
+                created.dirtyDays.forEach(day -> rebuild(day, day.plusDays(1)));
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(transactionKey);
+            }
+        });
+        return created;
+    }
+
+    private void write(PendingRollup pending) {
+        Map<BucketKey, Totals> buckets = new TreeMap<>(BUCKET_ORDER);
+        pending.buckets.forEach((key, totals) -> {
+            if (!totals.isZero()) {
+                buckets.put(key, totals);
+            }
+        });
+        Map<CategoryKey, CategoryTotals> categories = categoryDeltas(pending.lines);
+        if (buckets.isEmpty() && categories.isEmpty()) {
+            return;
+        }
+        Set<LocalDate> days = new TreeSet<>();
+        buckets.keySet().forEach(key -> days.add(key.bucketStart().toLocalDate()));
+        categories.keySet().forEach(key -> days.add(key.bucket().bucketStart().toLocalDate()));
+        days.forEach(day -> rollupRepository.lockDayForUpdate((int) day.toEpochDay()));
+        buckets.forEach((key, totals) -> rollupRepository.addToBucket(key.granularity().name(), key.bucketStart(),
+                totals.orderCount, totals.revenue, totals.tax, totals.tip, totals.discount));
+        categories.forEach((key, totals) -> categoryRollupRepository.addToBucket(key.bucket().granularity().name(),
+                key.bucket().bucketStart(), key.category().name(), totals.revenue, totals.quantity));
+    }
+
+    private Map<CategoryKey, CategoryTotals> categoryDeltas(List<LineDelta> lines) {
+        Map<CategoryKey, CategoryTotals> categories = new TreeMap<>(CATEGORY_ORDER);
+        if (lines.isEmpty()) {
+            return categories;
+        }
+        Set<UUID> menuItemIds = new HashSet<>();
+        lines.forEach(line -> menuItemIds.add(line.menuItemId()));
+        Map<UUID, Menu.MenuCategory> categoryByMenuItem = new HashMap<>();
+        for (Object[] row : menuRepository.findCategoriesByIdIn(menuItemIds)) {
+            categoryByMenuItem.put((UUID) row[0], (Menu.MenuCategory) row[1]);
+        }
+        for (LineDelta line : lines) {
+            Menu.MenuCategory category = categoryByMenuItem.get(line.menuItemId());
+            if (category == null) {
+                continue;
+            }
+            for (SalesRollup.Granularity granularity : SalesRollup.Granularity.values()) {
+                CategoryKey key = new CategoryKey(BucketKey.of(granularity, line.createdAt()), category);
+                categories.computeIfAbsent(key, k -> new CategoryTotals()).add(line);
+            }
+        }
+        categories.values().removeIf(CategoryTotals::isZero);
+        return categories;
+    }
+
+    private record BucketKey(SalesRollup.Granularity granularity, LocalDateTime bucketStart) {
+
+        static BucketKey of(SalesRollup.Granularity granularity, LocalDateTime time) {
+            return new BucketKey(granularity, granularity == SalesRollup.Granularity.HOUR
+                    ? time.truncatedTo(ChronoUnit.HOURS)
+                    : time.truncatedTo(ChronoUnit.DAYS));
+        }
+    }
+
+    private record CategoryKey(BucketKey bucket, Menu.MenuCategory category) {
+    }
+
+    private record LineDelta(LocalDateTime createdAt, UUID menuItemId, BigDecimal revenue, long quantity) {
+    }
+
+    private static final class Point {
+        private final LocalDateTime bucketStart;
+        private final Totals totals = new Totals();
+        private final Map<Menu.MenuCategory, BigDecimal> categoryRevenue = new EnumMap<>(Menu.MenuCategory.class);
+
+        private Point(LocalDateTime bucketStart) {
+            this.bucketStart = bucketStart;
+        }
+
+        private void add(SalesRollup rollup) {
+            totals.orderCount += rollup.getOrderCount();
+            totals.revenue = totals.revenue.add(rollup.getRevenue());
+            totals.tax = totals.tax.add(rollup.getTax());
+            totals.tip = totals.tip.add(rollup.getTip());
+            totals.discount = totals.discount.add(rollup.getDiscount());
+        }
+
+        private void add(Point other) {
+            totals.orderCount += other.totals.orderCount;
+            totals.revenue = totals.revenue.add(other.totals.revenue);
+            totals.tax = totals.tax.add(other.totals.tax);
+            totals.tip = totals.tip.add(other.totals.tip);
+            totals.discount = totals.discount.add(other.totals.discount);
+            other.categoryRevenue.forEach(this::addCategory);
+        }
+
+        private void addCategory(Menu.MenuCategory category, BigDecimal revenue) {
+            categoryRevenue.merge(category, revenue, BigDecimal::add);
+        }
+
+        private SalesPointDto toDto() {
+            BigDecimal averageTicket = totals.orderCount > 0
+                    ? totals.revenue.divide(BigDecimal.valueOf(totals.orderCount), 2, RoundingMode.HALF_UP)
+                    : null;
+            return new SalesPointDto(bucketStart, totals.orderCount, totals.revenue, totals.tax, totals.tip,
+                    totals.discount, averageTicket, categoryRevenue);
+        }
+    }
+
+    private static final class PendingRollup {
+        private final Map<BucketKey, Totals> buckets = new HashMap<>();
+        private final List<LineDelta> lines = new ArrayList<>();
+        private final Set<LocalDate> dirtyDays = new TreeSet<>();
+
+        private void add(OrderChangedEvent.Snapshot order, List<OrderResponseDto.OrderItemResponseDto> items,
+                         int sign) {
+            for (SalesRollup.Granularity granularity : SalesRollup.Granularity.values()) {
+                buckets.computeIfAbsent(BucketKey.of(granularity, order.createdAt()), key -> new Totals())
+                        .add(order, sign);
+            }
+            if (items != null) {
+                BigDecimal factor = BigDecimal.valueOf(sign);
+                for (OrderResponseDto.OrderItemResponseDto item : items) {
+                    lines.add(new LineDelta(order.createdAt(), item.getMenuItemId(),
+                            amount(item.getTotalPrice()).multiply(factor),
+                            (long) sign * (item.getQuantity() != null ? item.getQuantity() : 0)));
+                }
+            }
+        }
+    }
+
+    private static final class Totals {
+        private long orderCount;
+        private BigDecimal revenue = BigDecimal.ZERO;
+        private BigDecimal tax = BigDecimal.ZERO;
+        private BigDecimal tip = BigDecimal.ZERO;
+        private BigDecimal discount = BigDecimal.ZERO;
+
+        private void add(OrderChangedEvent.Snapshot order, int sign) {
+            BigDecimal factor = BigDecimal.valueOf(sign);
+            orderCount += sign;
+            revenue = revenue.add(amount(order.totalAmount()).multiply(factor));
+            tax = tax.add(amount(order.tax()).multiply(factor));
+            tip = tip.add(amount(order.tip()).multiply(factor));
+            discount = discount.add(amount(order.discount()).multiply(factor));
+        }
+
+        private boolean isZero() {
+            return orderCount == 0 && revenue.signum() == 0 && tax.signum() == 0
+                    && tip.signum() == 0 && discount.signum() == 0;
+        }
+    }
+
+    private static final class CategoryTotals {
+        private BigDecimal revenue = BigDecimal.ZERO;
+        private long quantity;
+
+        private void add(LineDelta line) {
+            revenue = revenue.add(line.revenue());
+            quantity += line.quantity();
+        }
+
+        private boolean isZero() {
+            return quantity == 0 && revenue.signum() == 0;
+        }
+    }
+
+    private static BigDecimal amount(BigDecimal value) {
+        return value != null ? value.setScale(2, RoundingMode.HALF_UP) : BigDecimal.ZERO;
+    }
+}
@@ -0,0 +1,44 @@
+package com.scan_and_dine.backend.modules.event.controller;
+
+import com.scan_and_dine.backend.modules.event.dto.DomainEventDto;
+import com.scan_and_dine.backend.modules.event.dto.EventSubscriberDto;
+import com.scan_and_dine.backend.modules.event.dto.ReplayRequestDto;
+import com.scan_and_dine.backend.modules.event.service.DomainEventRelay;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/events")
+@RequiredArgsConstructor
+@Slf4j
+public class DomainEventController {
+
+    private final DomainEventRelay eventRelay;
+
+    @GetMapping(value = {"", "/"})
+    public ResponseEntity<List<DomainEventDto>> getEvents(
+            @RequestParam(defaultValue = "0") long after,
+            @RequestParam(defaultValue = "100") int limit) {
+        log.info("Fetching events after position: {}", after);
+        return ResponseEntity.ok(eventRelay.readFrom(after, limit));
+    }
+
+    @GetMapping("/subscribers")
+    public ResponseEntity<List<EventSubscriberDto>> getSubscribers() {
+        log.info("Fetching event subscriber positions");
+        return ResponseEntity.ok(eventRelay.getSubscribers());
+    }
+
+    @PutMapping("/subscribers/{name}/position")
+    public ResponseEntity<EventSubscriberDto> replay(
+            @PathVariable String name,
+            @Valid @RequestBody ReplayRequestDto requestDto) {
+        log.info("Replaying events for subscriber {} from position {}", name, requestDto.getPosition());
+        return ResponseEntity.ok(eventRelay.replay(name, requestDto.getPosition()));
+    }
+}
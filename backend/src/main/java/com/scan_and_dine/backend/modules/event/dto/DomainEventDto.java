@@ -0,0 +1,23 @@
+package com.scan_and_dine.backend.modules.event.dto;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+import com.scan_and_dine.backend.modules.event.entity.DomainEvent;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DomainEventDto {
+    private Long position;
+    private DomainEvent.AggregateType aggregateType;
+    private UUID aggregateId;
+    private DomainEvent.Type type;
+    @JsonRawValue
+    private String payload;
+    private LocalDateTime createdAt;
+}
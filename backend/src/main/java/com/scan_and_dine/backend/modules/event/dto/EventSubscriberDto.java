@@ -0,0 +1,14 @@
+package com.scan_and_dine.backend.modules.event.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class EventSubscriberDto {
+    private String name;
+    private long position;
+    private long lag;
+}
@@ -0,0 +1,17 @@
+package com.scan_and_dine.backend.modules.event.dto;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReplayRequestDto {
+    // Last position the subscriber should consider processed; delivery resumes right after it
+    @NotNull(message = "Position is required")
+    @Min(value = 0, message = "Position must not be negative")
+    private Long position;
+}
@@ -0,0 +1,63 @@
+package com.scan_and_dine.backend.modules.event.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Append-only outbox entry, written in the same transaction as the change it describes.
+ * schema.sql adds insert_seq and insert_xid columns (the insert order and the writing transaction,
+ * both assigned by the database) that DomainEventRelay uses to hand out gap-free delivery positions
+ * after commit.
+ */
+@Entity
+@Table(name = "order_events", indexes = {
+        @Index(name = "idx_order_events_log_position", columnList = "log_position", unique = true),
+        @Index(name = "idx_order_events_aggregate", columnList = "aggregateType, aggregateId"),
+        @Index(name = "idx_order_events_type_position", columnList = "aggregateType, log_position")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DomainEvent {
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "order_events_id_seq")
+    @SequenceGenerator(name = "order_events_id_seq", sequenceName = "order_events_id_seq", allocationSize = 50)
+    private Long id;
+
+    // Delivery order and replay offset; null until the relay has sequenced the committed event
+    @Column(name = "log_position")
+    private Long position;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private AggregateType aggregateType;
+
+    @Column(nullable = false)
+    private UUID aggregateId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Type type;
+
+    // JSON of the aggregate's response DTO after the change; null for deletions
+    @Column(columnDefinition = "TEXT")
+    private String payload;
+
+    @CreationTimestamp
+    @Column(name = "createdAt", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    public enum AggregateType {
+        ORDER, TABLE, MENU, STATION_TICKET
+    }
+
+    public enum Type {
+        CREATED, UPDATED, STATUS_CHANGED, DELETED
+    }
+}
@@ -0,0 +1,11 @@
+package com.scan_and_dine.backend.modules.event.mapper;
+
+import com.scan_and_dine.backend.modules.event.dto.DomainEventDto;
+import com.scan_and_dine.backend.modules.event.entity.DomainEvent;
+import org.mapstruct.Mapper;
+
+@Mapper(componentModel = "spring")
+public interface DomainEventMapper {
+
+    DomainEventDto toDto(DomainEvent event);
+}
@@ -0,0 +1,63 @@
+package com.scan_and_dine.backend.modules.event.repository;
+
+import com.scan_and_dine.backend.modules.event.entity.DomainEvent;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface DomainEventRepository extends JpaRepository<DomainEvent, Long> {
+
+    // Only one sequencer at a time, across instances; writers never take this lock
+    @Query(value = "SELECT pg_try_advisory_xact_lock(hashtext('order_events'))", nativeQuery = true)
+    boolean tryLockForSequencing();
+
+    // Numbers unsequenced events after the current head, in insert order. Only rows written by transactions
+    // older than the oldest one still running are taken: every row below that watermark has committed and
+    // no writer can still add one, so a later pass never has to place an event before one already numbered.
+    @Query(value = "WITH next AS (SELECT id, row_number() OVER (ORDER BY insert_seq) AS n FROM order_events " +
+           "WHERE log_position IS NULL AND insert_xid < pg_snapshot_xmin(pg_current_snapshot()) " +
+           "ORDER BY insert_seq LIMIT :limit), " +
+           "head AS (SELECT COALESCE(MAX(log_position), 0) AS log_position FROM order_events), " +
+           "sequenced AS (UPDATE order_events e SET log_position = head.log_position + next.n " +
+           "FROM next, head WHERE e.id = next.id RETURNING e.id) " +
+           "SELECT COUNT(*) FROM sequenced", nativeQuery = true)
+    long sequenceCommitted(@Param("limit") int limit);
+
+    // Creation time of the oldest committed or in-flight event still waiting for its position
+    @Query("SELECT MIN(e.createdAt) FROM DomainEvent e WHERE e.position IS NULL")
+    LocalDateTime findOldestUnsequencedCreatedAt();
+
+    // Of the given events, those written by transactions visible in the snapshot (from pg_current_snapshot())
+    @Query(value = "SELECT log_position FROM order_events WHERE log_position IN (:positions) " +
+           "AND pg_visible_in_snapshot(insert_xid, CAST(:snapshot AS pg_snapshot))", nativeQuery = true)
+    List<Long> findPositionsVisibleIn(@Param("positions") Collection<Long> positions,
+                                      @Param("snapshot") String snapshot);
+
+    @Query(value = "SELECT CAST(pg_current_snapshot() AS TEXT)", nativeQuery = true)
+    String currentSnapshot();
+
+    List<DomainEvent> findByPositionGreaterThanOrderByPositionAsc(Long position, Limit limit);
+
+    List<DomainEvent> findByAggregateTypeAndPositionGreaterThanOrderByPositionAsc(
+            DomainEvent.AggregateType aggregateType, Long position, Limit limit);
+
+    @Query("SELECT COALESCE(MAX(e.position), 0) FROM DomainEvent e")
+    long findHeadPosition();
+
+    // Lowest position still retained, 0 while nothing has been sequenced
+    @Query("SELECT COALESCE(MIN(e.position), 0) FROM DomainEvent e")
+    long findTailPosition();
+
+    @Modifying
+    @Query("DELETE FROM DomainEvent e WHERE e.createdAt < :cutoff AND e.position <= :deliveredPosition")
+    int deleteDeliveredBefore(@Param("cutoff") LocalDateTime cutoff,
+                              @Param("deliveredPosition") long deliveredPosition);
+}
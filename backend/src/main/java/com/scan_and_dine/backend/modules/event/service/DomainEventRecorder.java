@@ -0,0 +1,95 @@
+package com.scan_and_dine.backend.modules.event.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.scan_and_dine.backend.modules.event.entity.DomainEvent;
+import com.scan_and_dine.backend.modules.event.repository.DomainEventRepository;
+import com.scan_and_dine.backend.modules.order.event.OrderChangedEvent;
+import com.scan_and_dine.backend.modules.order.event.StationTicketChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.UUID;
+
+/**
+ * Writes domain events into the order_events outbox inside the caller's transaction, so an event
+ * exists if and only if its change committed. Publishing is left to DomainEventRelay, which is
+ * woken up once the transaction has committed.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DomainEventRecorder {
+
+    private final DomainEventRepository eventRepository;
+    private final DomainEventRelay eventRelay;
+    private final ObjectMapper objectMapper;
+
+    // Bound to the transaction once the relay wake-up is registered
+    private final Object transactionKey = new Object();
+
+    /**
+     * Appends an event for the given aggregate. {@code payload} is the aggregate's response DTO after
+     * the change, or null for a deletion.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(DomainEvent.AggregateType aggregateType, UUID aggregateId, DomainEvent.Type type,
+                       Object payload) {
+        joinTransaction();
+        DomainEvent event = new DomainEvent();
+        event.setAggregateType(aggregateType);
+        event.setAggregateId(aggregateId);
+        event.setType(type);
+        event.setPayload(payload != null ? toJson(payload) : null);
+        eventRepository.save(event);
+        log.debug("Recorded {} {} event for {}", aggregateType, type, aggregateId);
+    }
+
+    // OrderService already raises an event for every order change, in the order's own transaction
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onOrderChanged(OrderChangedEvent event) {
+        record(DomainEvent.AggregateType.ORDER, event.getOrderId(),
+                DomainEvent.Type.valueOf(event.getType().name()), event.getOrder());
+    }
+
+    // Station tickets change with their order or on their own, always inside the writing transaction
+    @EventListener
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void onStationTicketChanged(StationTicketChangedEvent event) {
+        record(DomainEvent.AggregateType.STATION_TICKET, event.getTicketId(),
+                event.isRemoved() ? DomainEvent.Type.DELETED : DomainEvent.Type.UPDATED, event.getTicket());
+    }
+
+    private void joinTransaction() {
+        if (TransactionSynchronizationManager.hasResource(transactionKey)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(transactionKey, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                eventRelay.wakeUp();
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(transactionKey);
+            }
+        });
+    }
+
+    private String toJson(Object payload) {
+        try {
+            return objectMapper.writeValueAsString(payload);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unable to serialize domain event payload", e);
+        }
+    }
+}
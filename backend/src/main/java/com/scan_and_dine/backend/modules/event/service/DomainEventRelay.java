@@ -0,0 +1,280 @@
+package com.scan_and_dine.backend.modules.event.service;
+
+import com.scan_and_dine.backend.exception.ResourceNotFoundException;
+import com.scan_and_dine.backend.modules.event.dto.DomainEventDto;
+import com.scan_and_dine.backend.modules.event.dto.EventSubscriberDto;
+import com.scan_and_dine.backend.modules.event.entity.DomainEvent;
+import com.scan_and_dine.backend.modules.event.mapper.DomainEventMapper;
+import com.scan_and_dine.backend.modules.event.repository.DomainEventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes the order_events outbox to in-process subscribers, in log order and at least once.
+ * <p>
+ * Events get their log position only after commit: each row records the id of the transaction that
+ * wrote it, and the sequencer numbers, after the current head, only unsequenced rows from transactions
+ * older than the oldest one still in flight. Writers take no lock for this. Positions are therefore
+ * gap-free and a reader that has seen position n will never later find an event below n. Each
+ * subscriber then receives the events after its offset, which starts at the head of the log when the
+ * instance starts; a subscriber that throws keeps its offset and gets the same event again on the next
+ * pass. The relay runs after every committed write and at least every poll interval, which also picks
+ * up events written by other instances.
+ * <p>
+ * The watermark is shared: while any write transaction runs, nothing committed after it started gets a
+ * position, so one long transaction delays delivery to every subscriber and stream by its own duration.
+ * Background writers (order archival, rollup rebuilds) therefore commit in small batches, and the relay
+ * warns when events have waited longer than {@code events.relay.stall-warning}.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class DomainEventRelay implements SmartLifecycle {
+
+    private static final int MAX_READ_LIMIT = 1000;
+
+    private final DomainEventRepository eventRepository;
+    private final DomainEventMapper eventMapper;
+    // Resolved on start: subscribers may depend on services that record events, and so on this relay
+    private final ObjectProvider<DomainEventSubscriber> subscriberProvider;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${events.relay.enabled:true}")
+    private boolean enabled;
+
+    @Value("${events.relay.poll-interval:PT1S}")
+    private Duration pollInterval;
+
+    @Value("${events.relay.batch-size:200}")
+    private int batchSize;
+
+    @Value("${events.relay.stall-warning:PT10S}")
+    private Duration stallWarning;
+
+    @Value("${events.retention:P30D}")
+    private Duration retention;
+
+    private volatile List<DomainEventSubscriber> subscribers = List.of();
+    // Offsets of the subscribers on this instance
+    private final Map<String, Long> localPositions = new ConcurrentHashMap<>();
+    private final Semaphore wakeUps = new Semaphore(0);
+    private Thread relay;
+    private volatile boolean running;
+
+    /**
+     * Asks the relay to run now instead of at the next poll.
+     */
+    public void wakeUp() {
+        if (wakeUps.availablePermits() == 0) {
+            wakeUps.release();
+        }
+    }
+
+    /**
+     * Events after the given position, for clients catching up on the log.
+     */
+    public List<DomainEventDto> readFrom(long after, int limit) {
+        int boundedLimit = Math.max(1, Math.min(limit, MAX_READ_LIMIT));
+        return transactionTemplate.execute(status -> eventRepository
+                .findByPositionGreaterThanOrderByPositionAsc(after, Limit.of(boundedLimit))
+                .stream()
+                .map(eventMapper::toDto)
+                .toList());
+    }
+
+    /**
+     * Events of one aggregate type after the given position, for clients syncing that aggregate.
+     */
+    public List<DomainEventDto> readFrom(DomainEvent.AggregateType aggregateType, long after, int limit) {
+        int boundedLimit = Math.max(1, Math.min(limit, MAX_READ_LIMIT));
+        return transactionTemplate.execute(status -> eventRepository
+                .findByAggregateTypeAndPositionGreaterThanOrderByPositionAsc(aggregateType, after, Limit.of(boundedLimit))
+                .stream()
+                .map(eventMapper::toDto)
+                .toList());
+    }
+
+    public long getHeadPosition() {
+        return eventRepository.findHeadPosition();
+    }
+
+    /**
+     * Lowest position the log still holds after retention, 0 while it is empty.
+     */
+    public long getTailPosition() {
+        return eventRepository.findTailPosition();
+    }
+
+    public List<EventSubscriberDto> getSubscribers() {
+        long head = eventRepository.findHeadPosition();
+        return subscribers.stream()
+                .map(subscriber -> {
+                    long position = localPositions.getOrDefault(subscriber.name(), 0L);
+                    return new EventSubscriberDto(subscriber.name(), position, Math.max(0, head - position));
+                })
+                .toList();
+    }
+
+    /**
+     * Moves a subscriber's offset, so delivery continues with the event after {@code position}.
+     */
+    public EventSubscriberDto replay(String name, long position) {
+        DomainEventSubscriber subscriber = subscribers.stream()
+                .filter(candidate -> candidate.name().equals(name))
+                .findFirst()
+                .orElseThrow(() -> new ResourceNotFoundException("Event subscriber not found: " + name));
+        localPositions.put(subscriber.name(), position);
+        log.info("Event subscriber {} rewound to position {}", name, position);
+        wakeUp();
+        long head = eventRepository.findHeadPosition();
+        return new EventSubscriberDto(name, position, Math.max(0, head - position));
+    }
+
+    @Scheduled(initialDelayString = "${events.retention-interval:PT1H}",
+            fixedDelayString = "${events.retention-interval:PT1H}")
+    public void purgeDeliveredEvents() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+        Integer deleted = transactionTemplate.execute(status -> {
+            // The head row stays so that new positions keep counting from it
+            long head = eventRepository.findHeadPosition();
+            return eventRepository.deleteDeliveredBefore(cutoff, head - 1);
+        });
+        if (deleted != null && deleted > 0) {
+            log.info("Purged {} delivered events older than {}", deleted, cutoff);
+        }
+    }
+
+    @Override
+    public void start() {
+        if (!enabled) {
+            return;
+        }
+        long head = eventRepository.findHeadPosition();
+        subscribers = subscriberProvider.orderedStream().toList();
+        subscribers.forEach(subscriber -> localPositions.put(subscriber.name(), head));
+
+        running = true;
+        relay = new Thread(this::relayLoop, "domain-event-relay");
+        relay.setDaemon(true);
+        relay.start();
+        log.info("Domain event relay started at position {} for {} subscribers", head, subscribers.size());
+    }
+
+    @Override
+    public void stop() {
+        if (relay == null) {
+            return;
+        }
+        running = false;
+        wakeUp();
+        try {
+            relay.join(pollInterval.toMillis() * 5);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        relay = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void relayLoop() {
+        while (running) {
+            try {
+                wakeUps.tryAcquire(pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+                wakeUps.drainPermits();
+                sequenceCommittedEvents();
+                subscribers.forEach(this::deliver);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Domain event relay failed", e);
+            }
+        }
+    }
+
+    private void sequenceCommittedEvents() {
+        long sequenced;
+        do {
+            try {
+                // Skipped while another instance's sequencer runs; it numbers these events too
+                Long count = transactionTemplate.execute(status -> eventRepository.tryLockForSequencing()
+                        ? eventRepository.sequenceCommitted(batchSize)
+                        : 0L);
+                sequenced = count != null ? count : 0;
+            } catch (DataAccessException e) {
+                // The next pass picks the events up
+                log.debug("Skipping event sequencing: {}", e.getMessage());
+                return;
+            }
+        } while (sequenced == batchSize);
+        warnIfStalled();
+    }
+
+    private void warnIfStalled() {
+        LocalDateTime oldest = eventRepository.findOldestUnsequencedCreatedAt();
+        if (oldest != null && oldest.isBefore(LocalDateTime.now().minus(stallWarning))) {
+            log.warn("Events written since {} are still unsequenced; a long write transaction is holding back delivery",
+                    oldest);
+        }
+    }
+
+    private void deliver(DomainEventSubscriber subscriber) {
+        boolean caughtUp;
+        do {
+            caughtUp = deliverBatch(subscriber);
+        } while (!caughtUp && running);
+    }
+
+    private boolean deliverBatch(DomainEventSubscriber subscriber) {
+        Long position = localPositions.get(subscriber.name());
+        if (position == null) {
+            return true;
+        }
+        Delivery delivery = transactionTemplate.execute(status -> deliverEvents(subscriber, position));
+        if (delivery == null) {
+            return true;
+        }
+        // A concurrent replay wins over the progress of this batch
+        localPositions.replace(subscriber.name(), position, delivery.position());
+        return delivery.caughtUp();
+    }
+
+    private Delivery deliverEvents(DomainEventSubscriber subscriber, long after) {
+        List<DomainEvent> events = eventRepository.findByPositionGreaterThanOrderByPositionAsc(after, Limit.of(batchSize));
+        long position = after;
+        for (DomainEvent event : events) {
+            try {
+                subscriber.onEvent(eventMapper.toDto(event));
+            } catch (RuntimeException e) {
+                log.warn("Event subscriber {} failed on position {}, will retry: {}",
+                        subscriber.name(), event.getPosition(), e.getMessage());
+                return new Delivery(position, true);
+            }
+            position = event.getPosition();
+        }
+        return new Delivery(position, events.size() < batchSize);
+    }
+
+    private record Delivery(long position, boolean caughtUp) {
+    }
+}
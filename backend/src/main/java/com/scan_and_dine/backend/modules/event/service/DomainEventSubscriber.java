@@ -0,0 +1,20 @@
+package com.scan_and_dine.backend.modules.event.service;
+
+import com.scan_and_dine.backend.modules.event.dto.DomainEventDto;
+
+/**
+ * In-process consumer of the order event log. DomainEventRelay calls {@link #onEvent} one event
+ * at a time in position order; an exception stops delivery and the same event is retried on the
+ * next relay pass, so handlers must tolerate seeing an event more than once. Subscribers keep
+ * instance-local state (caches, push to connected clients): each instance starts them at the head
+ * of the log, after they have loaded their state from the database.
+ */
+public interface DomainEventSubscriber {
+
+    /**
+     * Unique name, used to look the subscriber up for a replay.
+     */
+    String name();
+
+    void onEvent(DomainEventDto event);
+}
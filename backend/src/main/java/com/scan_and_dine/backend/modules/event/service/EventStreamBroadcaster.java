@@ -0,0 +1,36 @@
+package com.scan_and_dine.backend.modules.event.service;
+
+import com.scan_and_dine.backend.modules.event.dto.DomainEventDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Pushes every event of the log to WebSocket clients in log order. Clients that reconnect can
+ * fill the gap from GET /events?after=&lt;last seen position&gt;.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class EventStreamBroadcaster implements DomainEventSubscriber {
+
+    public static final String EVENTS_TOPIC = "/topic/events";
+
+    private final SimpMessagingTemplate messagingTemplate;
+
+    @Override
+    public String name() {
+        return "websocket-events";
+    }
+
+    @Override
+    public void onEvent(DomainEventDto event) {
+        try {
+            messagingTemplate.convertAndSend(EVENTS_TOPIC, event);
+        } catch (Exception e) {
+            // Connected clients catch up by position, so a lost push must not stall the stream
+            log.error("Failed to broadcast event {}: {}", event.getPosition(), e.getMessage());
+        }
+    }
+}
@@ -5,16 +5,19 @@ import com.scan_and_dine.backend.modules.menu.dto.MenuResponseDto;
 import com.scan_and_dine.backend.modules.menu.dto.UpdateMenuRequestDto;
 import com.scan_and_dine.backend.modules.menu.entity.Menu;
 import com.scan_and_dine.backend.modules.menu.service.MenuService;
+import com.scan_and_dine.backend.util.http.ConditionalRequests;
+import com.scan_and_dine.backend.util.pagination.CursorPage;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.math.BigDecimal;
 import java.util.List;
@@ -37,7 +40,7 @@ public class MenuController {
     }
 
     @GetMapping(value = {"", "/"})
-    public ResponseEntity<Page<MenuResponseDto>> getAllMenuItems(
+    public ResponseEntity<Slice<MenuResponseDto>> getAllMenuItems(
             @RequestParam(required = false) String name,
             @RequestParam(required = false) Menu.MenuCategory category,
             @RequestParam(required = false) Boolean isAvailable,
@@ -47,7 +50,9 @@ public class MenuController {
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "name") String sortBy,
-            @RequestParam(defaultValue = "asc") String sortDir) {
+            @RequestParam(defaultValue = "asc") String sortDir,
+            @RequestParam(defaultValue = "true") boolean includeTotal,
+            WebRequest request) {
         
         log.info("Fetching menu items with filters and pagination: page={}, size={}, sortBy={}, sortDir={}", 
                 page, size, sortBy, sortDir);
@@ -56,61 +61,79 @@ public class MenuController {
                 Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
         
         Pageable pageable = PageRequest.of(page, size, sort);
-        Page<MenuResponseDto> menuItems = menuService.getAllMenuItems(
-                name, category, isAvailable, isFeatured, minPrice, maxPrice, pageable);
+        return ConditionalRequests.okIfModified(request, menuService.getMenuEntityTag(), () -> includeTotal
+                ? menuService.getAllMenuItems(name, category, isAvailable, isFeatured, minPrice, maxPrice, pageable)
+                : menuService.getMenuItemSlice(name, category, isAvailable, isFeatured, minPrice, maxPrice, pageable));
+    }
+
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPage<MenuResponseDto>> getMenuItemsByCursor(
+            @RequestParam(required = false) String name,
+            @RequestParam(required = false) Menu.MenuCategory category,
+            @RequestParam(required = false) Boolean isAvailable,
+            @RequestParam(required = false) Boolean isFeatured,
+            @RequestParam(required = false) BigDecimal minPrice,
+            @RequestParam(required = false) BigDecimal maxPrice,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "10") int size,
+            WebRequest request) {
         
-        return ResponseEntity.ok(menuItems);
+        log.info("Fetching menu items by cursor: after={}, size={}", after, size);
+        return ConditionalRequests.okIfModified(request, menuService.getMenuEntityTag(), () -> menuService.getMenuItemsAfter(
+                name, category, isAvailable, isFeatured, minPrice, maxPrice, after, size));
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<MenuResponseDto> getMenuItemById(@PathVariable UUID id) {
+    public ResponseEntity<MenuResponseDto> getMenuItemById(@PathVariable UUID id, WebRequest request) {
         log.info("Fetching menu item by ID: {}", id);
-        MenuResponseDto menuItem = menuService.getMenuItemById(id);
-        return ResponseEntity.ok(menuItem);
+        return ConditionalRequests.okIfModified(request, menuService.getMenuItemEntityTag(id),
+                () -> menuService.getMenuItemById(id));
     }
 
     @GetMapping("/name/{name}")
-    public ResponseEntity<MenuResponseDto> getMenuItemByName(@PathVariable String name) {
+    public ResponseEntity<MenuResponseDto> getMenuItemByName(@PathVariable String name, WebRequest request) {
         log.info("Fetching menu item by name: {}", name);
-        MenuResponseDto menuItem = menuService.getMenuItemByName(name);
-        return ResponseEntity.ok(menuItem);
+        return ConditionalRequests.okIfModified(request, menuService.getMenuEntityTag(),
+                () -> menuService.getMenuItemByName(name));
     }
 
     @GetMapping("/category/{category}")
-    public ResponseEntity<List<MenuResponseDto>> getMenuItemsByCategory(@PathVariable Menu.MenuCategory category) {
+    public ResponseEntity<List<MenuResponseDto>> getMenuItemsByCategory(@PathVariable Menu.MenuCategory category,
+                                                                        WebRequest request) {
         log.info("Fetching menu items by category: {}", category);
-        List<MenuResponseDto> menuItems = menuService.getMenuItemsByCategory(category);
-        return ResponseEntity.ok(menuItems);
+        return ConditionalRequests.okIfModified(request, menuService.getMenuEntityTag(),
+                () -> menuService.getMenuItemsByCategory(category));
     }
 
     @GetMapping("/available")
-    public ResponseEntity<List<MenuResponseDto>> getAvailableMenuItems() {
+    public ResponseEntity<List<MenuResponseDto>> getAvailableMenuItems(WebRequest request) {
         log.info("Fetching available menu items");
-        List<MenuResponseDto> menuItems = menuService.getAvailableMenuItems();
-        return ResponseEntity.ok(menuItems);
+        return ConditionalRequests.okIfModified(request, menuService.getMenuEntityTag(),
+                menuService::getAvailableMenuItems);
     }
 
     @GetMapping("/featured")
-    public ResponseEntity<List<MenuResponseDto>> getFeaturedMenuItems() {
+    public ResponseEntity<List<MenuResponseDto>> getFeaturedMenuItems(WebRequest request) {
         log.info("Fetching featured menu items");
-        List<MenuResponseDto> menuItems = menuService.getFeaturedMenuItems();
-        return ResponseEntity.ok(menuItems);
+        return ConditionalRequests.okIfModified(request, menuService.getMenuEntityTag(),
+                menuService::getFeaturedMenuItems);
     }
 
     @GetMapping("/search")
-    public ResponseEntity<List<MenuResponseDto>> searchMenuItems(@RequestParam String query) {
+    public ResponseEntity<List<MenuResponseDto>> searchMenuItems(@RequestParam String query, WebRequest request) {
         log.info("Searching menu items with query: {}", query);
-        List<MenuResponseDto> menuItems = menuService.searchMenuItems(query);
-        return ResponseEntity.ok(menuItems);
+        return ConditionalRequests.okIfModified(request, menuService.getMenuEntityTag(),
+                () -> menuService.searchMenuItems(query));
     }
 
     @GetMapping("/price-range")
     public ResponseEntity<List<MenuResponseDto>> getMenuItemsByPriceRange(
             @RequestParam BigDecimal minPrice, 
-            @RequestParam BigDecimal maxPrice) {
+            @RequestParam BigDecimal maxPrice,
+            WebRequest request) {
         log.info("Fetching menu items with price range: {} - {}", minPrice, maxPrice);
-        List<MenuResponseDto> menuItems = menuService.getMenuItemsByPriceRange(minPrice, maxPrice);
-        return ResponseEntity.ok(menuItems);
+        return ConditionalRequests.okIfModified(request, menuService.getMenuEntityTag(),
+                () -> menuService.getMenuItemsByPriceRange(minPrice, maxPrice));
     }
 
     @PutMapping("/{id}")
@@ -175,10 +198,10 @@ public class MenuController {
     }
 
     @GetMapping("/statistics")
-    public ResponseEntity<Map<String, Object>> getMenuStatistics() {
+    public ResponseEntity<Map<String, Object>> getMenuStatistics(WebRequest request) {
         log.info("Fetching menu statistics");
-        Map<String, Object> statistics = menuService.getMenuStatistics();
-        return ResponseEntity.ok(statistics);
+        return ConditionalRequests.okIfModified(request, menuService.getMenuEntityTag(),
+                menuService::getMenuStatistics);
     }
 
     @DeleteMapping("/{id}")
@@ -18,7 +18,9 @@ import java.util.List;
 import java.util.UUID;
 
 @Entity
-@Table(name = "menu_items")
+@Table(name = "menu_items", indexes = {
+        @Index(name = "idx_menu_items_created_at_id", columnList = "createdAt, id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -91,6 +93,9 @@ public class Menu {
     @Column(name = "updatedAt")
     private LocalDateTime updatedAt;
 
+    @Version
+    private Long version;
+
     public enum MenuCategory {
         APPETIZER, MAIN_COURSE, DESSERT, BEVERAGE, SALAD, SOUP, SIDE_DISH, BREAKFAST, LUNCH, DINNER, SNACK
     }
@@ -18,6 +18,7 @@ public interface MenuMapper {
     @Mapping(target = "reviewCount", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "version", ignore = true)
     Menu toEntity(CreateMenuRequestDto requestDto);
 
     @AfterMapping
@@ -37,6 +38,7 @@ public interface MenuMapper {
     @Mapping(target = "reviewCount", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "version", ignore = true)
     @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
     void updateEntityFromDto(UpdateMenuRequestDto requestDto, @MappingTarget Menu menu);
 } 
\ No newline at end of file
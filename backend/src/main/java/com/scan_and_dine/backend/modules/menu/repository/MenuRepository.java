@@ -1,42 +1,26 @@
 package com.scan_and_dine.backend.modules.menu.repository;
 
 import com.scan_and_dine.backend.modules.menu.entity.Menu;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface MenuRepository extends JpaRepository<Menu, UUID> {
+public interface MenuRepository extends JpaRepository<Menu, UUID>, JpaSpecificationExecutor<Menu> {
 
     Optional<Menu> findByName(String name);
 
     boolean existsByName(String name);
 
-    @Query(value = "SELECT * FROM menu_items m WHERE " +
-           "(:name IS NULL OR UPPER(m.name) ILIKE UPPER('%' || :name || '%')) AND " +
-           "(:category IS NULL OR m.category = :category) AND " +
-           "(:isAvailable IS NULL OR m.is_available = :isAvailable) AND " +
-           "(:isFeatured IS NULL OR m.is_featured = :isFeatured) AND " +
-           "(:minPrice IS NULL OR m.price >= :minPrice) AND " +
-           "(:maxPrice IS NULL OR m.price <= :maxPrice)",
-           nativeQuery = true)
-    Page<Menu> findMenuItemsWithFilters(@Param("name") String name,
-                                       @Param("category") String category,
-                                       @Param("isAvailable") Boolean isAvailable,
-                                       @Param("isFeatured") Boolean isFeatured,
-                                       @Param("minPrice") BigDecimal minPrice,
-                                       @Param("maxPrice") BigDecimal maxPrice,
-                                       Pageable pageable);
-
     List<Menu> findByCategory(Menu.MenuCategory category);
 
     List<Menu> findByIsAvailable(Boolean isAvailable);
@@ -59,13 +43,18 @@ public interface MenuRepository extends JpaRepository<Menu, UUID> {
            nativeQuery = true)
     List<Menu> searchMenuItems(@Param("query") String query);
 
-    @Modifying
-    @Query(value = "UPDATE menu_items SET is_available = :isAvailable, updated_at = CURRENT_TIMESTAMP WHERE id IN :menuIds", nativeQuery = true)
-    int bulkUpdateAvailability(@Param("menuIds") List<UUID> menuIds, @Param("isAvailable") Boolean isAvailable);
+    // Single UPDATE ... RETURNING round trips. Not @Modifying because the statements yield rows.
+    @Query(value = "UPDATE menu_items SET is_available = :isAvailable, updated_at = :now, version = version + 1 " +
+           "WHERE id IN (:menuIds) RETURNING *", nativeQuery = true)
+    List<Menu> updateAvailabilityReturning(@Param("menuIds") Collection<UUID> menuIds,
+                                          @Param("isAvailable") Boolean isAvailable,
+                                          @Param("now") LocalDateTime now);
 
-    @Modifying
-    @Query(value = "UPDATE menu_items SET is_featured = :isFeatured, updated_at = CURRENT_TIMESTAMP WHERE id IN :menuIds", nativeQuery = true)
-    int bulkUpdateFeaturedStatus(@Param("menuIds") List<UUID> menuIds, @Param("isFeatured") Boolean isFeatured);
+    @Query(value = "UPDATE menu_items SET is_featured = :isFeatured, updated_at = :now, version = version + 1 " +
+           "WHERE id IN (:menuIds) RETURNING *", nativeQuery = true)
+    List<Menu> updateFeaturedStatusReturning(@Param("menuIds") Collection<UUID> menuIds,
+                                            @Param("isFeatured") Boolean isFeatured,
+                                            @Param("now") LocalDateTime now);
 
     @Query("SELECT COUNT(m) FROM Menu m WHERE m.category = :category")
     long countByCategory(@Param("category") Menu.MenuCategory category);
@@ -84,4 +73,14 @@ public interface MenuRepository extends JpaRepository<Menu, UUID> {
 
     @Query("SELECT m.category, COUNT(m) FROM Menu m GROUP BY m.category")
     List<Object[]> getMenuItemCountByCategory();
+
+    @Query("SELECT m.version FROM Menu m WHERE m.id = :id")
+    Optional<Long> findVersionById(@Param("id") UUID id);
+
+    // Any insert, delete or update of a menu item changes at least one of these
+    @Query("SELECT COUNT(m), COALESCE(SUM(m.version), 0), MAX(m.updatedAt) FROM Menu m")
+    List<Object[]> getMenuRevision();
+
+    @Query("SELECT m.id, m.category FROM Menu m WHERE m.id IN :ids")
+    List<Object[]> findCategoriesByIdIn(@Param("ids") Collection<UUID> ids);
 } 
\ No newline at end of file
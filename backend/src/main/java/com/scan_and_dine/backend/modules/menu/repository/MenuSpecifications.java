@@ -0,0 +1,53 @@
+package com.scan_and_dine.backend.modules.menu.repository;
+
+import com.scan_and_dine.backend.modules.menu.entity.Menu;
+import com.scan_and_dine.backend.util.query.SortWhitelist;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.util.StringUtils;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.scan_and_dine.backend.util.query.FilterPredicates.containsIgnoreCase;
+
+/**
+ * Builds menu filters that only contain the predicates actually supplied,
+ * so each filter combination maps to one stable SQL shape.
+ */
+public final class MenuSpecifications {
+
+    public static final SortWhitelist SORTABLE = SortWhitelist.of(
+            "name", "price", "category", "rating", "preparationTimeMinutes", "createdAt", "updatedAt");
+
+    private MenuSpecifications() {
+    }
+
+    public static Specification<Menu> withFilters(String name, Menu.MenuCategory category,
+                                                  Boolean isAvailable, Boolean isFeatured,
+                                                  BigDecimal minPrice, BigDecimal maxPrice) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (StringUtils.hasText(name)) {
+                predicates.add(containsIgnoreCase(cb, root.get("name"), name));
+            }
+            if (category != null) {
+                predicates.add(cb.equal(root.get("category"), category));
+            }
+            if (isAvailable != null) {
+                predicates.add(cb.equal(root.get("isAvailable"), isAvailable));
+            }
+            if (isFeatured != null) {
+                predicates.add(cb.equal(root.get("isFeatured"), isFeatured));
+            }
+            if (minPrice != null) {
+                predicates.add(cb.greaterThanOrEqualTo(root.get("price"), minPrice));
+            }
+            if (maxPrice != null) {
+                predicates.add(cb.lessThanOrEqualTo(root.get("price"), maxPrice));
+            }
+            return cb.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+}
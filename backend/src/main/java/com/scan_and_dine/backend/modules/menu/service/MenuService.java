@@ -2,23 +2,37 @@ package com.scan_and_dine.backend.modules.menu.service;
 
 import com.scan_and_dine.backend.exception.DuplicateResourceException;
 import com.scan_and_dine.backend.exception.ResourceNotFoundException;
+import com.scan_and_dine.backend.modules.event.entity.DomainEvent;
+import com.scan_and_dine.backend.modules.event.service.DomainEventRecorder;
 import com.scan_and_dine.backend.modules.menu.dto.CreateMenuRequestDto;
 import com.scan_and_dine.backend.modules.menu.dto.MenuResponseDto;
 import com.scan_and_dine.backend.modules.menu.dto.UpdateMenuRequestDto;
 import com.scan_and_dine.backend.modules.menu.entity.Menu;
 import com.scan_and_dine.backend.modules.menu.mapper.MenuMapper;
 import com.scan_and_dine.backend.modules.menu.repository.MenuRepository;
+import com.scan_and_dine.backend.modules.menu.repository.MenuSpecifications;
+import com.scan_and_dine.backend.modules.order.service.OrderViewProjector;
+import com.scan_and_dine.backend.util.concurrency.RetryOnConflict;
+import com.scan_and_dine.backend.util.http.ConditionalRequests;
+import com.scan_and_dine.backend.util.pagination.CursorPage;
+import com.scan_and_dine.backend.util.pagination.KeysetCursor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.UUID;
 
 @Service
@@ -29,6 +43,8 @@ public class MenuService {
 
     private final MenuRepository menuRepository;
     private final MenuMapper menuMapper;
+    private final DomainEventRecorder eventRecorder;
+    private final OrderViewProjector orderViewProjector;
 
     public MenuResponseDto createMenuItem(CreateMenuRequestDto requestDto) {
         log.info("Creating menu item with name: {}", requestDto.getName());
@@ -41,7 +57,25 @@ public class MenuService {
         Menu savedMenu = menuRepository.save(menu);
         
         log.info("Menu item created successfully with ID: {}", savedMenu.getId());
-        return menuMapper.toResponseDto(savedMenu);
+        return recorded(DomainEvent.Type.CREATED, menuMapper.toResponseDto(savedMenu));
+    }
+
+    /**
+     * ETag of one menu item, from its version alone; null when the item does not exist.
+     */
+    @Transactional(readOnly = true)
+    public String getMenuItemEntityTag(UUID id) {
+        return menuRepository.findVersionById(id).map(ConditionalRequests::entityTag).orElse(null);
+    }
+
+    /**
+     * ETag shared by every menu listing, from the item count, the sum of item versions and the latest
+     * update. Any insert, delete or update of a menu item changes it.
+     */
+    @Transactional(readOnly = true)
+    public String getMenuEntityTag() {
+        Object[] revision = menuRepository.getMenuRevision().get(0);
+        return ConditionalRequests.entityTag("menu", revision[0], revision[1], revision[2]);
     }
 
     @Transactional(readOnly = true)
@@ -65,12 +99,47 @@ public class MenuService {
                                                BigDecimal minPrice, BigDecimal maxPrice,
                                                Pageable pageable) {
         log.info("Fetching menu items with filters and pagination");
-        String categoryStr = category != null ? category.name() : null;
-        return menuRepository.findMenuItemsWithFilters(name, categoryStr, isAvailable, 
-                isFeatured, minPrice, maxPrice, pageable)
+        return menuRepository.findAll(
+                        MenuSpecifications.withFilters(name, category, isAvailable, isFeatured, minPrice, maxPrice),
+                        MenuSpecifications.SORTABLE.apply(pageable))
                 .map(menuMapper::toResponseDto);
     }
 
+    @Transactional(readOnly = true)
+    public Slice<MenuResponseDto> getMenuItemSlice(String name, Menu.MenuCategory category,
+                                                 Boolean isAvailable, Boolean isFeatured,
+                                                 BigDecimal minPrice, BigDecimal maxPrice,
+                                                 Pageable pageable) {
+        log.info("Fetching menu item slice with filters (no total count)");
+        Specification<Menu> spec = MenuSpecifications.withFilters(name, category, isAvailable,
+                isFeatured, minPrice, maxPrice);
+        Pageable sorted = MenuSpecifications.SORTABLE.apply(pageable);
+        return menuRepository.findBy(spec, query -> query.slice(sorted))
+                .map(menuMapper::toResponseDto);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<MenuResponseDto> getMenuItemsAfter(String name, Menu.MenuCategory category,
+                                                        Boolean isAvailable, Boolean isFeatured,
+                                                        BigDecimal minPrice, BigDecimal maxPrice,
+                                                        String after, int size) {
+        log.info("Fetching menu items with filters after cursor: {}", after);
+        Specification<Menu> spec = MenuSpecifications.withFilters(name, category, isAvailable,
+                isFeatured, minPrice, maxPrice);
+        KeysetCursor cursor = KeysetCursor.decode(after);
+        if (cursor != null) {
+            spec = spec.and(cursor.seek());
+        }
+        Pageable lookahead = KeysetCursor.lookahead(size);
+        
+        List<Menu> menuItems = menuRepository.findBy(spec, query -> query
+                .sortBy(lookahead.getSort())
+                .limit(lookahead.getPageSize())
+                .all());
+        return CursorPage.of(menuItems, lookahead,
+                menu -> new KeysetCursor(menu.getCreatedAt(), menu.getId()), menuMapper::toResponseDto);
+    }
+
     @Transactional(readOnly = true)
     public List<MenuResponseDto> getMenuItemsByCategory(Menu.MenuCategory category) {
         log.info("Fetching menu items with category: {}", category);
@@ -116,6 +185,7 @@ public class MenuService {
                 .toList();
     }
 
+    @RetryOnConflict
     public MenuResponseDto updateMenuItem(UUID id, UpdateMenuRequestDto requestDto) {
         log.info("Updating menu item with ID: {}", id);
         
@@ -128,13 +198,20 @@ public class MenuService {
             throw new DuplicateResourceException("Menu item name already exists: " + requestDto.getName());
         }
         
+        String previousName = existingMenu.getName();
+        String previousImageUrl = existingMenu.getImageUrl();
         menuMapper.updateEntityFromDto(requestDto, existingMenu);
         Menu updatedMenu = menuRepository.save(existingMenu);
+        if (!Objects.equals(previousName, updatedMenu.getName())
+                || !Objects.equals(previousImageUrl, updatedMenu.getImageUrl())) {
+            orderViewProjector.menuItemRenamed(updatedMenu.getId(), updatedMenu.getName(), updatedMenu.getImageUrl());
+        }
         
         log.info("Menu item updated successfully with ID: {}", updatedMenu.getId());
-        return menuMapper.toResponseDto(updatedMenu);
+        return recorded(DomainEvent.Type.UPDATED, menuMapper.toResponseDto(updatedMenu));
     }
 
+    @RetryOnConflict
     public MenuResponseDto updateMenuItemAvailability(UUID id, Boolean isAvailable) {
         log.info("Updating menu item availability with ID: {} to: {}", id, isAvailable);
         
@@ -143,9 +220,10 @@ public class MenuService {
         
         Menu updatedMenu = menuRepository.save(menu);
         log.info("Menu item availability updated successfully");
-        return menuMapper.toResponseDto(updatedMenu);
+        return recorded(DomainEvent.Type.UPDATED, menuMapper.toResponseDto(updatedMenu));
     }
 
+    @RetryOnConflict
     public MenuResponseDto updateMenuItemFeaturedStatus(UUID id, Boolean isFeatured) {
         log.info("Updating menu item featured status with ID: {} to: {}", id, isFeatured);
         
@@ -154,42 +232,38 @@ public class MenuService {
         
         Menu updatedMenu = menuRepository.save(menu);
         log.info("Menu item featured status updated successfully");
-        return menuMapper.toResponseDto(updatedMenu);
+        return recorded(DomainEvent.Type.UPDATED, menuMapper.toResponseDto(updatedMenu));
     }
 
     public List<MenuResponseDto> bulkUpdateAvailability(List<UUID> menuIds, Boolean isAvailable) {
         log.info("Bulk updating availability for {} menu items to: {}", menuIds.size(), isAvailable);
         
-        List<Menu> menuItems = menuRepository.findAllById(menuIds);
-        if (menuItems.size() != menuIds.size()) {
+        Set<UUID> uniqueIds = new LinkedHashSet<>(menuIds);
+        List<Menu> updatedMenuItems = menuRepository.updateAvailabilityReturning(uniqueIds, isAvailable, LocalDateTime.now());
+        if (updatedMenuItems.size() != uniqueIds.size()) {
             throw new ResourceNotFoundException("Some menu items not found");
         }
-        
-        menuItems.forEach(menu -> menu.setIsAvailable(isAvailable));
-        
-        List<Menu> updatedMenuItems = menuRepository.saveAll(menuItems);
         log.info("Bulk availability update completed successfully");
         
         return updatedMenuItems.stream()
                 .map(menuMapper::toResponseDto)
+                .map(menu -> recorded(DomainEvent.Type.UPDATED, menu))
                 .toList();
     }
 
     public List<MenuResponseDto> bulkUpdateFeaturedStatus(List<UUID> menuIds, Boolean isFeatured) {
         log.info("Bulk updating featured status for {} menu items to: {}", menuIds.size(), isFeatured);
         
-        List<Menu> menuItems = menuRepository.findAllById(menuIds);
-        if (menuItems.size() != menuIds.size()) {
+        Set<UUID> uniqueIds = new LinkedHashSet<>(menuIds);
+        List<Menu> updatedMenuItems = menuRepository.updateFeaturedStatusReturning(uniqueIds, isFeatured, LocalDateTime.now());
+        if (updatedMenuItems.size() != uniqueIds.size()) {
             throw new ResourceNotFoundException("Some menu items not found");
         }
-        
-        menuItems.forEach(menu -> menu.setIsFeatured(isFeatured));
-        
-        List<Menu> updatedMenuItems = menuRepository.saveAll(menuItems);
         log.info("Bulk featured status update completed successfully");
         
         return updatedMenuItems.stream()
                 .map(menuMapper::toResponseDto)
+                .map(menu -> recorded(DomainEvent.Type.UPDATED, menu))
                 .toList();
     }
 
@@ -219,14 +293,21 @@ public class MenuService {
         return statistics;
     }
 
+    @RetryOnConflict
     public void deleteMenuItem(UUID id) {
         log.info("Deleting menu item with ID: {}", id);
         
         Menu menu = findMenuItemById(id);
         menuRepository.deleteById(id);
+        eventRecorder.record(DomainEvent.AggregateType.MENU, id, DomainEvent.Type.DELETED, null);
         log.info("Menu item deleted successfully with ID: {}", id);
     }
 
+    private MenuResponseDto recorded(DomainEvent.Type type, MenuResponseDto menu) {
+        eventRecorder.record(DomainEvent.AggregateType.MENU, menu.getId(), type, menu);
+        return menu;
+    }
+
     private Menu findMenuItemById(UUID id) {
         return menuRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Menu item not found with ID: " + id));
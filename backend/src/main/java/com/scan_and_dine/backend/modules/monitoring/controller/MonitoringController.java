@@ -0,0 +1,26 @@
+package com.scan_and_dine.backend.modules.monitoring.controller;
+
+import com.scan_and_dine.backend.util.concurrency.ConflictRetryMetrics;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+@RestController
+@RequestMapping("/monitoring")
+@RequiredArgsConstructor
+@Slf4j
+public class MonitoringController {
+
+    private final ConflictRetryMetrics conflictRetryMetrics;
+
+    @GetMapping("/concurrency-conflicts")
+    public ResponseEntity<Map<String, Map<String, Object>>> getConcurrencyConflicts() {
+        log.info("Fetching optimistic locking conflict metrics");
+        return ResponseEntity.ok(conflictRetryMetrics.snapshot());
+    }
+}
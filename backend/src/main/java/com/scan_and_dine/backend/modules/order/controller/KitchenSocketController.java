@@ -0,0 +1,44 @@
+package com.scan_and_dine.backend.modules.order.controller;
+
+import com.scan_and_dine.backend.modules.order.dto.KitchenSnapshotDto;
+import com.scan_and_dine.backend.modules.order.dto.StationTicketDto;
+import com.scan_and_dine.backend.modules.order.service.OrderService;
+import com.scan_and_dine.backend.modules.order.service.StationTicketService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.handler.annotation.DestinationVariable;
+import org.springframework.messaging.simp.annotation.SubscribeMapping;
+import org.springframework.stereotype.Controller;
+
+import java.security.Principal;
+import java.util.List;
+
+@Controller
+@RequiredArgsConstructor
+@Slf4j
+public class KitchenSocketController {
+
+    private final OrderService orderService;
+    private final StationTicketService stationTicketService;
+
+    /**
+     * Replies once to the subscribing session with the current kitchen board and the log position it
+     * reflects; subsequent changes arrive as deltas on /topic/kitchen/orders, and those at or below
+     * that position are already part of the snapshot.
+     */
+    @SubscribeMapping("/kitchen/orders")
+    public KitchenSnapshotDto kitchenSnapshot(Principal principal) {
+        log.info("Sending kitchen snapshot to: {}", principal != null ? principal.getName() : "anonymous");
+        return orderService.getKitchenSnapshot();
+    }
+
+    /**
+     * Replies once with the open tickets of one station; subsequent changes arrive as deltas on
+     * /topic/kitchen/stations/{station}.
+     */
+    @SubscribeMapping("/kitchen/stations/{station}")
+    public List<StationTicketDto> stationSnapshot(@DestinationVariable String station) {
+        log.info("Sending snapshot of station {}", station);
+        return stationTicketService.getTickets(station);
+    }
+}
@@ -1,21 +1,38 @@
 package com.scan_and_dine.backend.modules.order.controller;
 
+import com.scan_and_dine.backend.config.JwtConfig;
+import com.scan_and_dine.backend.modules.order.dto.BulkStatusUpdateResponseDto;
 import com.scan_and_dine.backend.modules.order.dto.CreateOrderRequestDto;
 import com.scan_and_dine.backend.modules.order.dto.OrderResponseDto;
 import com.scan_and_dine.backend.modules.order.dto.UpdateOrderRequestDto;
 import com.scan_and_dine.backend.modules.order.entity.Order;
+import com.scan_and_dine.backend.modules.order.repository.OrderSpecifications;
+import com.scan_and_dine.backend.modules.order.service.OrderExportService;
+import com.scan_and_dine.backend.modules.order.service.OrderIdempotencyService;
+import com.scan_and_dine.backend.modules.order.service.OrderIngestionService;
 import com.scan_and_dine.backend.modules.order.service.OrderService;
+import com.scan_and_dine.backend.modules.order.service.OrderTrackingService;
+import com.scan_and_dine.backend.util.http.ConditionalRequests;
+import com.scan_and_dine.backend.util.pagination.CursorPage;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
 import java.util.UUID;
@@ -26,19 +43,50 @@ import java.util.UUID;
 @Slf4j
 public class OrderController {
 
+    private static final String IDEMPOTENT_REPLAYED_HEADER = "Idempotent-Replayed";
+    private static final String ORDER_TRACKING_TOKEN_HEADER = "Order-Tracking-Token";
+
     private final OrderService orderService;
+    private final OrderIngestionService orderIngestionService;
+    private final OrderIdempotencyService orderIdempotencyService;
+    private final OrderExportService orderExportService;
+    private final OrderTrackingService orderTrackingService;
+    private final JwtConfig jwtConfig;
 
     @PostMapping(value = {"", "/"})
-    public ResponseEntity<OrderResponseDto> createOrder(@Valid @RequestBody CreateOrderRequestDto requestDto) {
+    public ResponseEntity<OrderResponseDto> createOrder(
+            @RequestHeader(value = OrderIdempotencyService.HEADER, required = false) String idempotencyKey,
+            @Valid @RequestBody CreateOrderRequestDto requestDto) {
         log.info("Creating new order for customer: {}", requestDto.getCustomerName());
-        OrderResponseDto order = orderService.createOrder(requestDto);
-        return new ResponseEntity<>(order, HttpStatus.CREATED);
+        if (idempotencyKey == null) {
+            OrderResponseDto order = orderIngestionService.createOrder(requestDto);
+            return ResponseEntity.status(HttpStatus.CREATED)
+                    .header(ORDER_TRACKING_TOKEN_HEADER, jwtConfig.generateOrderTrackingToken(order.getId()))
+                    .body(order);
+        }
+        
+        OrderIdempotencyService.Result result = orderIdempotencyService.createOrder(idempotencyKey, requestDto);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .header(IDEMPOTENT_REPLAYED_HEADER, String.valueOf(result.replayed()))
+                .header(ORDER_TRACKING_TOKEN_HEADER, jwtConfig.generateOrderTrackingToken(result.order().getId()))
+                .body(result.order());
+    }
+
+    // EventSource cannot set headers, so the order-scoped token travels as a query parameter
+    @GetMapping(value = "/{id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter trackOrder(
+            @PathVariable UUID id,
+            @RequestParam String token,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        log.info("Opening tracking stream for order: {}", id);
+        return orderTrackingService.subscribe(id, token, lastEventId);
     }
 
     @GetMapping(value = {"", "/"})
-    public ResponseEntity<Page<OrderResponseDto>> getAllOrders(
+    public ResponseEntity<Slice<OrderResponseDto>> getAllOrders(
             @RequestParam(required = false) String customerName,
             @RequestParam(required = false) String customerPhone,
+            @RequestParam(defaultValue = "CONTAINS") OrderSpecifications.PhoneMatch phoneMatch,
             @RequestParam(required = false) UUID tableId,
             @RequestParam(required = false) Order.OrderStatus status,
             @RequestParam(required = false) Order.OrderPriority priority,
@@ -46,7 +94,8 @@ public class OrderController {
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "createdAt") String sortBy,
-            @RequestParam(defaultValue = "desc") String sortDir) {
+            @RequestParam(defaultValue = "desc") String sortDir,
+            @RequestParam(defaultValue = "true") boolean includeTotal) {
         
         log.info("Fetching orders with filters and pagination: page={}, size={}, sortBy={}, sortDir={}", 
                 page, size, sortBy, sortDir);
@@ -55,17 +104,63 @@ public class OrderController {
                 Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
         
         Pageable pageable = PageRequest.of(page, size, sort);
-        Page<OrderResponseDto> orders = orderService.getAllOrders(
-                customerName, customerPhone, tableId, status, priority, paymentStatus, pageable);
+        Slice<OrderResponseDto> orders = includeTotal
+                ? orderService.getAllOrders(customerName, customerPhone, phoneMatch, tableId, status, priority, paymentStatus, pageable)
+                : orderService.getOrderSlice(customerName, customerPhone, phoneMatch, tableId, status, priority, paymentStatus, pageable);
+        
+        return ResponseEntity.ok(orders);
+    }
+
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPage<OrderResponseDto>> getOrdersByCursor(
+            @RequestParam(required = false) String customerName,
+            @RequestParam(required = false) String customerPhone,
+            @RequestParam(defaultValue = "CONTAINS") OrderSpecifications.PhoneMatch phoneMatch,
+            @RequestParam(required = false) UUID tableId,
+            @RequestParam(required = false) Order.OrderStatus status,
+            @RequestParam(required = false) Order.OrderPriority priority,
+            @RequestParam(required = false) Order.PaymentStatus paymentStatus,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "10") int size) {
+        
+        log.info("Fetching orders by cursor: after={}, size={}", after, size);
+        CursorPage<OrderResponseDto> orders = orderService.getOrdersAfter(
+                customerName, customerPhone, phoneMatch, tableId, status, priority, paymentStatus, after, size);
         
         return ResponseEntity.ok(orders);
     }
 
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportOrders(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "CSV") OrderExportService.Format format,
+            @RequestParam(required = false) String customerName,
+            @RequestParam(required = false) String customerPhone,
+            @RequestParam(defaultValue = "CONTAINS") OrderSpecifications.PhoneMatch phoneMatch,
+            @RequestParam(required = false) UUID tableId,
+            @RequestParam(required = false) Order.OrderStatus status,
+            @RequestParam(required = false) Order.OrderPriority priority,
+            @RequestParam(required = false) Order.PaymentStatus paymentStatus) {
+        
+        log.info("Exporting orders from {} to {} as {}", from, to, format);
+        StreamingResponseBody body = orderExportService.export(from, to, customerName, customerPhone, phoneMatch,
+                tableId, status, priority, paymentStatus, format);
+        
+        return ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(orderExportService.fileName(from, to, format))
+                        .build()
+                        .toString())
+                .body(body);
+    }
+
     @GetMapping("/{id}")
-    public ResponseEntity<OrderResponseDto> getOrderById(@PathVariable UUID id) {
+    public ResponseEntity<OrderResponseDto> getOrderById(@PathVariable UUID id, WebRequest request) {
         log.info("Fetching order by ID: {}", id);
-        OrderResponseDto order = orderService.getOrderById(id);
-        return ResponseEntity.ok(order);
+        return ConditionalRequests.okIfModified(request, orderService.getOrderEntityTag(id),
+                () -> orderService.getOrderById(id));
     }
 
     @GetMapping("/status/{status}")
@@ -118,17 +213,18 @@ public class OrderController {
     }
 
     @PatchMapping("/bulk-status")
-    public ResponseEntity<List<OrderResponseDto>> bulkUpdateStatus(
+    public ResponseEntity<BulkStatusUpdateResponseDto> bulkUpdateStatus(
             @RequestBody Map<String, Object> bulkUpdate) {
         log.info("Bulk updating order status");
         
         @SuppressWarnings("unchecked")
-        List<UUID> orderIds = (List<UUID>) bulkUpdate.get("orderIds");
+        List<String> orderIds = (List<String>) bulkUpdate.get("orderIds");
         Order.OrderStatus status = Order.OrderStatus.valueOf((String) bulkUpdate.get("status"));
         
-        List<OrderResponseDto> orders = orderService.bulkUpdateStatus(orderIds, status);
+        BulkStatusUpdateResponseDto result = orderService.bulkUpdateStatus(
+                orderIds.stream().map(UUID::fromString).toList(), status);
         
-        return ResponseEntity.ok(orders);
+        return ResponseEntity.ok(result);
     }
 
     @GetMapping("/statistics")
@@ -0,0 +1,48 @@
+package com.scan_and_dine.backend.modules.order.controller;
+
+import com.scan_and_dine.backend.modules.order.dto.StationStatusDto;
+import com.scan_and_dine.backend.modules.order.dto.StationTicketDto;
+import com.scan_and_dine.backend.modules.order.entity.StationTicket;
+import com.scan_and_dine.backend.modules.order.service.StationTicketService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/kitchen/stations")
+@RequiredArgsConstructor
+@Slf4j
+public class StationController {
+
+    private final StationTicketService stationTicketService;
+
+    @GetMapping(value = {"", "/"})
+    public ResponseEntity<List<StationStatusDto>> getStations() {
+        log.info("Fetching kitchen station status");
+        return ResponseEntity.ok(stationTicketService.getStations());
+    }
+
+    @GetMapping("/{station}/tickets")
+    public ResponseEntity<List<StationTicketDto>> getTickets(@PathVariable String station) {
+        log.info("Fetching tickets for station: {}", station);
+        return ResponseEntity.ok(stationTicketService.getTickets(station));
+    }
+
+    @PatchMapping("/{station}/tickets/{ticketId}/status")
+    public ResponseEntity<StationTicketDto> updateTicketStatus(
+            @PathVariable String station,
+            @PathVariable UUID ticketId,
+            @RequestBody Map<String, String> statusUpdate) {
+        log.info("Updating ticket status for ID: {} at station: {}", ticketId, station);
+
+        StationTicket.Status status = StationTicket.Status.valueOf(statusUpdate.get("status"));
+        StationTicketDto ticket = stationTicketService.updateTicketStatus(station, ticketId, status);
+
+        return ResponseEntity.ok(ticket);
+    }
+}
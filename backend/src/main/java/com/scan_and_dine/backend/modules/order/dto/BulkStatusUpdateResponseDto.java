@@ -0,0 +1,27 @@
+package com.scan_and_dine.backend.modules.order.dto;
+
+import com.scan_and_dine.backend.modules.order.entity.Order;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkStatusUpdateResponseDto {
+    private List<OrderResponseDto> updated;
+    private List<RejectedOrderDto> rejected;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RejectedOrderDto {
+        private UUID orderId;
+        // Null when the order does not exist
+        private Order.OrderStatus currentStatus;
+        private String reason;
+    }
+}
@@ -0,0 +1,28 @@
+package com.scan_and_dine.backend.modules.order.dto;
+
+import com.scan_and_dine.backend.modules.order.entity.Order;
+import com.scan_and_dine.backend.modules.order.event.OrderChangedEvent;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class KitchenOrderDeltaDto {
+    private OrderChangedEvent.Type type;
+    private UUID orderId;
+    private Order.OrderStatus previousStatus;
+    private Order.OrderStatus status;
+    private Order.OrderPriority priority;
+    private LocalDateTime estimatedReadyTime;
+    private LocalDateTime actualReadyTime;
+    private LocalDateTime occurredAt;
+    // Only populated for CREATED and UPDATED deltas
+    private OrderResponseDto order;
+    // Log position of the change; clients drop deltas at or below the position of their snapshot
+    private Long position;
+}
@@ -0,0 +1,19 @@
+package com.scan_and_dine.backend.modules.order.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class KitchenSnapshotDto {
+    private List<OrderResponseDto> activeOrders;
+    private List<OrderResponseDto> readyOrders;
+    private LocalDateTime generatedAt;
+    // Log position of the last change applied to the board, 0 when none since startup
+    private long position;
+}
@@ -31,6 +31,7 @@ public class OrderResponseDto {
     private Order.PaymentStatus paymentStatus;
     private Order.PaymentMethod paymentMethod;
     private LocalDateTime estimatedReadyTime;
+    private LocalDateTime preparingStartedAt;
     private LocalDateTime actualReadyTime;
     private LocalDateTime servedTime;
     private LocalDateTime createdAt;
@@ -0,0 +1,20 @@
+package com.scan_and_dine.backend.modules.order.dto;
+
+import com.scan_and_dine.backend.modules.order.entity.Order;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderTrackingEventDto {
+    private UUID orderId;
+    private Order.OrderStatus status;
+    private LocalDateTime estimatedReadyTime;
+    private LocalDateTime actualReadyTime;
+    private LocalDateTime updatedAt;
+}
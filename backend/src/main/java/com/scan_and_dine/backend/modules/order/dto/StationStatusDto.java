@@ -0,0 +1,21 @@
+package com.scan_and_dine.backend.modules.order.dto;
+
+import com.scan_and_dine.backend.modules.menu.entity.Menu;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Set;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StationStatusDto {
+    private String station;
+    private Set<Menu.MenuCategory> categories;
+    private int queued;
+    private int preparing;
+    // Creation time of the oldest order still waiting on this station
+    private LocalDateTime oldestOrderAt;
+}
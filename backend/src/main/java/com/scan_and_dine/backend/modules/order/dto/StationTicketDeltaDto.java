@@ -0,0 +1,21 @@
+package com.scan_and_dine.backend.modules.order.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StationTicketDeltaDto {
+    private UUID ticketId;
+    private boolean removed;
+    // Null when removed; a READY ticket leaves the station queue as well
+    private StationTicketDto ticket;
+    private LocalDateTime occurredAt;
+    // Log position of the change; a screen drops deltas at or below one it has already applied
+    private Long position;
+}
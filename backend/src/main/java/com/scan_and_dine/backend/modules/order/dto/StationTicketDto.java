@@ -0,0 +1,30 @@
+package com.scan_and_dine.backend.modules.order.dto;
+
+import com.scan_and_dine.backend.modules.order.entity.Order;
+import com.scan_and_dine.backend.modules.order.entity.StationTicket;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StationTicketDto {
+    private UUID id;
+    private UUID orderId;
+    private String station;
+    private StationTicket.Status status;
+    private Order.OrderPriority priority;
+    private String tableNumber;
+    private String customerName;
+    private String specialInstructions;
+    // Only the order's items this station prepares
+    private List<OrderResponseDto.OrderItemResponseDto> items;
+    private LocalDateTime orderCreatedAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime readyAt;
+}
@@ -8,6 +8,7 @@ import jakarta.validation.constraints.Positive;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 import org.hibernate.annotations.JdbcTypeCode;
@@ -19,11 +20,34 @@ import java.util.List;
 import java.util.UUID;
 
 @Entity
-@jakarta.persistence.Table(name = "orders")
+@jakarta.persistence.Table(name = "orders", indexes = {
+        @Index(name = "idx_orders_created_at_id", columnList = "createdAt, id")
+})
+@NamedEntityGraph(
+        name = Order.DETAILS_GRAPH,
+        attributeNodes = {
+                @NamedAttributeNode("table"),
+                @NamedAttributeNode(value = "orderItems", subgraph = "orderItems.menuItem")
+        },
+        subgraphs = @NamedSubgraph(name = "orderItems.menuItem", attributeNodes = @NamedAttributeNode("menuItem"))
+)
+@SqlResultSetMapping(
+        name = Order.STATUS_TRANSITION_MAPPING,
+        entities = @EntityResult(entityClass = Order.class),
+        columns = {
+                @ColumnResult(name = "previous_status", type = String.class),
+                @ColumnResult(name = "applied", type = Boolean.class)
+        }
+)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 public class Order {
+    // Everything OrderMapper.toResponseDto touches: table, items and each item's menu entry
+    public static final String DETAILS_GRAPH = "Order.details";
+    // Order row plus its previous_status and whether the update applied, see OrderBulkRepository
+    public static final String STATUS_TRANSITION_MAPPING = "Order.statusTransition";
+
     @Id
     @GeneratedValue(strategy = GenerationType.AUTO)
     private UUID id;
@@ -38,6 +62,11 @@ public class Order {
     @NotBlank(message = "Customer phone is required")
     private String customerPhone;
 
+    // Digits-only copy of customerPhone backing the trigram phone search (see schema.sql)
+    @Column(columnDefinition = "VARCHAR(20)")
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    private String customerPhoneDigits;
+
     @Column(columnDefinition = "VARCHAR(255)")
     @JdbcTypeCode(SqlTypes.VARCHAR)
     private String customerEmail;
@@ -48,6 +77,7 @@ public class Order {
     private Table table;
 
     @OneToMany(mappedBy = "order", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
+    @BatchSize(size = 50)
     private List<OrderItem> orderItems;
 
     @Column(nullable = false, precision = 10, scale = 2)
@@ -84,6 +114,9 @@ public class Order {
 
     private LocalDateTime estimatedReadyTime;
 
+    // When the kitchen started the order; with actualReadyTime it gives the observed prep time
+    private LocalDateTime preparingStartedAt;
+
     private LocalDateTime actualReadyTime;
 
     private LocalDateTime servedTime;
@@ -96,6 +129,19 @@ public class Order {
     @Column(name = "updatedAt")
     private LocalDateTime updatedAt;
 
+    @Version
+    private Long version;
+
+    @PrePersist
+    @PreUpdate
+    void normalizeCustomerPhone() {
+        customerPhoneDigits = phoneDigits(customerPhone);
+    }
+
+    public static String phoneDigits(String phone) {
+        return phone == null ? null : phone.replaceAll("\\D", "");
+    }
+
     public enum OrderStatus {
         PENDING, CONFIRMED, PREPARING, READY, SERVED, COMPLETED, CANCELLED
     }
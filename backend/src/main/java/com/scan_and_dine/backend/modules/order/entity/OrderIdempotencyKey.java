@@ -0,0 +1,43 @@
+package com.scan_and_dine.backend.modules.order.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Durable record of an Idempotency-Key used on POST /api/orders. The row is claimed in the same
+ * transaction that creates the order, so a retry either sees the stored response or waits for it.
+ */
+@Entity
+@Table(name = "order_idempotency_keys", indexes = {
+        @Index(name = "idx_order_idempotency_keys_created_at", columnList = "created_at")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderIdempotencyKey {
+    @Id
+    @Column(columnDefinition = "VARCHAR(100)")
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    private String idempotencyKey;
+
+    // SHA-256 of the request body, to reject reuse of a key for a different order
+    @Column(nullable = false, columnDefinition = "VARCHAR(64)")
+    @JdbcTypeCode(SqlTypes.VARCHAR)
+    private String requestHash;
+
+    private UUID orderId;
+
+    // Serialized OrderResponseDto returned to the first request
+    @Column(columnDefinition = "TEXT")
+    private String responseBody;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,64 @@
+package com.scan_and_dine.backend.modules.order.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Read model of an order: the complete OrderResponseDto, with item names and table number,
+ * serialized once per write by OrderViewProjector so reads need no joins or mapping.
+ */
+@Entity
+@Table(name = "order_view", indexes = {
+        @Index(name = "idx_order_view_table_id_created_at", columnList = "tableId, createdAt"),
+        @Index(name = "idx_order_view_status_created_at", columnList = "status, createdAt")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrderView implements Persistable<UUID> {
+    @Id
+    private UUID orderId;
+
+    private UUID tableId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Order.OrderStatus status;
+
+    // Serialized OrderResponseDto
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String document;
+
+    @Column(name = "createdAt")
+    private LocalDateTime createdAt;
+
+    // Bumped by every rewrite of the document, including the native renames; the order's ETag
+    @Version
+    private Long version;
+
+    // Lets save() insert a new view without first selecting it
+    @Transient
+    private boolean created;
+
+    @PostPersist
+    @PostLoad
+    void markPersisted() {
+        created = false;
+    }
+
+    @Override
+    public UUID getId() {
+        return orderId;
+    }
+
+    @Override
+    public boolean isNew() {
+        return created;
+    }
+}
@@ -0,0 +1,65 @@
+package com.scan_and_dine.backend.modules.order.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * The part of an order one kitchen station prepares: the order's items whose menu category routes
+ * to that station. StationRouter creates one ticket per station when the order is placed.
+ */
+@Entity
+@Table(name = "station_tickets", indexes = {
+        @Index(name = "idx_station_tickets_order_id", columnList = "orderId"),
+        @Index(name = "idx_station_tickets_status", columnList = "status")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class StationTicket {
+    @Id
+    @GeneratedValue(strategy = GenerationType.AUTO)
+    private UUID id;
+
+    @Column(nullable = false)
+    private UUID orderId;
+
+    @Column(nullable = false, length = 30)
+    private String station;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Status status = Status.QUEUED;
+
+    @ElementCollection
+    @CollectionTable(name = "station_ticket_items", joinColumns = @JoinColumn(name = "ticket_id"))
+    @Column(name = "order_item_id", nullable = false)
+    private List<UUID> orderItemIds = new ArrayList<>();
+
+    private LocalDateTime startedAt;
+
+    private LocalDateTime readyAt;
+
+    @CreationTimestamp
+    @Column(name = "createdAt", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(name = "updatedAt")
+    private LocalDateTime updatedAt;
+
+    @Version
+    private Long version;
+
+    public enum Status {
+        QUEUED, PREPARING, READY
+    }
+}
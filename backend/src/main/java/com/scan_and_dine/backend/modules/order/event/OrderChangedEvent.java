@@ -0,0 +1,67 @@
+package com.scan_and_dine.backend.modules.order.event;
+
+import com.scan_and_dine.backend.modules.order.dto.OrderResponseDto;
+import com.scan_and_dine.backend.modules.order.entity.Order;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Application event raised by OrderService for every order change.
+ * Carries the already mapped response so listeners never have to reload the order,
+ * plus a snapshot of the counted fields before the change so aggregates can be adjusted.
+ */
+@Getter
+@RequiredArgsConstructor
+public class OrderChangedEvent {
+    private final Type type;
+    private final UUID orderId;
+    private final Snapshot previous;
+    private final OrderResponseDto order;
+    private final LocalDateTime occurredAt = LocalDateTime.now();
+
+    public static OrderChangedEvent created(OrderResponseDto order) {
+        return new OrderChangedEvent(Type.CREATED, order.getId(), null, order);
+    }
+
+    public static OrderChangedEvent updated(OrderResponseDto order, Snapshot previous) {
+        Type type = previous.status() != order.getStatus() ? Type.STATUS_CHANGED : Type.UPDATED;
+        return new OrderChangedEvent(type, order.getId(), previous, order);
+    }
+
+    public static OrderChangedEvent deleted(UUID orderId, Snapshot previous) {
+        return new OrderChangedEvent(Type.DELETED, orderId, previous, null);
+    }
+
+    public Order.OrderStatus getPreviousStatus() {
+        return previous != null ? previous.status() : null;
+    }
+
+    public enum Type {
+        CREATED, UPDATED, STATUS_CHANGED, DELETED
+    }
+
+    /**
+     * The order fields that statistics and sales rollups are keyed on, captured before a change is applied.
+     */
+    public record Snapshot(Order.OrderStatus status, Order.OrderPriority priority,
+                           Order.PaymentStatus paymentStatus, BigDecimal totalAmount,
+                           BigDecimal tax, BigDecimal tip, BigDecimal discount,
+                           LocalDateTime createdAt) {
+
+        public static Snapshot of(Order order) {
+            return new Snapshot(order.getStatus(), order.getPriority(), order.getPaymentStatus(),
+                    order.getTotalAmount(), order.getTax(), order.getTip(), order.getDiscount(),
+                    order.getCreatedAt());
+        }
+
+        public static Snapshot of(OrderResponseDto order) {
+            return new Snapshot(order.getStatus(), order.getPriority(), order.getPaymentStatus(),
+                    order.getTotalAmount(), order.getTax(), order.getTip(), order.getDiscount(),
+                    order.getCreatedAt());
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.scan_and_dine.backend.modules.order.event;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.scan_and_dine.backend.modules.event.dto.DomainEventDto;
+import com.scan_and_dine.backend.modules.event.entity.DomainEvent;
+import com.scan_and_dine.backend.modules.order.dto.OrderResponseDto;
+import com.scan_and_dine.backend.modules.order.dto.StationTicketDto;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * Reads order and station ticket changes off the domain event log, for subscribers that keep that
+ * state in memory and have to see the changes committed on every instance, not only their own.
+ */
+@Component
+@RequiredArgsConstructor
+public class OrderEventReader {
+
+    private final ObjectMapper objectMapper;
+
+    public boolean isOrderEvent(DomainEventDto event) {
+        return event.getAggregateType() == DomainEvent.AggregateType.ORDER;
+    }
+
+    public boolean isStationTicketEvent(DomainEventDto event) {
+        return event.getAggregateType() == DomainEvent.AggregateType.STATION_TICKET;
+    }
+
+    /**
+     * The order after the change, or empty when the event deletes (or archives) it.
+     */
+    public Optional<OrderResponseDto> readOrder(DomainEventDto event) {
+        return read(event, OrderResponseDto.class);
+    }
+
+    /**
+     * The ticket after the change, or empty when it was removed with its cancelled or deleted order.
+     */
+    public Optional<StationTicketDto> readTicket(DomainEventDto event) {
+        return read(event, StationTicketDto.class);
+    }
+
+    private <T> Optional<T> read(DomainEventDto event, Class<T> type) {
+        if (event.getType() == DomainEvent.Type.DELETED || event.getPayload() == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(objectMapper.readValue(event.getPayload(), type));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unable to read " + event.getAggregateType() + " event at position "
+                    + event.getPosition(), e);
+        }
+    }
+}
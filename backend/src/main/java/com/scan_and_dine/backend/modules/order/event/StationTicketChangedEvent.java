@@ -0,0 +1,35 @@
+package com.scan_and_dine.backend.modules.order.event;
+
+import com.scan_and_dine.backend.modules.order.dto.StationTicketDto;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Raised inside the transaction that created, changed or removed a station ticket. DomainEventRecorder
+ * writes it to the event log with the ticket and its order context, so station queues and screens
+ * never reload it.
+ */
+@Getter
+@RequiredArgsConstructor
+public class StationTicketChangedEvent {
+    private final String station;
+    private final UUID ticketId;
+    // Null when the ticket was removed with its cancelled or deleted order
+    private final StationTicketDto ticket;
+    private final LocalDateTime occurredAt = LocalDateTime.now();
+
+    public static StationTicketChangedEvent changed(StationTicketDto ticket) {
+        return new StationTicketChangedEvent(ticket.getStation(), ticket.getId(), ticket);
+    }
+
+    public static StationTicketChangedEvent removed(String station, UUID ticketId) {
+        return new StationTicketChangedEvent(station, ticketId, null);
+    }
+
+    public boolean isRemoved() {
+        return ticket == null;
+    }
+}
@@ -26,6 +26,7 @@ public interface OrderMapper {
     List<OrderResponseDto.OrderItemResponseDto> toOrderItemResponseDtoList(List<OrderItem> orderItems);
 
     @Mapping(target = "id", ignore = true)
+    @Mapping(target = "customerPhoneDigits", ignore = true)
     @Mapping(target = "table", ignore = true)
     @Mapping(target = "orderItems", ignore = true)
     @Mapping(target = "totalAmount", ignore = true)
@@ -37,10 +38,12 @@ public interface OrderMapper {
     @Mapping(target = "paymentStatus", ignore = true)
     @Mapping(target = "paymentMethod", ignore = true)
     @Mapping(target = "estimatedReadyTime", ignore = true)
+    @Mapping(target = "preparingStartedAt", ignore = true)
     @Mapping(target = "actualReadyTime", ignore = true)
     @Mapping(target = "servedTime", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "version", ignore = true)
     Order toEntity(CreateOrderRequestDto requestDto);
 
     @AfterMapping
@@ -55,13 +58,18 @@ public interface OrderMapper {
     @Mapping(target = "customerName", ignore = true)
     @Mapping(target = "customerPhone", ignore = true)
     @Mapping(target = "customerEmail", ignore = true)
+    @Mapping(target = "customerPhoneDigits", ignore = true)
+    // Status changes go through OrderStateMachine
+    @Mapping(target = "status", ignore = true)
     @Mapping(target = "table", ignore = true)
     @Mapping(target = "orderItems", ignore = true)
     @Mapping(target = "totalAmount", ignore = true)
+    @Mapping(target = "preparingStartedAt", ignore = true)
     @Mapping(target = "actualReadyTime", ignore = true)
     @Mapping(target = "servedTime", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "version", ignore = true)
     @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
     void updateEntityFromDto(UpdateOrderRequestDto requestDto, @MappingTarget Order order);
 } 
\ No newline at end of file
@@ -0,0 +1,58 @@
+package com.scan_and_dine.backend.modules.order.repository;
+
+import com.scan_and_dine.backend.modules.order.entity.Order;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Moves finished orders from the hot orders / order_items tables into orders_archive and
+ * order_items_archive, which are range partitioned by month on the order's created_at.
+ * All methods must run inside a transaction.
+ */
+public interface OrderArchiveRepository {
+
+    /**
+     * Transaction-scoped advisory lock, so only one instance archives at a time.
+     */
+    boolean tryLockArchive();
+
+    /**
+     * Adds columns that Hibernate has since added to the hot tables to their archive tables.
+     */
+    void syncArchiveColumns();
+
+    /**
+     * Locks up to {@code limit} of the oldest orders in one of {@code statuses} created before {@code cutoff},
+     * skipping rows another transaction is working on.
+     */
+    List<ArchiveCandidate> lockArchivableOrders(Collection<Order.OrderStatus> statuses, LocalDateTime cutoff,
+                                                int limit);
+
+    /**
+     * Creates the monthly archive partitions for both archive tables if they do not exist yet.
+     */
+    void createArchivePartitions(Collection<YearMonth> months);
+
+    /**
+     * Moves the given orders and their items into the archive and drops their order_view rows.
+     * Returns the number of orders moved.
+     */
+    int moveToArchive(Collection<UUID> orderIds);
+
+    /**
+     * Archived order counts and amounts grouped by status, priority and payment status.
+     */
+    List<ArchivedTotals> getArchivedOrderTotals();
+
+    record ArchiveCandidate(UUID id, LocalDateTime createdAt) {
+    }
+
+    record ArchivedTotals(Order.OrderStatus status, Order.OrderPriority priority,
+                          Order.PaymentStatus paymentStatus, long orders, BigDecimal totalAmount) {
+    }
+}
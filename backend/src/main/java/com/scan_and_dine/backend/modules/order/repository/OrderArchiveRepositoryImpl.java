@@ -0,0 +1,160 @@
+package com.scan_and_dine.backend.modules.order.repository;
+
+import com.scan_and_dine.backend.modules.order.entity.Order;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.query.NativeQuery;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+class OrderArchiveRepositoryImpl implements OrderArchiveRepository {
+
+    private static final DateTimeFormatter PARTITION_SUFFIX = DateTimeFormatter.ofPattern("yyyy_MM");
+
+    private static final String LOCK_ARCHIVE = "SELECT pg_try_advisory_xact_lock(hashtext('orders_archive'))";
+
+    private static final String MISSING_COLUMNS =
+            "SELECT CAST(a.attname AS TEXT), format_type(a.atttypid, a.atttypmod) FROM pg_attribute a " +
+            "WHERE a.attrelid = CAST(:hotTable AS regclass) AND a.attnum > 0 AND NOT a.attisdropped " +
+            "AND NOT EXISTS (SELECT 1 FROM pg_attribute b WHERE b.attrelid = CAST(:archiveTable AS regclass) " +
+            "AND b.attname = a.attname AND NOT b.attisdropped)";
+
+    private static final String COLUMNS_OF =
+            "SELECT CAST(column_name AS TEXT) FROM information_schema.columns " +
+            "WHERE table_schema = current_schema() AND table_name = :table ORDER BY ordinal_position";
+
+    private static final String LOCK_CANDIDATES =
+            "SELECT id, created_at FROM orders WHERE status IN (:statuses) AND created_at < :cutoff " +
+            "ORDER BY created_at LIMIT :limit FOR UPDATE SKIP LOCKED";
+
+    // Items first: order_items references orders. The partition key of an item is its order's created_at.
+    private static final String MOVE_ITEMS =
+            "WITH moved AS (DELETE FROM order_items oi USING orders o " +
+            "WHERE oi.order_id = o.id AND o.id IN (:orderIds) " +
+            "RETURNING oi.*, o.created_at AS order_created_at) " +
+            "INSERT INTO order_items_archive (%1$s, order_created_at) SELECT %1$s, order_created_at FROM moved";
+
+    private static final String MOVE_ORDERS =
+            "WITH moved AS (DELETE FROM orders WHERE id IN (:orderIds) RETURNING *) " +
+            "INSERT INTO orders_archive (%1$s) SELECT %1$s FROM moved";
+
+    private static final String DROP_VIEWS = "DELETE FROM order_view WHERE order_id IN (:orderIds)";
+
+    private static final String DROP_TICKET_ITEMS = "DELETE FROM station_ticket_items WHERE ticket_id IN " +
+            "(SELECT id FROM station_tickets WHERE order_id IN (:orderIds))";
+
+    private static final String DROP_TICKETS = "DELETE FROM station_tickets WHERE order_id IN (:orderIds)";
+
+    private static final String ARCHIVED_TOTALS =
+            "SELECT status, priority, payment_status, COUNT(*), COALESCE(SUM(total_amount), 0) " +
+            "FROM orders_archive GROUP BY status, priority, payment_status";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public boolean tryLockArchive() {
+        return (Boolean) entityManager.createNativeQuery(LOCK_ARCHIVE).getSingleResult();
+    }
+
+    @Override
+    public void syncArchiveColumns() {
+        addMissingColumns("orders", "orders_archive");
+        addMissingColumns("order_items", "order_items_archive");
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<ArchiveCandidate> lockArchivableOrders(Collection<Order.OrderStatus> statuses, LocalDateTime cutoff,
+                                                       int limit) {
+        List<Object[]> rows = entityManager.createNativeQuery(LOCK_CANDIDATES)
+                .unwrap(NativeQuery.class)
+                .addScalar("id", UUID.class)
+                .addScalar("created_at", LocalDateTime.class)
+                .setParameter("statuses", statuses.stream().map(Enum::name).toList())
+                .setParameter("cutoff", cutoff)
+                .setParameter("limit", limit)
+                .getResultList();
+        return rows.stream()
+                .map(row -> new ArchiveCandidate((UUID) row[0], (LocalDateTime) row[1]))
+                .toList();
+    }
+
+    @Override
+    public void createArchivePartitions(Collection<YearMonth> months) {
+        for (YearMonth month : months) {
+            createPartition("orders_archive", month);
+            createPartition("order_items_archive", month);
+        }
+    }
+
+    @Override
+    public int moveToArchive(Collection<UUID> orderIds) {
+        entityManager.createNativeQuery(DROP_VIEWS)
+                .setParameter("orderIds", orderIds)
+                .executeUpdate();
+        entityManager.createNativeQuery(DROP_TICKET_ITEMS)
+                .setParameter("orderIds", orderIds)
+                .executeUpdate();
+        entityManager.createNativeQuery(DROP_TICKETS)
+                .setParameter("orderIds", orderIds)
+                .executeUpdate();
+        entityManager.createNativeQuery(MOVE_ITEMS.formatted(columnList("order_items")))
+                .setParameter("orderIds", orderIds)
+                .executeUpdate();
+        return entityManager.createNativeQuery(MOVE_ORDERS.formatted(columnList("orders")))
+                .setParameter("orderIds", orderIds)
+                .executeUpdate();
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<ArchivedTotals> getArchivedOrderTotals() {
+        List<Object[]> rows = entityManager.createNativeQuery(ARCHIVED_TOTALS).getResultList();
+        return rows.stream()
+                .map(row -> new ArchivedTotals(
+                        Order.OrderStatus.valueOf((String) row[0]),
+                        Order.OrderPriority.valueOf((String) row[1]),
+                        row[2] != null ? Order.PaymentStatus.valueOf((String) row[2]) : null,
+                        ((Number) row[3]).longValue(),
+                        (BigDecimal) row[4]))
+                .toList();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void addMissingColumns(String hotTable, String archiveTable) {
+        List<Object[]> missing = entityManager.createNativeQuery(MISSING_COLUMNS)
+                .setParameter("hotTable", hotTable)
+                .setParameter("archiveTable", archiveTable)
+                .getResultList();
+        for (Object[] column : missing) {
+            entityManager.createNativeQuery("ALTER TABLE " + archiveTable
+                            + " ADD COLUMN IF NOT EXISTS \"" + column[0] + "\" " + column[1])
+                    .executeUpdate();
+        }
+    }
+
+    private void createPartition(String archiveTable, YearMonth month) {
+        entityManager.createNativeQuery("CREATE TABLE IF NOT EXISTS " + archiveTable + "_" + month.format(PARTITION_SUFFIX)
+                        + " PARTITION OF " + archiveTable
+                        + " FOR VALUES FROM ('" + month.atDay(1) + "') TO ('" + month.plusMonths(1).atDay(1) + "')")
+                .executeUpdate();
+    }
+
+    @SuppressWarnings("unchecked")
+    private String columnList(String table) {
+        List<String> columns = entityManager.createNativeQuery(COLUMNS_OF)
+                .setParameter("table", table)
+                .getResultList();
+        return columns.stream()
+                .map(column -> "\"" + column + "\"")
+                .collect(Collectors.joining(", "));
+    }
+}
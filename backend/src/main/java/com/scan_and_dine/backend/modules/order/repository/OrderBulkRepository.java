@@ -0,0 +1,26 @@
+package com.scan_and_dine.backend.modules.order.repository;
+
+import com.scan_and_dine.backend.modules.order.entity.Order;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Set-based order mutations that run as a single UPDATE ... RETURNING statement.
+ */
+public interface OrderBulkRepository {
+
+    /**
+     * Moves every given order currently in one of {@code allowedSources} to {@code status} and stamps
+     * preparingStartedAt / actualReadyTime / servedTime for the same transitions OrderStateMachine does.
+     * Returns each found order with the status it had before the statement ran; orders already in
+     * {@code status} or in a status that may not move to it are returned unchanged with
+     * {@code applied = false}. Missing ids are simply absent from the result.
+     */
+    List<StatusTransition> updateStatusReturning(Collection<UUID> orderIds, Order.OrderStatus status,
+                                                 Collection<Order.OrderStatus> allowedSources);
+
+    record StatusTransition(Order order, Order.OrderStatus previousStatus, boolean applied) {
+    }
+}
@@ -0,0 +1,57 @@
+package com.scan_and_dine.backend.modules.order.repository;
+
+import com.scan_and_dine.backend.modules.order.entity.Order;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+class OrderBulkRepositoryImpl implements OrderBulkRepository {
+
+    // Orders only become READY once every station ticket is, as in OrderService
+    private static final String TICKETS_IN_PROGRESS =
+            "(:status = 'READY' AND EXISTS (SELECT 1 FROM station_tickets t " +
+            "WHERE t.order_id = previous.id AND t.status <> 'READY'))";
+
+    // previous reads (and locks) the rows before the update, so previous.status is the old value.
+    // Orders whose status may not move to :status, already have it, or still have tickets in progress when
+    // :status is READY are left untouched (no version bump) and returned with applied = false.
+    private static final String UPDATE_STATUS_RETURNING =
+            "WITH previous AS (SELECT id, status FROM orders WHERE id IN (:orderIds) FOR UPDATE), " +
+            "updated AS (UPDATE orders o SET status = :status, updated_at = :now, version = o.version + 1, " +
+            "preparing_started_at = CASE WHEN :status = 'PREPARING' THEN :now ELSE o.preparing_started_at END, " +
+            "actual_ready_time = CASE WHEN :status = 'READY' AND previous.status = 'PREPARING' " +
+            "THEN :now ELSE o.actual_ready_time END, " +
+            "served_time = CASE WHEN :status = 'SERVED' AND previous.status = 'READY' " +
+            "THEN :now ELSE o.served_time END " +
+            "FROM previous WHERE o.id = previous.id AND previous.status IN (:allowedSources) " +
+            "AND previous.status <> :status AND NOT " + TICKETS_IN_PROGRESS + " " +
+            "RETURNING o.*, previous.status AS previous_status) " +
+            "SELECT updated.*, true AS applied FROM updated " +
+            "UNION ALL " +
+            "SELECT o.*, previous.status AS previous_status, false AS applied " +
+            "FROM orders o JOIN previous ON previous.id = o.id " +
+            "WHERE previous.status NOT IN (:allowedSources) OR previous.status = :status OR " + TICKETS_IN_PROGRESS;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<StatusTransition> updateStatusReturning(Collection<UUID> orderIds, Order.OrderStatus status,
+                                                        Collection<Order.OrderStatus> allowedSources) {
+        List<Object[]> rows = entityManager.createNativeQuery(UPDATE_STATUS_RETURNING, Order.STATUS_TRANSITION_MAPPING)
+                .setParameter("status", status.name())
+                .setParameter("now", LocalDateTime.now())
+                .setParameter("orderIds", orderIds)
+                .setParameter("allowedSources", allowedSources.stream().map(Enum::name).toList())
+                .getResultList();
+        return rows.stream()
+                .map(row -> new StatusTransition((Order) row[0], Order.OrderStatus.valueOf((String) row[1]),
+                        (Boolean) row[2]))
+                .toList();
+    }
+}
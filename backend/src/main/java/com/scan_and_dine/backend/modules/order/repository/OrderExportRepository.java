@@ -0,0 +1,40 @@
+package com.scan_and_dine.backend.modules.order.repository;
+
+import com.scan_and_dine.backend.modules.order.entity.Order;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * Reads orders for export through a forward-only cursor, one row at a time, from the hot orders table
+ * and orders_archive alike. Must run inside a (read-only) transaction, which the Postgres driver needs
+ * for cursor fetching.
+ */
+public interface OrderExportRepository {
+
+    /**
+     * Passes every order matching {@code filter} and created in [{@code from}, {@code to}) to {@code rows},
+     * oldest first, whether it is still hot or already archived. Rows are scalar projections, so nothing
+     * accumulates in the persistence context and memory stays at one fetch of {@code fetchSize} rows
+     * however many orders match.
+     */
+    void forEachExportRow(ExportFilter filter, LocalDateTime from, LocalDateTime to, int fetchSize,
+                          Consumer<ExportRow> rows);
+
+    /**
+     * The filters of OrderSpecifications.withFilters; null or blank values are not applied.
+     */
+    record ExportFilter(String customerName, String customerPhone, OrderSpecifications.PhoneMatch phoneMatch,
+                        UUID tableId, Order.OrderStatus status, Order.OrderPriority priority,
+                        Order.PaymentStatus paymentStatus) {
+    }
+
+    record ExportRow(UUID id, LocalDateTime createdAt, String tableNumber, String customerName,
+                     String customerPhone, Order.OrderStatus status, Order.OrderPriority priority,
+                     Order.PaymentStatus paymentStatus, Order.PaymentMethod paymentMethod, long itemCount,
+                     BigDecimal totalAmount, BigDecimal tax, BigDecimal tip, BigDecimal discount,
+                     LocalDateTime servedTime) {
+    }
+}
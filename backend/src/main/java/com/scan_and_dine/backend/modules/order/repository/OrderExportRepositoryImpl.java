@@ -0,0 +1,145 @@
+package com.scan_and_dine.backend.modules.order.repository;
+
+import com.scan_and_dine.backend.modules.order.entity.Order;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.query.NativeQuery;
+import org.springframework.util.StringUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static com.scan_and_dine.backend.util.query.FilterPredicates.escapeLike;
+
+class OrderExportRepositoryImpl implements OrderExportRepository {
+
+    // Explicit columns: orders_archive gets columns added to orders appended, so the two differ in column order
+    private static final String COLUMNS = "o.id, o.created_at, o.table_id, o.customer_name, o.customer_phone, " +
+            "o.status, o.priority, o.payment_status, o.payment_method, o.total_amount, o.tax, o.tip, o.discount, " +
+            "o.served_time";
+
+    private static final String HOT_ITEM_COUNT =
+            "(SELECT COUNT(*) FROM order_items i WHERE i.order_id = o.id)";
+
+    // The partition key lets each count read a single item partition
+    private static final String ARCHIVED_ITEM_COUNT =
+            "(SELECT COUNT(*) FROM order_items_archive i WHERE i.order_id = o.id AND i.order_created_at = o.created_at)";
+
+    // Both branches filter before the union, so each uses its own indexes and the archive prunes partitions
+    private static final String EXPORT_ROWS =
+            "SELECT u.id, u.created_at, t.number, u.customer_name, u.customer_phone, u.status, u.priority, " +
+            "u.payment_status, u.payment_method, u.item_count, u.total_amount, u.tax, u.tip, u.discount, u.served_time " +
+            "FROM (SELECT " + COLUMNS + ", " + HOT_ITEM_COUNT + " AS item_count FROM orders o WHERE %1$s " +
+            "UNION ALL SELECT " + COLUMNS + ", " + ARCHIVED_ITEM_COUNT + " AS item_count FROM orders_archive o WHERE %1$s) u " +
+            "LEFT JOIN tables t ON t.id = u.table_id " +
+            "ORDER BY u.created_at, u.id";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void forEachExportRow(ExportFilter filter, LocalDateTime from, LocalDateTime to, int fetchSize,
+                                 Consumer<ExportRow> rows) {
+        Map<String, Object> parameters = new HashMap<>();
+        String where = where(filter, parameters);
+        parameters.put("from", from);
+        parameters.put("to", to);
+
+        NativeQuery<Object[]> cursor = entityManager.createNativeQuery(String.format(EXPORT_ROWS, where))
+                .unwrap(NativeQuery.class)
+                .addScalar("id", UUID.class)
+                .addScalar("created_at", LocalDateTime.class)
+                .addScalar("number", String.class)
+                .addScalar("customer_name", String.class)
+                .addScalar("customer_phone", String.class)
+                .addScalar("status", String.class)
+                .addScalar("priority", String.class)
+                .addScalar("payment_status", String.class)
+                .addScalar("payment_method", String.class)
+                .addScalar("item_count", Long.class)
+                .addScalar("total_amount", BigDecimal.class)
+                .addScalar("tax", BigDecimal.class)
+                .addScalar("tip", BigDecimal.class)
+                .addScalar("discount", BigDecimal.class)
+                .addScalar("served_time", LocalDateTime.class);
+        parameters.forEach(cursor::setParameter);
+        cursor.setFetchSize(fetchSize);
+        cursor.setReadOnly(true);
+        try (ScrollableResults<Object[]> results = cursor.scroll(ScrollMode.FORWARD_ONLY)) {
+            while (results.next()) {
+                rows.accept(toRow(results.get()));
+            }
+        }
+    }
+
+    // Same predicates as OrderSpecifications.withFilters, only those supplied, on columns both tables share
+    private static String where(ExportFilter filter, Map<String, Object> parameters) {
+        List<String> predicates = new ArrayList<>();
+        predicates.add("o.created_at >= :from AND o.created_at < :to");
+        if (StringUtils.hasText(filter.customerName())) {
+            predicates.add("upper(o.customer_name) LIKE :customerName ESCAPE '\\'");
+            parameters.put("customerName", "%" + escapeLike(filter.customerName().toUpperCase()) + "%");
+        }
+        if (StringUtils.hasText(filter.customerPhone())) {
+            String digits = Order.phoneDigits(filter.customerPhone());
+            if (digits.isEmpty()) {
+                predicates.add("upper(o.customer_phone) LIKE :customerPhone ESCAPE '\\'");
+                parameters.put("customerPhone", "%" + escapeLike(filter.customerPhone().toUpperCase()) + "%");
+            } else {
+                predicates.add("o.customer_phone_digits LIKE :customerPhone");
+                parameters.put("customerPhone", filter.phoneMatch() == OrderSpecifications.PhoneMatch.SUFFIX
+                        ? "%" + digits : "%" + digits + "%");
+            }
+        }
+        if (filter.tableId() != null) {
+            predicates.add("o.table_id = :tableId");
+            parameters.put("tableId", filter.tableId());
+        }
+        if (filter.status() != null) {
+            predicates.add("o.status = :status");
+            parameters.put("status", filter.status().name());
+        }
+        if (filter.priority() != null) {
+            predicates.add("o.priority = :priority");
+            parameters.put("priority", filter.priority().name());
+        }
+        if (filter.paymentStatus() != null) {
+            predicates.add("o.payment_status = :paymentStatus");
+            parameters.put("paymentStatus", filter.paymentStatus().name());
+        }
+        return String.join(" AND ", predicates);
+    }
+
+    private static ExportRow toRow(Object[] row) {
+        Long itemCount = (Long) row[9];
+        return new ExportRow(
+                (UUID) row[0],
+                (LocalDateTime) row[1],
+                (String) row[2],
+                (String) row[3],
+                (String) row[4],
+                enumOf(Order.OrderStatus.class, row[5]),
+                enumOf(Order.OrderPriority.class, row[6]),
+                enumOf(Order.PaymentStatus.class, row[7]),
+                enumOf(Order.PaymentMethod.class, row[8]),
+                itemCount != null ? itemCount : 0,
+                (BigDecimal) row[10],
+                (BigDecimal) row[11],
+                (BigDecimal) row[12],
+                (BigDecimal) row[13],
+                (LocalDateTime) row[14]);
+    }
+
+    private static <E extends Enum<E>> E enumOf(Class<E> type, Object value) {
+        return value != null ? Enum.valueOf(type, (String) value) : null;
+    }
+}
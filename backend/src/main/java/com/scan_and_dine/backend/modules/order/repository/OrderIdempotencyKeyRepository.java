@@ -0,0 +1,38 @@
+package com.scan_and_dine.backend.modules.order.repository;
+
+import com.scan_and_dine.backend.modules.order.entity.OrderIdempotencyKey;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Repository
+public interface OrderIdempotencyKeyRepository extends JpaRepository<OrderIdempotencyKey, String> {
+
+    // Every claimer takes this lock first, so it fails instead of blocking while another transaction,
+    // possibly on another instance, holds an uncommitted claim for the same key
+    @Query(value = "SELECT pg_try_advisory_xact_lock(hashtext('order_idempotency_keys'), hashtext(:key))",
+           nativeQuery = true)
+    boolean tryLockKey(@Param("key") String key);
+
+    // Returns 0 when the key already exists. Call tryLockKey first so a concurrent claim cannot block the insert.
+    @Modifying
+    @Query(value = "INSERT INTO order_idempotency_keys (idempotency_key, request_hash, created_at) " +
+           "VALUES (:key, :requestHash, :createdAt) ON CONFLICT (idempotency_key) DO NOTHING", nativeQuery = true)
+    int claim(@Param("key") String key, @Param("requestHash") String requestHash,
+              @Param("createdAt") LocalDateTime createdAt);
+
+    @Modifying
+    @Query("UPDATE OrderIdempotencyKey k SET k.orderId = :orderId, k.responseBody = :responseBody " +
+           "WHERE k.idempotencyKey = :key")
+    int complete(@Param("key") String key, @Param("orderId") UUID orderId,
+                 @Param("responseBody") String responseBody);
+
+    @Modifying
+    @Query("DELETE FROM OrderIdempotencyKey k WHERE k.createdAt < :cutoff")
+    int deleteCreatedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
@@ -1,45 +1,36 @@
 package com.scan_and_dine.backend.modules.order.repository;
 
 import com.scan_and_dine.backend.modules.order.entity.Order;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface OrderRepository extends JpaRepository<Order, UUID> {
-
-    @Query(value = "SELECT * FROM orders o WHERE " +
-           "(:customerName IS NULL OR UPPER(o.customer_name) ILIKE UPPER('%' || :customerName || '%')) AND " +
-           "(:customerPhone IS NULL OR o.customer_phone ILIKE '%' || :customerPhone || '%') AND " +
-           "(:tableId IS NULL OR o.table_id = :tableId) AND " +
-           "(:status IS NULL OR o.status = :status) AND " +
-           "(:priority IS NULL OR o.priority = :priority) AND " +
-           "(:paymentStatus IS NULL OR o.payment_status = :paymentStatus)",
-           nativeQuery = true)
-    Page<Order> findOrdersWithFilters(@Param("customerName") String customerName,
-                                     @Param("customerPhone") String customerPhone,
-                                     @Param("tableId") UUID tableId,
-                                     @Param("status") String status,
-                                     @Param("priority") String priority,
-                                     @Param("paymentStatus") String paymentStatus,
-                                     Pageable pageable);
+public interface OrderRepository extends JpaRepository<Order, UUID>, JpaSpecificationExecutor<Order>,
+        OrderBulkRepository, OrderArchiveRepository, OrderExportRepository {
 
+    @EntityGraph(Order.DETAILS_GRAPH)
     List<Order> findByStatus(Order.OrderStatus status);
 
+    @EntityGraph(Order.DETAILS_GRAPH)
     List<Order> findByStatusIn(List<Order.OrderStatus> statuses);
 
     List<Order> findByPriority(Order.OrderPriority priority);
 
     List<Order> findByPaymentStatus(Order.PaymentStatus paymentStatus);
 
+    @EntityGraph(Order.DETAILS_GRAPH)
     @Query("SELECT o FROM Order o WHERE o.table.id = :tableId")
     List<Order> findByTableId(@Param("tableId") UUID tableId);
 
@@ -49,22 +40,30 @@ public interface OrderRepository extends JpaRepository<Order, UUID> {
     @Query("SELECT o FROM Order o WHERE o.customerPhone = :customerPhone")
     List<Order> findByCustomerPhone(@Param("customerPhone") String customerPhone);
 
-    @Query("SELECT o FROM Order o WHERE o.createdAt BETWEEN :startDate AND :endDate")
-    List<Order> findByDateRange(@Param("startDate") LocalDateTime startDate, 
-                               @Param("endDate") LocalDateTime endDate);
+    @EntityGraph(Order.DETAILS_GRAPH)
+    @Query("SELECT o FROM Order o WHERE o.id = :id")
+    Optional<Order> findWithDetailsById(@Param("id") UUID id);
 
-    @Query("SELECT o FROM Order o WHERE o.status IN ('PENDING', 'CONFIRMED', 'PREPARING') ORDER BY o.priority DESC, o.createdAt ASC")
+    @EntityGraph(Order.DETAILS_GRAPH)
+    @Query("SELECT o FROM Order o WHERE o.id IN :ids")
+    List<Order> findWithDetailsByIdIn(@Param("ids") Collection<UUID> ids);
+
+    @EntityGraph(Order.DETAILS_GRAPH)
+    @Query("SELECT o FROM Order o WHERE o.status IN ('PENDING', 'CONFIRMED', 'PREPARING') " +
+           "ORDER BY CASE o.priority WHEN 'URGENT' THEN 3 WHEN 'HIGH' THEN 2 WHEN 'MEDIUM' THEN 1 ELSE 0 END DESC, o.createdAt ASC")
     List<Order> findActiveOrdersForKitchen();
 
+    @EntityGraph(Order.DETAILS_GRAPH)
     @Query("SELECT o FROM Order o WHERE o.status = 'READY' ORDER BY o.actualReadyTime ASC")
     List<Order> findReadyOrders();
 
-    @Modifying
-    @Query(value = "UPDATE orders SET status = :status, updated_at = CURRENT_TIMESTAMP WHERE id IN :orderIds", nativeQuery = true)
-    int bulkUpdateStatus(@Param("orderIds") List<UUID> orderIds, @Param("status") String status);
+    @EntityGraph(Order.DETAILS_GRAPH)
+    @Query("SELECT o FROM Order o WHERE o.actualReadyTime >= :since AND o.preparingStartedAt IS NOT NULL " +
+           "ORDER BY o.actualReadyTime ASC")
+    List<Order> findPreparedSince(@Param("since") LocalDateTime since);
 
     @Modifying
-    @Query(value = "UPDATE orders SET priority = :priority, updated_at = CURRENT_TIMESTAMP WHERE id IN :orderIds", nativeQuery = true)
+    @Query(value = "UPDATE orders SET priority = :priority, updated_at = CURRENT_TIMESTAMP, version = version + 1 WHERE id IN :orderIds", nativeQuery = true)
     int bulkUpdatePriority(@Param("orderIds") List<UUID> orderIds, @Param("priority") String priority);
 
     @Query("SELECT COUNT(o) FROM Order o WHERE o.status = :status")
@@ -79,15 +78,25 @@ public interface OrderRepository extends JpaRepository<Order, UUID> {
     @Query("SELECT COUNT(o) FROM Order o WHERE o.createdAt >= :startDate")
     long countOrdersSince(@Param("startDate") LocalDateTime startDate);
 
-    @Query("SELECT SUM(o.totalAmount) FROM Order o WHERE o.paymentStatus = 'PAID' AND o.createdAt >= :startDate")
-    Double getTotalRevenueSince(@Param("startDate") LocalDateTime startDate);
+    @Query("SELECT COALESCE(SUM(o.totalAmount), 0) FROM Order o WHERE o.paymentStatus = 'PAID' AND o.createdAt >= :startDate")
+    BigDecimal getTotalRevenueSince(@Param("startDate") LocalDateTime startDate);
 
-    @Query("SELECT AVG(o.totalAmount) FROM Order o WHERE o.paymentStatus = 'PAID'")
-    Double getAverageOrderValue();
+    @Query("SELECT COALESCE(SUM(o.totalAmount), 0) FROM Order o WHERE o.paymentStatus = 'PAID'")
+    BigDecimal getTotalPaidRevenue();
 
     @Query("SELECT o.status, COUNT(o) FROM Order o GROUP BY o.status")
     List<Object[]> getOrderCountByStatus();
 
     @Query("SELECT o.priority, COUNT(o) FROM Order o GROUP BY o.priority")
     List<Object[]> getOrderCountByPriority();
+
+    // The fields OrderChangedEvent.Snapshot holds, for the orders in the given statuses
+    @Query("SELECT o.id, o.status, o.priority, o.paymentStatus, o.totalAmount, o.tax, o.tip, o.discount, o.createdAt " +
+           "FROM Order o WHERE o.status IN :statuses")
+    List<Object[]> findSnapshotsByStatusIn(@Param("statuses") Collection<Order.OrderStatus> statuses);
+
+    // Ordered lines of recent orders as (order createdAt, menu item id, category, quantity)
+    @Query("SELECT o.createdAt, m.id, m.category, i.quantity FROM OrderItem i JOIN i.order o JOIN i.menuItem m " +
+           "WHERE o.createdAt >= :since AND o.status <> 'CANCELLED'")
+    List<Object[]> findItemLinesSince(@Param("since") LocalDateTime since);
 } 
\ No newline at end of file
@@ -0,0 +1,75 @@
+package com.scan_and_dine.backend.modules.order.repository;
+
+import com.scan_and_dine.backend.modules.order.entity.Order;
+import com.scan_and_dine.backend.util.query.SortWhitelist;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static com.scan_and_dine.backend.util.query.FilterPredicates.containsIgnoreCase;
+
+/**
+ * Builds order filters that only contain the predicates actually supplied,
+ * so each filter combination maps to one stable SQL shape. Name and phone filters
+ * are served by the trigram indexes created in schema.sql.
+ */
+public final class OrderSpecifications {
+
+    public static final SortWhitelist SORTABLE = SortWhitelist.of(
+            "createdAt", "updatedAt", "totalAmount", "status", "priority",
+            "paymentStatus", "customerName", "estimatedReadyTime");
+
+    /**
+     * How a customerPhone filter is matched. SUFFIX suits front-desk lookups by the last few digits.
+     */
+    public enum PhoneMatch {
+        CONTAINS, SUFFIX
+    }
+
+    private OrderSpecifications() {
+    }
+
+    public static Specification<Order> withFilters(String customerName, String customerPhone, PhoneMatch phoneMatch,
+                                                   UUID tableId, Order.OrderStatus status,
+                                                   Order.OrderPriority priority, Order.PaymentStatus paymentStatus) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (StringUtils.hasText(customerName)) {
+                predicates.add(containsIgnoreCase(cb, root.get("customerName"), customerName));
+            }
+            if (StringUtils.hasText(customerPhone)) {
+                predicates.add(phoneMatches(root, cb, customerPhone, phoneMatch));
+            }
+            if (tableId != null) {
+                predicates.add(cb.equal(root.get("table").get("id"), tableId));
+            }
+            if (status != null) {
+                predicates.add(cb.equal(root.get("status"), status));
+            }
+            if (priority != null) {
+                predicates.add(cb.equal(root.get("priority"), priority));
+            }
+            if (paymentStatus != null) {
+                predicates.add(cb.equal(root.get("paymentStatus"), paymentStatus));
+            }
+            return cb.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+
+    // Matches on the digits-only column so formatting differences ("+880 17-1234") don't matter
+    private static Predicate phoneMatches(Root<Order> root, CriteriaBuilder cb, String customerPhone,
+                                          PhoneMatch phoneMatch) {
+        String digits = Order.phoneDigits(customerPhone);
+        if (digits.isEmpty()) {
+            return containsIgnoreCase(cb, root.get("customerPhone"), customerPhone);
+        }
+        String pattern = phoneMatch == PhoneMatch.SUFFIX ? "%" + digits : "%" + digits + "%";
+        return cb.like(root.get("customerPhoneDigits"), pattern);
+    }
+}
@@ -0,0 +1,55 @@
+package com.scan_and_dine.backend.modules.order.repository;
+
+import com.scan_and_dine.backend.modules.order.entity.Order;
+import com.scan_and_dine.backend.modules.order.entity.OrderView;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface OrderViewRepository extends JpaRepository<OrderView, UUID> {
+
+    @Query("SELECT v.document FROM OrderView v WHERE v.orderId = :orderId")
+    List<String> findDocumentById(@Param("orderId") UUID orderId);
+
+    @Query("SELECT v.document FROM OrderView v WHERE v.orderId IN :orderIds")
+    List<String> findDocumentsByIdIn(@Param("orderIds") Collection<UUID> orderIds);
+
+    @Query("SELECT v.document FROM OrderView v WHERE v.tableId = :tableId ORDER BY v.createdAt")
+    List<String> findDocumentsByTableId(@Param("tableId") UUID tableId);
+
+    @Query("SELECT v.document FROM OrderView v WHERE v.status IN :statuses ORDER BY v.createdAt")
+    List<String> findDocumentsByStatusIn(@Param("statuses") Collection<Order.OrderStatus> statuses);
+
+    @Query(value = "SELECT o.id FROM orders o " +
+           "WHERE NOT EXISTS (SELECT 1 FROM order_view v WHERE v.order_id = o.id) LIMIT :limit", nativeQuery = true)
+    List<UUID> findOrderIdsWithoutView(@Param("limit") int limit);
+
+    @Query("SELECT v.version FROM OrderView v WHERE v.orderId = :orderId")
+    Optional<Long> findVersionByOrderId(@Param("orderId") UUID orderId);
+
+    // The views below denormalize names from tables and menu_items; keep them current when those change
+    @Modifying
+    @Query(value = "UPDATE order_view SET document = CAST(jsonb_set(CAST(document AS jsonb), '{tableNumber}', " +
+           "to_jsonb(CAST(:tableNumber AS text))) AS text), version = version + 1 WHERE table_id = :tableId", nativeQuery = true)
+    int updateTableNumber(@Param("tableId") UUID tableId, @Param("tableNumber") String tableNumber);
+
+    @Modifying
+    @Query(value = "UPDATE order_view v SET document = CAST(jsonb_set(CAST(v.document AS jsonb), '{orderItems}', " +
+           "(SELECT jsonb_agg(CASE WHEN e.item ->> 'menuItemId' = CAST(:menuItemId AS text) " +
+           "THEN e.item || jsonb_build_object('menuItemName', CAST(:name AS text), 'menuItemImageUrl', CAST(:imageUrl AS text)) " +
+           "ELSE e.item END ORDER BY e.n) " +
+           "FROM jsonb_array_elements(CAST(v.document AS jsonb) -> 'orderItems') WITH ORDINALITY AS e(item, n))) AS text), " +
+           "version = v.version + 1 " +
+           "WHERE v.order_id IN (SELECT oi.order_id FROM order_items oi WHERE oi.menu_item_id = :menuItemId)",
+           nativeQuery = true)
+    int updateMenuItem(@Param("menuItemId") UUID menuItemId, @Param("name") String name,
+                       @Param("imageUrl") String imageUrl);
+}
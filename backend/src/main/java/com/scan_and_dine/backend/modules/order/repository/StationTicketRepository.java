@@ -0,0 +1,29 @@
+package com.scan_and_dine.backend.modules.order.repository;
+
+import com.scan_and_dine.backend.modules.order.entity.StationTicket;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface StationTicketRepository extends JpaRepository<StationTicket, UUID> {
+
+    List<StationTicket> findByOrderId(UUID orderId);
+
+    // Locks every ticket of the order in id order, so station updates of one order run one at a time
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT t FROM StationTicket t WHERE t.orderId = :orderId ORDER BY t.id")
+    List<StationTicket> lockByOrderId(@Param("orderId") UUID orderId);
+
+    List<StationTicket> findByStatusIn(Collection<StationTicket.Status> statuses);
+
+    @Query("SELECT DISTINCT t.orderId FROM StationTicket t WHERE t.orderId IN :orderIds")
+    List<UUID> findOrderIdsWithTickets(@Param("orderIds") Collection<UUID> orderIds);
+}
@@ -0,0 +1,63 @@
+package com.scan_and_dine.backend.modules.order.service;
+
+import com.scan_and_dine.backend.modules.event.dto.DomainEventDto;
+import com.scan_and_dine.backend.modules.order.dto.KitchenOrderDeltaDto;
+import com.scan_and_dine.backend.modules.order.dto.OrderResponseDto;
+import com.scan_and_dine.backend.modules.order.entity.Order;
+import com.scan_and_dine.backend.modules.order.event.OrderChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Pushes kitchen board changes to /topic/kitchen/orders. KitchenQueue calls it once it has applied an
+ * order event from the log, so every instance pushes every change, and each delta carries the log
+ * position that the board snapshot is compared against.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class KitchenBroadcaster {
+
+    public static final String KITCHEN_ORDERS_TOPIC = "/topic/kitchen/orders";
+
+    private final SimpMessagingTemplate messagingTemplate;
+
+    /**
+     * Sends one order change; {@code previousStatus} is the status the board held before, null when the
+     * order was not on it, and {@code order} is null when the order was deleted.
+     */
+    public void broadcast(DomainEventDto event, Order.OrderStatus previousStatus, OrderResponseDto order) {
+        KitchenOrderDeltaDto delta = toDelta(event, previousStatus, order);
+        log.debug("Broadcasting {} delta for order {}", delta.getType(), event.getAggregateId());
+        try {
+            messagingTemplate.convertAndSend(KITCHEN_ORDERS_TOPIC, delta);
+        } catch (Exception e) {
+            // Boards re-subscribe for a fresh snapshot, so a lost push must not stall the log
+            log.error("Failed to broadcast kitchen delta for order {}: {}", event.getAggregateId(), e.getMessage());
+        }
+    }
+
+    private KitchenOrderDeltaDto toDelta(DomainEventDto event, Order.OrderStatus previousStatus,
+                                         OrderResponseDto order) {
+        KitchenOrderDeltaDto delta = new KitchenOrderDeltaDto();
+        delta.setType(OrderChangedEvent.Type.valueOf(event.getType().name()));
+        delta.setOrderId(event.getAggregateId());
+        delta.setPreviousStatus(previousStatus);
+        delta.setOccurredAt(event.getCreatedAt());
+        delta.setPosition(event.getPosition());
+
+        if (order != null) {
+            delta.setStatus(order.getStatus());
+            delta.setPriority(order.getPriority());
+            delta.setEstimatedReadyTime(order.getEstimatedReadyTime());
+            delta.setActualReadyTime(order.getActualReadyTime());
+            // Status changes only ship the changed fields; new or edited orders ship in full
+            if (delta.getType() != OrderChangedEvent.Type.STATUS_CHANGED) {
+                delta.setOrder(order);
+            }
+        }
+        return delta;
+    }
+}
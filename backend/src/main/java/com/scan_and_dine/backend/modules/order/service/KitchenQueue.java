@@ -0,0 +1,130 @@
+package com.scan_and_dine.backend.modules.order.service;
+
+import com.scan_and_dine.backend.modules.event.dto.DomainEventDto;
+import com.scan_and_dine.backend.modules.event.service.DomainEventSubscriber;
+import com.scan_and_dine.backend.modules.order.dto.KitchenSnapshotDto;
+import com.scan_and_dine.backend.modules.order.dto.OrderResponseDto;
+import com.scan_and_dine.backend.modules.order.entity.Order;
+import com.scan_and_dine.backend.modules.order.event.OrderEventReader;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * In-process view of the kitchen board. Active orders are ordered by priority (highest first)
+ * then creation time; ready orders by the time they became ready. Reads never touch the database.
+ * Writes are applied from the domain event log, so changes made on other instances show up too, and the
+ * whole queue is rebuilt from order_view at startup. Applying an event again leaves the queue unchanged.
+ * Every applied event is handed to KitchenBroadcaster, so board deltas never run ahead of the snapshot.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class KitchenQueue implements DomainEventSubscriber {
+
+    public static final Set<Order.OrderStatus> ACTIVE_STATUSES =
+            EnumSet.of(Order.OrderStatus.PENDING, Order.OrderStatus.CONFIRMED, Order.OrderStatus.PREPARING);
+
+    private static final Comparator<LocalDateTime> NULLS_LAST = Comparator.nullsLast(Comparator.naturalOrder());
+
+    private static final Comparator<QueueKey> ACTIVE_ORDER = Comparator
+            .comparingInt(QueueKey::priorityOrdinal).reversed()
+            .thenComparing(QueueKey::time, NULLS_LAST)
+            .thenComparing(QueueKey::orderId);
+
+    private static final Comparator<QueueKey> READY_ORDER = Comparator
+            .comparing(QueueKey::time, NULLS_LAST)
+            .thenComparing(QueueKey::orderId);
+
+    private final OrderViewProjector orderViewProjector;
+    private final OrderEventReader orderEventReader;
+    private final KitchenBroadcaster kitchenBroadcaster;
+
+    private final ConcurrentSkipListMap<QueueKey, OrderResponseDto> activeOrders = new ConcurrentSkipListMap<>(ACTIVE_ORDER);
+    private final ConcurrentSkipListMap<QueueKey, OrderResponseDto> readyOrders = new ConcurrentSkipListMap<>(READY_ORDER);
+    private final Map<UUID, QueueKey> keysByOrderId = new ConcurrentHashMap<>();
+    // Log position of the last applied event
+    private long position;
+
+    @Override
+    public String name() {
+        return "kitchen-queue";
+    }
+
+    public List<OrderResponseDto> getActiveOrders() {
+        return List.copyOf(activeOrders.values());
+    }
+
+    public List<OrderResponseDto> getReadyOrders() {
+        return List.copyOf(readyOrders.values());
+    }
+
+    /**
+     * Active and ready orders together with the log position they reflect.
+     */
+    public synchronized KitchenSnapshotDto snapshot() {
+        return new KitchenSnapshotDto(getActiveOrders(), getReadyOrders(), LocalDateTime.now(), position);
+    }
+
+    public int size() {
+        return keysByOrderId.size();
+    }
+
+    @Transactional(readOnly = true)
+    public synchronized void rebuild() {
+        List<Order.OrderStatus> statuses = List.of(Order.OrderStatus.PENDING, Order.OrderStatus.CONFIRMED,
+                Order.OrderStatus.PREPARING, Order.OrderStatus.READY);
+        List<OrderResponseDto> orders = orderViewProjector.findByStatusIn(statuses);
+
+        activeOrders.clear();
+        readyOrders.clear();
+        keysByOrderId.clear();
+        orders.forEach(this::place);
+        log.info("Kitchen queue rebuilt with {} active and {} ready orders", activeOrders.size(), readyOrders.size());
+    }
+
+    @Override
+    public synchronized void onEvent(DomainEventDto event) {
+        if (!orderEventReader.isOrderEvent(event)) {
+            return;
+        }
+        OrderResponseDto previous = remove(event.getAggregateId());
+        OrderResponseDto order = orderEventReader.readOrder(event).orElse(null);
+        if (order != null) {
+            place(order);
+        }
+        position = event.getPosition();
+        kitchenBroadcaster.broadcast(event, previous != null ? previous.getStatus() : null, order);
+    }
+
+    private void place(OrderResponseDto order) {
+        if (ACTIVE_STATUSES.contains(order.getStatus())) {
+            QueueKey key = new QueueKey(order.getPriority().ordinal(), order.getCreatedAt(), order.getId(), false);
+            activeOrders.put(key, order);
+            keysByOrderId.put(order.getId(), key);
+        } else if (order.getStatus() == Order.OrderStatus.READY) {
+            QueueKey key = new QueueKey(0, order.getActualReadyTime(), order.getId(), true);
+            readyOrders.put(key, order);
+            keysByOrderId.put(order.getId(), key);
+        }
+    }
+
+    private OrderResponseDto remove(UUID orderId) {
+        QueueKey key = keysByOrderId.remove(orderId);
+        return key != null ? (key.ready() ? readyOrders : activeOrders).remove(key) : null;
+    }
+
+    private record QueueKey(int priorityOrdinal, LocalDateTime time, UUID orderId, boolean ready) {
+    }
+}
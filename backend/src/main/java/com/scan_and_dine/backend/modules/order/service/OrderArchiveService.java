@@ -0,0 +1,102 @@
+package com.scan_and_dine.backend.modules.order.service;
+
+import com.scan_and_dine.backend.modules.event.entity.DomainEvent;
+import com.scan_and_dine.backend.modules.event.service.DomainEventRecorder;
+import com.scan_and_dine.backend.modules.order.entity.Order;
+import com.scan_and_dine.backend.modules.order.repository.OrderArchiveRepository;
+import com.scan_and_dine.backend.modules.order.repository.OrderRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+
+/**
+ * Keeps the hot orders table limited to active and recent orders. COMPLETED and CANCELLED orders
+ * created before the configured horizon are moved, batch by batch, into the monthly partitions of
+ * orders_archive / order_items_archive. Every OrderRepository query therefore only ever touches
+ * the hot rows, while the archive stays available for reporting. Each archived order is recorded as
+ * a DELETED domain event in the same transaction, so delta sync clients drop it too.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OrderArchiveService {
+
+    private static final Set<Order.OrderStatus> FINISHED =
+            EnumSet.of(Order.OrderStatus.COMPLETED, Order.OrderStatus.CANCELLED);
+
+    private final OrderRepository orderRepository;
+    private final OrderStatisticsAggregator orderStatistics;
+    private final DomainEventRecorder eventRecorder;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${orders.archive.enabled:true}")
+    private boolean enabled;
+
+    @Value("${orders.archive.horizon:P90D}")
+    private Duration horizon;
+
+    // Small batches: the event relay sequences nothing written after a batch until the batch commits
+    @Value("${orders.archive.batch-size:100}")
+    private int batchSize;
+
+    @Scheduled(initialDelayString = "${orders.archive.interval:PT1H}",
+            fixedDelayString = "${orders.archive.interval:PT1H}")
+    public void archiveFinishedOrders() {
+        if (!enabled) {
+            return;
+        }
+        // Never archive today's orders: the dashboard's "today" counters only look at the hot table
+        LocalDateTime startOfToday = LocalDate.now().atStartOfDay();
+        LocalDateTime horizonCutoff = LocalDateTime.now().minus(horizon);
+        LocalDateTime cutoff = horizonCutoff.isAfter(startOfToday) ? startOfToday : horizonCutoff;
+        transactionTemplate.executeWithoutResult(status -> orderRepository.syncArchiveColumns());
+
+        int archived = 0;
+        int moved;
+        do {
+            Integer batch = transactionTemplate.execute(status -> archiveBatch(cutoff));
+            moved = batch != null ? batch : 0;
+            archived += moved;
+        } while (moved == batchSize);
+
+        if (archived > 0) {
+            log.info("Archived {} orders created before {}", archived, cutoff);
+            orderStatistics.archiveChanged();
+        }
+    }
+
+    private int archiveBatch(LocalDateTime cutoff) {
+        if (!orderRepository.tryLockArchive()) {
+            log.debug("Order archival is running on another instance");
+            return 0;
+        }
+        List<OrderArchiveRepository.ArchiveCandidate> candidates =
+                orderRepository.lockArchivableOrders(FINISHED, cutoff, batchSize);
+        if (candidates.isEmpty()) {
+            return 0;
+        }
+
+        Set<YearMonth> months = new TreeSet<>();
+        candidates.forEach(candidate -> months.add(YearMonth.from(candidate.createdAt())));
+        orderRepository.createArchivePartitions(months);
+
+        List<UUID> orderIds = candidates.stream().map(OrderArchiveRepository.ArchiveCandidate::id).toList();
+        int moved = orderRepository.moveToArchive(orderIds);
+        // Archived orders leave the hot table and order_view; sync clients need a tombstone for each
+        orderIds.forEach(id -> eventRecorder.record(DomainEvent.AggregateType.ORDER, id, DomainEvent.Type.DELETED, null));
+        return moved;
+    }
+}
@@ -0,0 +1,198 @@
+package com.scan_and_dine.backend.modules.order.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.scan_and_dine.backend.exception.BadRequestException;
+import com.scan_and_dine.backend.modules.order.entity.Order;
+import com.scan_and_dine.backend.modules.order.repository.OrderExportRepository;
+import com.scan_and_dine.backend.modules.order.repository.OrderRepository;
+import com.scan_and_dine.backend.modules.order.repository.OrderSpecifications;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Period;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Streams orders for accounting as CSV or NDJSON. Rows go straight from a forward-only cursor to the
+ * response, flushed every fetch, so memory does not grow with the size of the export. Orders already
+ * moved to orders_archive are exported like hot ones.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OrderExportService {
+
+    public enum Format {
+        CSV("csv", MediaType.parseMediaType("text/csv;charset=UTF-8")),
+        NDJSON("ndjson", MediaType.parseMediaType("application/x-ndjson"));
+
+        private final String extension;
+        private final MediaType mediaType;
+
+        Format(String extension, MediaType mediaType) {
+            this.extension = extension;
+            this.mediaType = mediaType;
+        }
+
+        public MediaType getMediaType() {
+            return mediaType;
+        }
+    }
+
+    private static final List<String> CSV_HEADER = List.of(
+            "id", "createdAt", "tableNumber", "customerName", "customerPhone", "status", "priority",
+            "paymentStatus", "paymentMethod", "itemCount", "totalAmount", "tax", "tip", "discount", "servedTime");
+
+    private final OrderRepository orderRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${orders.export.fetch-size:500}")
+    private int fetchSize;
+
+    @Value("${orders.export.max-range:P1Y}")
+    private Period maxRange;
+
+    /**
+     * Validates the request up front, while an error can still become a 400, and returns the body
+     * that writes orders created from {@code from} through {@code to} (inclusive days).
+     */
+    public StreamingResponseBody export(LocalDate from, LocalDate to, String customerName, String customerPhone,
+                                        OrderSpecifications.PhoneMatch phoneMatch, UUID tableId,
+                                        Order.OrderStatus status, Order.OrderPriority priority,
+                                        Order.PaymentStatus paymentStatus, Format format) {
+        if (to.isBefore(from)) {
+            throw new BadRequestException("Export range must not end before it starts");
+        }
+        if (to.isAfter(from.plus(maxRange))) {
+            throw new BadRequestException("Export range must not exceed " + maxRange);
+        }
+        LocalDateTime start = from.atStartOfDay();
+        LocalDateTime end = to.plusDays(1).atStartOfDay();
+        OrderExportRepository.ExportFilter filter = new OrderExportRepository.ExportFilter(customerName,
+                customerPhone, phoneMatch, tableId, status, priority, paymentStatus);
+
+        return outputStream -> {
+            TransactionTemplate readOnly = new TransactionTemplate(transactionTemplate.getTransactionManager());
+            readOnly.setReadOnly(true);
+            Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+            RowWriter rowWriter = format == Format.CSV ? new CsvRowWriter(writer) : new NdjsonRowWriter(writer);
+            long[] count = {0};
+            try {
+                rowWriter.begin();
+                readOnly.executeWithoutResult(txStatus -> orderRepository.forEachExportRow(filter,
+                        start, end, fetchSize, row -> {
+                            rowWriter.write(row);
+                            if (++count[0] % fetchSize == 0) {
+                                flush(writer);
+                            }
+                        }));
+                writer.flush();
+            } catch (UncheckedIOException e) {
+                // Client went away; the transaction is already rolled back and the cursor closed
+                log.warn("Order export aborted after {} rows: {}", count[0], e.getMessage());
+                throw e.getCause();
+            }
+            log.info("Exported {} orders from {} to {} as {}", count[0], from, to, format);
+        };
+    }
+
+    public String fileName(LocalDate from, LocalDate to, Format format) {
+        return "orders-" + from + "-to-" + to + "." + format.extension;
+    }
+
+    private static void flush(Writer writer) {
+        try {
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private interface RowWriter {
+        void begin() throws IOException;
+
+        void write(OrderExportRepository.ExportRow row);
+    }
+
+    private static final class CsvRowWriter implements RowWriter {
+        private final Writer writer;
+
+        private CsvRowWriter(Writer writer) {
+            this.writer = writer;
+        }
+
+        @Override
+        public void begin() throws IOException {
+            writer.write(String.join(",", CSV_HEADER));
+            writer.write("\r\n");
+        }
+
+        @Override
+        public void write(OrderExportRepository.ExportRow row) {
+            try {
+                writer.write(String.join(",",
+                        cell(row.id()), cell(row.createdAt()), text(row.tableNumber()), text(row.customerName()),
+                        text(row.customerPhone()), cell(row.status()), cell(row.priority()),
+                        cell(row.paymentStatus()), cell(row.paymentMethod()), cell(row.itemCount()),
+                        cell(row.totalAmount()), cell(row.tax()), cell(row.tip()), cell(row.discount()),
+                        cell(row.servedTime())));
+                writer.write("\r\n");
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private static String cell(Object value) {
+            return value != null ? value.toString() : "";
+        }
+
+        // RFC 4180 quoting; leading formula characters are neutralised so spreadsheets show user input as text
+        private static String text(String value) {
+            if (value == null || value.isEmpty()) {
+                return "";
+            }
+            String safe = "=+-@\t\r".indexOf(value.charAt(0)) >= 0 ? "'" + value : value;
+            if (safe.indexOf(',') >= 0 || safe.indexOf('"') >= 0 || safe.indexOf('\n') >= 0 || safe.indexOf('\r') >= 0) {
+                return "\"" + safe.replace("\"", "\"\"") + "\"";
+            }
+            return safe;
+        }
+    }
+
+    private final class NdjsonRowWriter implements RowWriter {
+        private final Writer writer;
+
+        private NdjsonRowWriter(Writer writer) {
+            this.writer = writer;
+        }
+
+        @Override
+        public void begin() {
+        }
+
+        @Override
+        public void write(OrderExportRepository.ExportRow row) {
+            try {
+                writer.write(objectMapper.writeValueAsString(row));
+                writer.write('\n');
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
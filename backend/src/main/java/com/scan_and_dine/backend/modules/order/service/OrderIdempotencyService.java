@@ -0,0 +1,197 @@
+package com.scan_and_dine.backend.modules.order.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.scan_and_dine.backend.exception.BadRequestException;
+import com.scan_and_dine.backend.exception.DuplicateResourceException;
+import com.scan_and_dine.backend.modules.order.dto.CreateOrderRequestDto;
+import com.scan_and_dine.backend.modules.order.dto.OrderResponseDto;
+import com.scan_and_dine.backend.modules.order.entity.OrderIdempotencyKey;
+import com.scan_and_dine.backend.modules.order.repository.OrderIdempotencyKeyRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Makes POST /api/orders safe to retry with an Idempotency-Key header.
+ * <p>
+ * Recent responses are answered from a bounded in-memory LRU. Concurrent duplicates on this
+ * instance wait for the first request instead of racing it. Across instances the
+ * order_idempotency_keys row is claimed in the order's own transaction (batched or not), so a duplicate
+ * elsewhere replays the committed response. A claim still uncommitted elsewhere answers 409 at once rather
+ * than blocking the claimer, which in BATCHED mode is the single writer with every order queued behind it.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OrderIdempotencyService {
+
+    public static final String HEADER = "Idempotency-Key";
+
+    private static final int MAX_KEY_LENGTH = 100;
+    private static final int MAX_CACHED_RESPONSES = 10_000;
+    private static final long IN_FLIGHT_WAIT_SECONDS = 30;
+
+    private final OrderService orderService;
+    private final OrderIngestionService orderIngestionService;
+    private final OrderIdempotencyKeyRepository idempotencyKeyRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${orders.idempotency.ttl:PT24H}")
+    private Duration ttl;
+
+    private final Map<String, CompletableFuture<StoredResponse>> inFlight = new ConcurrentHashMap<>();
+    private final Map<String, StoredResponse> recentResponses = Collections.synchronizedMap(
+            new LinkedHashMap<>(256, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, StoredResponse> eldest) {
+                    return size() > MAX_CACHED_RESPONSES;
+                }
+            });
+
+    public Result createOrder(String key, CreateOrderRequestDto requestDto) {
+        validateKey(key);
+        String requestHash = hash(requestDto);
+
+        StoredResponse cached = recentResponses.get(key);
+        if (cached != null && cached.expiresAt().isAfter(Instant.now())) {
+            return replay(key, cached, requestHash);
+        }
+
+        CompletableFuture<StoredResponse> claim = new CompletableFuture<>();
+        CompletableFuture<StoredResponse> pending = inFlight.putIfAbsent(key, claim);
+        if (pending != null) {
+            log.info("Waiting for in-flight order request with idempotency key: {}", key);
+            return replay(key, await(key, pending), requestHash);
+        }
+
+        try {
+            // A retry that reached another instance (or predates a restart) is answered from the table
+            StoredResponse created = null;
+            StoredResponse stored = findStored(key).orElse(null);
+            if (stored == null) {
+                orderService.validateNewOrder(requestDto);
+                created = orderIngestionService.execute(() -> claimAndCreate(key, requestHash, requestDto));
+                stored = created != null ? created : findStored(key).orElseThrow(() -> new DuplicateResourceException(
+                        "A request with this Idempotency-Key is still being processed"));
+            }
+            recentResponses.put(key, stored);
+            claim.complete(stored);
+            return created != null ? new Result(created.order(), false) : replay(key, stored, requestHash);
+        } catch (RuntimeException e) {
+            claim.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, claim);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${orders.idempotency.cleanup-interval:PT1H}")
+    public void purgeExpiredKeys() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(ttl);
+        Integer deleted = transactionTemplate.execute(status -> idempotencyKeyRepository.deleteCreatedBefore(cutoff));
+        recentResponses.values().removeIf(stored -> stored.expiresAt().isBefore(Instant.now()));
+        if (deleted != null && deleted > 0) {
+            log.info("Purged {} expired order idempotency keys", deleted);
+        }
+    }
+
+    private StoredResponse claimAndCreate(String key, String requestHash, CreateOrderRequestDto requestDto) {
+        if (!idempotencyKeyRepository.tryLockKey(key)
+                || idempotencyKeyRepository.claim(key, requestHash, LocalDateTime.now()) == 0) {
+            return null; // Already used, or claimed by a transaction still in flight elsewhere
+        }
+        OrderResponseDto order = orderService.createOrder(requestDto);
+        idempotencyKeyRepository.complete(key, order.getId(), toJson(order));
+        return new StoredResponse(requestHash, order, Instant.now().plus(ttl));
+    }
+
+    private Optional<StoredResponse> findStored(String key) {
+        return idempotencyKeyRepository.findById(key)
+                .filter(found -> found.getResponseBody() != null)
+                .map(this::toStoredResponse);
+    }
+
+    private StoredResponse toStoredResponse(OrderIdempotencyKey record) {
+        try {
+            OrderResponseDto order = objectMapper.readValue(record.getResponseBody(), OrderResponseDto.class);
+            return new StoredResponse(record.getRequestHash(), order, Instant.now().plus(ttl));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(
+                    "Stored response for idempotency key " + record.getIdempotencyKey() + " is unreadable", e);
+        }
+    }
+
+    private StoredResponse await(String key, CompletableFuture<StoredResponse> pending) {
+        try {
+            return pending.get(IN_FLIGHT_WAIT_SECONDS, TimeUnit.SECONDS);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (TimeoutException e) {
+            throw new DuplicateResourceException("A request with this Idempotency-Key is still being processed");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for idempotency key " + key, e);
+        }
+    }
+
+    private Result replay(String key, StoredResponse stored, String requestHash) {
+        if (!stored.requestHash().equals(requestHash)) {
+            throw new DuplicateResourceException("Idempotency-Key was already used for a different order request");
+        }
+        log.info("Replaying order {} for idempotency key: {}", stored.order().getId(), key);
+        return new Result(stored.order(), true);
+    }
+
+    private void validateKey(String key) {
+        if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+            throw new BadRequestException(HEADER + " must be between 1 and " + MAX_KEY_LENGTH + " characters");
+        }
+    }
+
+    private String hash(CreateOrderRequestDto requestDto) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(objectMapper.writeValueAsBytes(requestDto));
+            return HexFormat.of().formatHex(digest);
+        } catch (JsonProcessingException | NoSuchAlgorithmException e) {
+            throw new IllegalStateException("Unable to fingerprint order request", e);
+        }
+    }
+
+    private String toJson(OrderResponseDto order) {
+        try {
+            return objectMapper.writeValueAsString(order);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unable to serialize order response", e);
+        }
+    }
+
+    public record Result(OrderResponseDto order, boolean replayed) {
+    }
+
+    private record StoredResponse(String requestHash, OrderResponseDto order, Instant expiresAt) {
+    }
+}
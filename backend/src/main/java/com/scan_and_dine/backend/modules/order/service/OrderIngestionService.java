@@ -0,0 +1,231 @@
+package com.scan_and_dine.backend.modules.order.service;
+
+import com.scan_and_dine.backend.exception.ServiceUnavailableException;
+import com.scan_and_dine.backend.modules.order.dto.CreateOrderRequestDto;
+import com.scan_and_dine.backend.modules.order.dto.OrderResponseDto;
+import com.scan_and_dine.backend.util.concurrency.ConflictRetryExecutor;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * Front door for order writes. In BATCHED mode requests are validated on the caller's thread,
+ * then queued for a single writer that commits up to max-batch-size orders per transaction,
+ * letting Hibernate send the order and item inserts as JDBC batches. Callers are acknowledged
+ * only after their batch has committed (group commit), so a 201 always means the order is durable.
+ * A full queue rejects new orders with 503 instead of letting latency grow without bound, and so does
+ * an ack timeout, but only after the write has been taken back out of the queue: a 503 always means
+ * nothing was written, so retrying cannot create a duplicate. A write the writer has already picked up
+ * is waited for until its transaction ends.
+ * Single-order transactions are retried when they lose an optimistic locking race (e.g. on the table).
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OrderIngestionService implements SmartLifecycle {
+
+    public enum Mode {
+        DIRECT, BATCHED
+    }
+
+    private static final long RETRY_AFTER_SECONDS = 1;
+    private static final String OPERATION = "OrderIngestionService.execute";
+
+    private final OrderService orderService;
+    private final TransactionTemplate transactionTemplate;
+    private final ConflictRetryExecutor conflictRetryExecutor;
+
+    @Value("${orders.ingestion.mode:DIRECT}")
+    private Mode mode;
+
+    @Value("${orders.ingestion.queue-capacity:1000}")
+    private int queueCapacity;
+
+    @Value("${orders.ingestion.max-batch-size:50}")
+    private int maxBatchSize;
+
+    @Value("${orders.ingestion.enqueue-timeout:PT2S}")
+    private Duration enqueueTimeout;
+
+    @Value("${orders.ingestion.ack-timeout:PT30S}")
+    private Duration ackTimeout;
+
+    private BlockingQueue<PendingWrite<?>> queue;
+    private Thread writer;
+    private volatile boolean running;
+
+    public OrderResponseDto createOrder(CreateOrderRequestDto requestDto) {
+        orderService.validateNewOrder(requestDto);
+        return execute(() -> orderService.createOrder(requestDto));
+    }
+
+    /**
+     * Runs an order write in a transaction: directly, or as part of the next batch in BATCHED mode.
+     * The unit must be safe to share a transaction with other units.
+     */
+    public <T> T execute(Supplier<T> unit) {
+        if (mode == Mode.DIRECT || !running) {
+            return executeWithRetry(unit);
+        }
+
+        PendingWrite<T> write = new PendingWrite<>(unit, new CompletableFuture<>());
+        try {
+            if (!queue.offer(write, enqueueTimeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                throw new ServiceUnavailableException("Too many orders are being placed right now, please retry",
+                        RETRY_AFTER_SECONDS);
+            }
+            try {
+                return write.result().get(ackTimeout.toMillis(), TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                if (write.cancel()) {
+                    queue.remove(write);
+                    throw new ServiceUnavailableException("Order was not placed in time, please retry",
+                            RETRY_AFTER_SECONDS);
+                }
+                // Already in a batch: its transaction decides, and the caller must hear how
+                return write.result().get();
+            }
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException("Order submission was interrupted, please retry", RETRY_AFTER_SECONDS);
+        }
+    }
+
+    @Override
+    public void start() {
+        if (mode != Mode.BATCHED) {
+            return;
+        }
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        running = true;
+        writer = new Thread(this::drainLoop, "order-ingestion-writer");
+        writer.setDaemon(true);
+        writer.start();
+        log.info("Batched order ingestion started (queue capacity {}, batch size {})", queueCapacity, maxBatchSize);
+    }
+
+    @Override
+    public void stop() {
+        if (writer == null) {
+            return;
+        }
+        running = false;
+        try {
+            writer.join(ackTimeout.toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        writer = null;
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void drainLoop() {
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingWrite<?> first = queue.poll(100, TimeUnit.MILLISECONDS);
+                if (first == null) {
+                    continue;
+                }
+                List<PendingWrite<?>> drained = new ArrayList<>(maxBatchSize);
+                drained.add(first);
+                queue.drainTo(drained, maxBatchSize - 1);
+                // Writes whose caller gave up were answered 503 and must not be written
+                List<PendingWrite<?>> batch = drained.stream().filter(PendingWrite::start).toList();
+                if (!batch.isEmpty()) {
+                    writeBatch(batch);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } catch (RuntimeException e) {
+                log.error("Order ingestion writer failed", e);
+            }
+        }
+    }
+
+    private void writeBatch(List<PendingWrite<?>> batch) {
+        if (batch.size() == 1) {
+            writeIndividually(batch);
+            return;
+        }
+        try {
+            List<Object> results = transactionTemplate.execute(status -> {
+                List<Object> batchResults = new ArrayList<>(batch.size());
+                batch.forEach(write -> batchResults.add(write.unit().get()));
+                return batchResults;
+            });
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).complete(results.get(i));
+            }
+            log.debug("Committed order batch of {}", batch.size());
+        } catch (RuntimeException e) {
+            // One bad order must not fail its neighbours: give every write its own transaction
+            log.warn("Order batch of {} failed ({}), retrying individually", batch.size(), e.getMessage());
+            writeIndividually(batch);
+        }
+    }
+
+    private void writeIndividually(List<PendingWrite<?>> batch) {
+        for (PendingWrite<?> write : batch) {
+            try {
+                write.complete(executeWithRetry(write.unit()));
+            } catch (RuntimeException e) {
+                write.result().completeExceptionally(e);
+            }
+        }
+    }
+
+    private <T> T executeWithRetry(Supplier<T> unit) {
+        return conflictRetryExecutor.execute(OPERATION, ConflictRetryExecutor.DEFAULT_MAX_ATTEMPTS,
+                () -> transactionTemplate.execute(status -> unit.get()));
+    }
+
+    private record PendingWrite<T>(Supplier<T> unit, CompletableFuture<T> result, AtomicReference<State> state) {
+
+        private enum State {
+            QUEUED, STARTED, CANCELLED
+        }
+
+        PendingWrite(Supplier<T> unit, CompletableFuture<T> result) {
+            this(unit, result, new AtomicReference<>(State.QUEUED));
+        }
+
+        // The writer and a timed-out caller race for a queued write; exactly one of them wins
+        boolean start() {
+            return state.compareAndSet(State.QUEUED, State.STARTED);
+        }
+
+        boolean cancel() {
+            return state.compareAndSet(State.QUEUED, State.CANCELLED);
+        }
+
+        @SuppressWarnings("unchecked")
+        void complete(Object value) {
+            result.complete((T) value);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.scan_and_dine.backend.modules.order.service;
+
+import com.scan_and_dine.backend.exception.UnavailableMenuItemsException;
+import com.scan_and_dine.backend.modules.menu.entity.Menu;
+import com.scan_and_dine.backend.modules.menu.repository.MenuRepository;
+import com.scan_and_dine.backend.modules.order.dto.CreateOrderRequestDto;
+import com.scan_and_dine.backend.modules.order.entity.Order;
+import com.scan_and_dine.backend.modules.order.entity.OrderItem;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Resolves and prices all items of an incoming order against a single menu snapshot,
+ * so basket size no longer drives the number of menu lookups.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class OrderPricingService {
+
+    private final MenuRepository menuRepository;
+
+    public void priceOrder(Order order, List<CreateOrderRequestDto.CreateOrderItemDto> itemDtos) {
+        Map<UUID, Menu> menuSnapshot = loadValidatedSnapshot(itemDtos);
+
+        List<OrderItem> orderItems = new ArrayList<>();
+        BigDecimal totalAmount = BigDecimal.ZERO;
+
+        for (CreateOrderRequestDto.CreateOrderItemDto itemDto : itemDtos) {
+            Menu menuItem = menuSnapshot.get(itemDto.getMenuItemId());
+
+            OrderItem orderItem = new OrderItem();
+            orderItem.setOrder(order);
+            orderItem.setMenuItem(menuItem);
+            orderItem.setQuantity(itemDto.getQuantity());
+            orderItem.setUnitPrice(menuItem.getPrice());
+            orderItem.setTotalPrice(menuItem.getPrice().multiply(BigDecimal.valueOf(itemDto.getQuantity())));
+            orderItem.setSpecialInstructions(itemDto.getSpecialInstructions());
+
+            orderItems.add(orderItem);
+            totalAmount = totalAmount.add(orderItem.getTotalPrice());
+        }
+
+        order.setOrderItems(orderItems);
+        order.setTotalAmount(totalAmount);
+    }
+
+    /**
+     * Checks that every requested item exists and is available, without building the order.
+     */
+    @Transactional(readOnly = true)
+    public void validateItems(List<CreateOrderRequestDto.CreateOrderItemDto> itemDtos) {
+        loadValidatedSnapshot(itemDtos);
+    }
+
+    private Map<UUID, Menu> loadValidatedSnapshot(List<CreateOrderRequestDto.CreateOrderItemDto> itemDtos) {
+        Set<UUID> menuItemIds = itemDtos.stream()
+                .map(CreateOrderRequestDto.CreateOrderItemDto::getMenuItemId)
+                .collect(Collectors.toCollection(LinkedHashSet::new));
+
+        Map<UUID, Menu> menuSnapshot = menuRepository.findAllById(menuItemIds)
+                .stream()
+                .collect(Collectors.toMap(Menu::getId, Function.identity()));
+        log.debug("Resolved {} of {} menu items for pricing", menuSnapshot.size(), menuItemIds.size());
+
+        validateSnapshot(menuItemIds, menuSnapshot);
+        return menuSnapshot;
+    }
+
+    private void validateSnapshot(Set<UUID> menuItemIds, Map<UUID, Menu> menuSnapshot) {
+        List<UUID> missingItemIds = new ArrayList<>();
+        List<UUID> unavailableItemIds = new ArrayList<>();
+
+        for (UUID menuItemId : menuItemIds) {
+            Menu menuItem = menuSnapshot.get(menuItemId);
+            if (menuItem == null) {
+                missingItemIds.add(menuItemId);
+            } else if (!Boolean.TRUE.equals(menuItem.getIsAvailable())) {
+                unavailableItemIds.add(menuItemId);
+            }
+        }
+
+        if (!missingItemIds.isEmpty() || !unavailableItemIds.isEmpty()) {
+            throw new UnavailableMenuItemsException(missingItemIds, unavailableItemIds);
+        }
+    }
+}
@@ -1,30 +1,47 @@
 package com.scan_and_dine.backend.modules.order.service;
 
+import com.scan_and_dine.backend.exception.BadRequestException;
 import com.scan_and_dine.backend.exception.ResourceNotFoundException;
-import com.scan_and_dine.backend.modules.menu.entity.Menu;
-import com.scan_and_dine.backend.modules.menu.repository.MenuRepository;
+import com.scan_and_dine.backend.modules.event.entity.DomainEvent;
+import com.scan_and_dine.backend.modules.event.service.DomainEventRecorder;
+import com.scan_and_dine.backend.modules.order.dto.BulkStatusUpdateResponseDto;
 import com.scan_and_dine.backend.modules.order.dto.CreateOrderRequestDto;
+import com.scan_and_dine.backend.modules.order.dto.KitchenSnapshotDto;
 import com.scan_and_dine.backend.modules.order.dto.OrderResponseDto;
 import com.scan_and_dine.backend.modules.order.dto.UpdateOrderRequestDto;
 import com.scan_and_dine.backend.modules.order.entity.Order;
-import com.scan_and_dine.backend.modules.order.entity.OrderItem;
+import com.scan_and_dine.backend.modules.order.entity.StationTicket;
+import com.scan_and_dine.backend.modules.order.event.OrderChangedEvent;
 import com.scan_and_dine.backend.modules.order.mapper.OrderMapper;
+import com.scan_and_dine.backend.modules.order.repository.OrderBulkRepository;
 import com.scan_and_dine.backend.modules.order.repository.OrderRepository;
+import com.scan_and_dine.backend.modules.order.repository.OrderSpecifications;
+import com.scan_and_dine.backend.modules.order.repository.StationTicketRepository;
 import com.scan_and_dine.backend.modules.table.entity.Table;
+import com.scan_and_dine.backend.modules.table.mapper.TableMapper;
 import com.scan_and_dine.backend.modules.table.repository.TableRepository;
+import com.scan_and_dine.backend.util.concurrency.RetryOnConflict;
+import com.scan_and_dine.backend.util.http.ConditionalRequests;
+import com.scan_and_dine.backend.util.pagination.CursorPage;
+import com.scan_and_dine.backend.util.pagination.KeysetCursor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 @Service
@@ -34,10 +51,20 @@ import java.util.UUID;
 public class OrderService {
 
     private final OrderRepository orderRepository;
+    private final StationTicketRepository ticketRepository;
     private final TableRepository tableRepository;
-    private final MenuRepository menuRepository;
+    private final OrderPricingService orderPricingService;
+    private final KitchenQueue kitchenQueue;
+    private final OrderStatisticsAggregator orderStatistics;
+    private final OrderStateMachine orderStateMachine;
+    private final ReadyTimeEstimator readyTimeEstimator;
+    private final OrderViewProjector orderViewProjector;
     private final OrderMapper orderMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TableMapper tableMapper;
+    private final DomainEventRecorder eventRecorder;
 
+    @RetryOnConflict
     public OrderResponseDto createOrder(CreateOrderRequestDto requestDto) {
         log.info("Creating order for customer: {} at table: {}", 
                 requestDto.getCustomerName(), requestDto.getTableId());
@@ -50,39 +77,11 @@ public class OrderService {
         Order order = orderMapper.toEntity(requestDto);
         order.setTable(table);
         
-        // Create order items and calculate total
-        List<OrderItem> orderItems = new ArrayList<>();
-        BigDecimal totalAmount = BigDecimal.ZERO;
+        // Resolve, validate and price all order items against one menu snapshot
+        orderPricingService.priceOrder(order, requestDto.getOrderItems());
         
-        for (CreateOrderRequestDto.CreateOrderItemDto itemDto : requestDto.getOrderItems()) {
-            Menu menuItem = menuRepository.findById(itemDto.getMenuItemId())
-                    .orElseThrow(() -> new ResourceNotFoundException("Menu item not found with ID: " + itemDto.getMenuItemId()));
-            
-            if (!menuItem.getIsAvailable()) {
-                throw new IllegalArgumentException("Menu item is not available: " + menuItem.getName());
-            }
-            
-            OrderItem orderItem = new OrderItem();
-            orderItem.setOrder(order);
-            orderItem.setMenuItem(menuItem);
-            orderItem.setQuantity(itemDto.getQuantity());
-            orderItem.setUnitPrice(menuItem.getPrice());
-            orderItem.setTotalPrice(menuItem.getPrice().multiply(BigDecimal.valueOf(itemDto.getQuantity())));
-            orderItem.setSpecialInstructions(itemDto.getSpecialInstructions());
-            
-            orderItems.add(orderItem);
-            totalAmount = totalAmount.add(orderItem.getTotalPrice());
-        }
-        
-        order.setOrderItems(orderItems);
-        order.setTotalAmount(totalAmount);
-        
-        // Calculate estimated ready time (base time + prep time for all items)
-        int totalPrepTime = orderItems.stream()
-                .mapToInt(item -> (item.getMenuItem().getPreparationTimeMinutes() != null ? 
-                        item.getMenuItem().getPreparationTimeMinutes() : 15) * item.getQuantity())
-                .sum();
-        order.setEstimatedReadyTime(LocalDateTime.now().plusMinutes(Math.max(totalPrepTime, 10)));
+        // Quote from the in-memory kitchen model: parallel cooking plus the current queue
+        order.setEstimatedReadyTime(readyTimeEstimator.estimateReadyTime(order));
         
         Order savedOrder = orderRepository.save(order);
         
@@ -93,165 +92,215 @@ public class OrderService {
             table.setCurrentOrder(savedOrder.getId().toString());
             if (table.getSessionStartTime() == null) {
                 table.setSessionStartTime(LocalDateTime.now());
+                table.setTotalSessionAmount(BigDecimal.ZERO);
             }
-            tableRepository.save(table);
+            Table occupiedTable = tableRepository.save(table);
+            eventRecorder.record(DomainEvent.AggregateType.TABLE, occupiedTable.getId(),
+                    DomainEvent.Type.STATUS_CHANGED, tableMapper.toResponseDto(occupiedTable));
         }
         
         log.info("Order created successfully with ID: {}", savedOrder.getId());
-        return orderMapper.toResponseDto(savedOrder);
+        OrderResponseDto responseDto = orderMapper.toResponseDto(savedOrder);
+        eventPublisher.publishEvent(OrderChangedEvent.created(responseDto));
+        return responseDto;
+    }
+
+    /**
+     * Runs the checks createOrder would reject on, so queued orders are unlikely to fail at write time.
+     */
+    @Transactional(readOnly = true)
+    public void validateNewOrder(CreateOrderRequestDto requestDto) {
+        if (!tableRepository.existsById(requestDto.getTableId())) {
+            throw new ResourceNotFoundException("Table not found with ID: " + requestDto.getTableId());
+        }
+        orderPricingService.validateItems(requestDto.getOrderItems());
+    }
+
+    /**
+     * ETag of one order, from the version of its order_view row, which changes with the order and with
+     * renames of its table or menu items. Null when the order has no view yet, so it is served unconditionally.
+     */
+    @Transactional(readOnly = true)
+    public String getOrderEntityTag(UUID id) {
+        return orderViewProjector.findVersion(id).map(ConditionalRequests::entityTag).orElse(null);
     }
 
     @Transactional(readOnly = true)
     public OrderResponseDto getOrderById(UUID id) {
         log.info("Fetching order by ID: {}", id);
-        Order order = findOrderById(id);
-        return orderMapper.toResponseDto(order);
+        // Orders not yet projected (e.g. before the startup backfill finished) are mapped from the entities
+        return orderViewProjector.find(id).orElseGet(() -> orderRepository.findWithDetailsById(id)
+                .map(orderMapper::toResponseDto)
+                .orElseThrow(() -> new ResourceNotFoundException("Order not found with ID: " + id)));
     }
 
     @Transactional(readOnly = true)
     public Page<OrderResponseDto> getAllOrders(String customerName, String customerPhone,
+                                             OrderSpecifications.PhoneMatch phoneMatch,
                                              UUID tableId, Order.OrderStatus status,
                                              Order.OrderPriority priority, Order.PaymentStatus paymentStatus,
                                              Pageable pageable) {
         log.info("Fetching orders with filters and pagination");
-        String statusStr = status != null ? status.name() : null;
-        String priorityStr = priority != null ? priority.name() : null;
-        String paymentStatusStr = paymentStatus != null ? paymentStatus.name() : null;
-        
-        return orderRepository.findOrdersWithFilters(customerName, customerPhone, tableId, 
-                statusStr, priorityStr, paymentStatusStr, pageable)
+        Specification<Order> spec = OrderSpecifications.withFilters(customerName, customerPhone, phoneMatch, tableId,
+                status, priority, paymentStatus);
+        return orderRepository.findAll(spec, OrderSpecifications.SORTABLE.apply(pageable))
                 .map(orderMapper::toResponseDto);
     }
 
+    @Transactional(readOnly = true)
+    public Slice<OrderResponseDto> getOrderSlice(String customerName, String customerPhone,
+                                               OrderSpecifications.PhoneMatch phoneMatch,
+                                               UUID tableId, Order.OrderStatus status,
+                                               Order.OrderPriority priority, Order.PaymentStatus paymentStatus,
+                                               Pageable pageable) {
+        log.info("Fetching order slice with filters (no total count)");
+        Specification<Order> spec = OrderSpecifications.withFilters(customerName, customerPhone, phoneMatch, tableId,
+                status, priority, paymentStatus);
+        Pageable sorted = OrderSpecifications.SORTABLE.apply(pageable);
+        return orderRepository.findBy(spec, query -> query.slice(sorted))
+                .map(orderMapper::toResponseDto);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<OrderResponseDto> getOrdersAfter(String customerName, String customerPhone,
+                                                      OrderSpecifications.PhoneMatch phoneMatch,
+                                                      UUID tableId, Order.OrderStatus status,
+                                                      Order.OrderPriority priority, Order.PaymentStatus paymentStatus,
+                                                      String after, int size) {
+        log.info("Fetching orders with filters after cursor: {}", after);
+        Specification<Order> spec = OrderSpecifications.withFilters(customerName, customerPhone, phoneMatch, tableId,
+                status, priority, paymentStatus);
+        KeysetCursor cursor = KeysetCursor.decode(after);
+        if (cursor != null) {
+            spec = spec.and(cursor.seek());
+        }
+        Pageable lookahead = KeysetCursor.lookahead(size);
+        
+        List<Order> orders = orderRepository.findBy(spec, query -> query
+                .sortBy(lookahead.getSort())
+                .limit(lookahead.getPageSize())
+                .all());
+        return CursorPage.of(orders, lookahead,
+                order -> new KeysetCursor(order.getCreatedAt(), order.getId()), orderMapper::toResponseDto);
+    }
+
     @Transactional(readOnly = true)
     public List<OrderResponseDto> getOrdersByStatus(Order.OrderStatus status) {
         log.info("Fetching orders with status: {}", status);
-        return orderRepository.findByStatus(status)
-                .stream()
-                .map(orderMapper::toResponseDto)
-                .toList();
+        return orderViewProjector.findByStatusIn(List.of(status));
     }
 
-    @Transactional(readOnly = true)
+    // Served from the in-memory kitchen queue; no transaction or connection needed
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<OrderResponseDto> getActiveOrdersForKitchen() {
         log.info("Fetching active orders for kitchen");
-        return orderRepository.findActiveOrdersForKitchen()
-                .stream()
-                .map(orderMapper::toResponseDto)
-                .toList();
+        return kitchenQueue.getActiveOrders();
     }
 
-    @Transactional(readOnly = true)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public List<OrderResponseDto> getReadyOrders() {
         log.info("Fetching ready orders");
-        return orderRepository.findReadyOrders()
-                .stream()
-                .map(orderMapper::toResponseDto)
-                .toList();
+        return kitchenQueue.getReadyOrders();
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public KitchenSnapshotDto getKitchenSnapshot() {
+        return kitchenQueue.snapshot();
     }
 
     @Transactional(readOnly = true)
     public List<OrderResponseDto> getOrdersByTableId(UUID tableId) {
         log.info("Fetching orders for table ID: {}", tableId);
-        return orderRepository.findByTableId(tableId)
-                .stream()
-                .map(orderMapper::toResponseDto)
-                .toList();
+        return orderViewProjector.findByTableId(tableId);
     }
 
+    @RetryOnConflict
     public OrderResponseDto updateOrder(UUID id, UpdateOrderRequestDto requestDto) {
         log.info("Updating order with ID: {}", id);
         
         Order existingOrder = findOrderById(id);
-        Order.OrderStatus oldStatus = existingOrder.getStatus();
+        OrderChangedEvent.Snapshot previous = OrderChangedEvent.Snapshot.of(existingOrder);
         
-        orderMapper.updateEntityFromDto(requestDto, existingOrder);
-        
-        // Handle status-specific logic
-        if (requestDto.getStatus() != null && requestDto.getStatus() != oldStatus) {
-            handleStatusChange(existingOrder, oldStatus, requestDto.getStatus());
+        // Validates the status change before any field is touched
+        if (requestDto.getStatus() != null) {
+            transition(existingOrder, requestDto.getStatus());
         }
+        orderMapper.updateEntityFromDto(requestDto, existingOrder);
         
         Order updatedOrder = orderRepository.save(existingOrder);
         
         log.info("Order updated successfully with ID: {}", updatedOrder.getId());
-        return orderMapper.toResponseDto(updatedOrder);
+        OrderResponseDto responseDto = orderMapper.toResponseDto(updatedOrder);
+        eventPublisher.publishEvent(OrderChangedEvent.updated(responseDto, previous));
+        return responseDto;
     }
 
+    @RetryOnConflict
     public OrderResponseDto updateOrderStatus(UUID id, Order.OrderStatus status) {
         log.info("Updating order status with ID: {} to: {}", id, status);
         
         Order order = findOrderById(id);
-        Order.OrderStatus oldStatus = order.getStatus();
+        OrderChangedEvent.Snapshot previous = OrderChangedEvent.Snapshot.of(order);
         
-        order.setStatus(status);
-        handleStatusChange(order, oldStatus, status);
+        transition(order, status);
         
         Order updatedOrder = orderRepository.save(order);
         log.info("Order status updated successfully");
-        return orderMapper.toResponseDto(updatedOrder);
+        OrderResponseDto responseDto = orderMapper.toResponseDto(updatedOrder);
+        eventPublisher.publishEvent(OrderChangedEvent.updated(responseDto, previous));
+        return responseDto;
     }
 
-    public List<OrderResponseDto> bulkUpdateStatus(List<UUID> orderIds, Order.OrderStatus status) {
+    public BulkStatusUpdateResponseDto bulkUpdateStatus(List<UUID> orderIds, Order.OrderStatus status) {
         log.info("Bulk updating status for {} orders to: {}", orderIds.size(), status);
         
-        List<Order> orders = orderRepository.findAllById(orderIds);
-        if (orders.size() != orderIds.size()) {
-            throw new ResourceNotFoundException("Some orders not found");
+        // One statement validates against the transition table, updates and returns every found order
+        Set<UUID> uniqueIds = new LinkedHashSet<>(orderIds);
+        List<OrderBulkRepository.StatusTransition> transitions = orderRepository.updateStatusReturning(
+                uniqueIds, status, orderStateMachine.allowedSources(status));
+        
+        orderViewProjector.preload(transitions.stream()
+                .filter(OrderBulkRepository.StatusTransition::applied)
+                .map(transition -> transition.order().getId())
+                .toList());
+        
+        List<OrderResponseDto> updated = new ArrayList<>(transitions.size());
+        List<BulkStatusUpdateResponseDto.RejectedOrderDto> rejected = new ArrayList<>();
+        for (OrderBulkRepository.StatusTransition transition : transitions) {
+            Order order = transition.order();
+            uniqueIds.remove(order.getId());
+            if (!transition.applied() && order.getStatus() == status) {
+                updated.add(orderMapper.toResponseDto(order)); // Already there: a no-op, as on the single-order path
+                continue;
+            }
+            if (!transition.applied()) {
+                String reason = orderStateMachine.canTransition(order.getStatus(), status)
+                        ? "Station tickets still in progress"
+                        : "Cannot change status from " + order.getStatus() + " to " + status;
+                rejected.add(new BulkStatusUpdateResponseDto.RejectedOrderDto(order.getId(), order.getStatus(), reason));
+                continue;
+            }
+            OrderResponseDto responseDto = orderMapper.toResponseDto(order);
+            OrderChangedEvent.Snapshot previous = new OrderChangedEvent.Snapshot(transition.previousStatus(),
+                    order.getPriority(), order.getPaymentStatus(), order.getTotalAmount(), order.getTax(),
+                    order.getTip(), order.getDiscount(), order.getCreatedAt());
+            eventPublisher.publishEvent(OrderChangedEvent.updated(responseDto, previous));
+            updated.add(responseDto);
         }
+        uniqueIds.forEach(missingId -> rejected.add(
+                new BulkStatusUpdateResponseDto.RejectedOrderDto(missingId, null, "Order not found")));
+        log.info("Bulk status update completed: {} updated, {} rejected", updated.size(), rejected.size());
         
-        orders.forEach(order -> {
-            Order.OrderStatus oldStatus = order.getStatus();
-            order.setStatus(status);
-            handleStatusChange(order, oldStatus, status);
-        });
-        
-        List<Order> updatedOrders = orderRepository.saveAll(orders);
-        log.info("Bulk status update completed successfully");
-        
-        return updatedOrders.stream()
-                .map(orderMapper::toResponseDto)
-                .toList();
+        return new BulkStatusUpdateResponseDto(updated, rejected);
     }
 
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public Map<String, Object> getOrderStatistics() {
         log.info("Fetching order statistics");
-        
-        LocalDateTime today = LocalDateTime.now().withHour(0).withMinute(0).withSecond(0);
-        
-        Map<String, Object> statistics = new HashMap<>();
-        statistics.put("totalOrders", orderRepository.count());
-        statistics.put("todayOrders", orderRepository.countOrdersSince(today));
-        statistics.put("pendingOrders", orderRepository.countByStatus(Order.OrderStatus.PENDING));
-        statistics.put("preparingOrders", orderRepository.countByStatus(Order.OrderStatus.PREPARING));
-        statistics.put("readyOrders", orderRepository.countByStatus(Order.OrderStatus.READY));
-        statistics.put("completedOrders", orderRepository.countByStatus(Order.OrderStatus.COMPLETED));
-        
-        Double todayRevenue = orderRepository.getTotalRevenueSince(today);
-        statistics.put("todayRevenue", todayRevenue != null ? todayRevenue : 0.0);
-        
-        Double avgOrderValue = orderRepository.getAverageOrderValue();
-        statistics.put("averageOrderValue", avgOrderValue != null ? avgOrderValue : 0.0);
-        
-        // Status breakdown
-        List<Object[]> statusStats = orderRepository.getOrderCountByStatus();
-        Map<String, Long> statusBreakdown = new HashMap<>();
-        for (Object[] stat : statusStats) {
-            statusBreakdown.put(stat[0].toString(), ((Number) stat[1]).longValue());
-        }
-        statistics.put("statusBreakdown", statusBreakdown);
-        
-        // Priority breakdown
-        List<Object[]> priorityStats = orderRepository.getOrderCountByPriority();
-        Map<String, Long> priorityBreakdown = new HashMap<>();
-        for (Object[] stat : priorityStats) {
-            priorityBreakdown.put(stat[0].toString(), ((Number) stat[1]).longValue());
-        }
-        statistics.put("priorityBreakdown", priorityBreakdown);
-        
-        return statistics;
+        return orderStatistics.getStatistics();
     }
 
+    @RetryOnConflict
     public void deleteOrder(UUID id) {
         log.info("Deleting order with ID: {}", id);
         
@@ -264,46 +313,22 @@ public class OrderService {
         }
         
         orderRepository.deleteById(id);
+        eventPublisher.publishEvent(OrderChangedEvent.deleted(id, OrderChangedEvent.Snapshot.of(order)));
         log.info("Order deleted successfully with ID: {}", id);
     }
 
+    // An order is ready once its last station ticket is; StationTicketService moves it there
+    private void transition(Order order, Order.OrderStatus status) {
+        if (status == Order.OrderStatus.READY && order.getStatus() != status
+                && ticketRepository.lockByOrderId(order.getId()).stream()
+                        .anyMatch(ticket -> ticket.getStatus() != StationTicket.Status.READY)) {
+            throw new BadRequestException("Order " + order.getId() + " still has station tickets in progress");
+        }
+        orderStateMachine.transition(order, status);
+    }
+
     private Order findOrderById(UUID id) {
         return orderRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Order not found with ID: " + id));
     }
-
-    private void handleStatusChange(Order order, Order.OrderStatus oldStatus, Order.OrderStatus newStatus) {
-        switch (newStatus) {
-            case CONFIRMED:
-                if (oldStatus == Order.OrderStatus.PENDING) {
-                    log.info("Order {} confirmed", order.getId());
-                }
-                break;
-            case PREPARING:
-                if (oldStatus == Order.OrderStatus.CONFIRMED) {
-                    log.info("Order {} started preparing", order.getId());
-                }
-                break;
-            case READY:
-                if (oldStatus == Order.OrderStatus.PREPARING) {
-                    order.setActualReadyTime(LocalDateTime.now());
-                    log.info("Order {} is ready", order.getId());
-                }
-                break;
-            case SERVED:
-                if (oldStatus == Order.OrderStatus.READY) {
-                    order.setServedTime(LocalDateTime.now());
-                    log.info("Order {} served", order.getId());
-                }
-                break;
-            case COMPLETED:
-                if (oldStatus == Order.OrderStatus.SERVED) {
-                    log.info("Order {} completed", order.getId());
-                }
-                break;
-            case CANCELLED:
-                log.info("Order {} cancelled", order.getId());
-                break;
-        }
-    }
 } 
\ No newline at end of file
@@ -0,0 +1,95 @@
+package com.scan_and_dine.backend.modules.order.service;
+
+import com.scan_and_dine.backend.exception.InvalidStatusTransitionException;
+import com.scan_and_dine.backend.modules.order.entity.Order;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The allowed order status transitions, compiled into EnumMaps so a check is two array lookups.
+ * Each edge carries the transition's side effect; the only ones are timestamps (preparingStartedAt on
+ * the moves into PREPARING, actualReadyTime on PREPARING -> READY, servedTime on READY -> SERVED). Setting the current status again is always
+ * allowed and has no effect.
+ * <p>
+ * OrderBulkRepositoryImpl applies the same timestamp side effects in SQL; keep the two in sync.
+ */
+@Component
+@Slf4j
+public class OrderStateMachine {
+
+    @FunctionalInterface
+    private interface TransitionHook {
+        void apply(Order order, LocalDateTime at);
+    }
+
+    private static final TransitionHook NO_OP = (order, at) -> {
+    };
+
+    private static final Map<Order.OrderStatus, Map<Order.OrderStatus, TransitionHook>> EDGES =
+            new EnumMap<>(Order.OrderStatus.class);
+    private static final Map<Order.OrderStatus, Set<Order.OrderStatus>> SOURCES = new EnumMap<>(Order.OrderStatus.class);
+
+    static {
+        for (Order.OrderStatus status : Order.OrderStatus.values()) {
+            EDGES.put(status, new EnumMap<>(Order.OrderStatus.class));
+            SOURCES.put(status, EnumSet.of(status));
+        }
+        allow(Order.OrderStatus.PENDING, Order.OrderStatus.CONFIRMED, NO_OP);
+        allow(Order.OrderStatus.PENDING, Order.OrderStatus.PREPARING, (order, at) -> order.setPreparingStartedAt(at));
+        allow(Order.OrderStatus.PENDING, Order.OrderStatus.CANCELLED, NO_OP);
+        allow(Order.OrderStatus.CONFIRMED, Order.OrderStatus.PREPARING, (order, at) -> order.setPreparingStartedAt(at));
+        allow(Order.OrderStatus.CONFIRMED, Order.OrderStatus.CANCELLED, NO_OP);
+        allow(Order.OrderStatus.PREPARING, Order.OrderStatus.READY, (order, at) -> order.setActualReadyTime(at));
+        allow(Order.OrderStatus.PREPARING, Order.OrderStatus.CANCELLED, NO_OP);
+        allow(Order.OrderStatus.READY, Order.OrderStatus.SERVED, (order, at) -> order.setServedTime(at));
+        allow(Order.OrderStatus.READY, Order.OrderStatus.COMPLETED, NO_OP);
+        allow(Order.OrderStatus.READY, Order.OrderStatus.CANCELLED, NO_OP);
+        allow(Order.OrderStatus.SERVED, Order.OrderStatus.COMPLETED, NO_OP);
+    }
+
+    public boolean canTransition(Order.OrderStatus from, Order.OrderStatus to) {
+        return from == to || EDGES.get(from).containsKey(to);
+    }
+
+    /**
+     * Statuses an order may currently be in for a move to {@code to} to be accepted, including {@code to} itself.
+     */
+    public Set<Order.OrderStatus> allowedSources(Order.OrderStatus to) {
+        return Collections.unmodifiableSet(SOURCES.get(to));
+    }
+
+    public Set<Order.OrderStatus> allowedTargets(Order.OrderStatus from) {
+        return Collections.unmodifiableSet(EDGES.get(from).keySet());
+    }
+
+    /**
+     * Validates the move, sets the new status and applies the edge's side effect.
+     *
+     * @throws InvalidStatusTransitionException if the edge is not in the table
+     */
+    public void transition(Order order, Order.OrderStatus to) {
+        Order.OrderStatus from = order.getStatus();
+        if (from == to) {
+            return;
+        }
+        TransitionHook hook = EDGES.get(from).get(to);
+        if (hook == null) {
+            throw new InvalidStatusTransitionException(from, to);
+        }
+        order.setStatus(to);
+        hook.apply(order, LocalDateTime.now());
+        log.info("Order {} moved from {} to {}", order.getId(), from, to);
+    }
+
+    private static void allow(Order.OrderStatus from, Order.OrderStatus to, TransitionHook hook) {
+        EDGES.get(from).put(to, hook);
+        SOURCES.get(to).add(from);
+    }
+}
@@ -0,0 +1,316 @@
+package com.scan_and_dine.backend.modules.order.service;
+
+import com.scan_and_dine.backend.modules.event.dto.DomainEventDto;
+import com.scan_and_dine.backend.modules.event.entity.DomainEvent;
+import com.scan_and_dine.backend.modules.event.repository.DomainEventRepository;
+import com.scan_and_dine.backend.modules.event.service.DomainEventSubscriber;
+import com.scan_and_dine.backend.modules.order.entity.Order;
+import com.scan_and_dine.backend.modules.order.event.OrderChangedEvent;
+import com.scan_and_dine.backend.modules.order.event.OrderEventReader;
+import com.scan_and_dine.backend.modules.order.repository.OrderArchiveRepository;
+import com.scan_and_dine.backend.modules.order.repository.OrderRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Keeps the dashboard order statistics as in-memory counters. Only unfinished orders keep a snapshot of
+ * their counted fields; each order event from the domain event log subtracts the order's snapshot and
+ * adds the new one, so reads never hit the database, changes from other instances are counted and an
+ * unfinished order's event delivered twice changes nothing. A change to an order that already finished
+ * (or its deletion) cannot be applied as a difference and triggers an early reconciliation instead.
+ * <p>
+ * Reconciliation recounts with GROUP BY queries in one repeatable-read transaction, outside the lock,
+ * and swaps the result in. Events that arrive meanwhile are replayed onto the new counters unless the
+ * recount already saw their transaction. Archived orders still count: their totals are read from
+ * orders_archive, and only again after OrderArchiveService has moved more orders there.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OrderStatisticsAggregator implements DomainEventSubscriber {
+
+    private static final Set<Order.OrderStatus> FINISHED =
+            EnumSet.of(Order.OrderStatus.COMPLETED, Order.OrderStatus.CANCELLED);
+
+    private final OrderRepository orderRepository;
+    private final DomainEventRepository eventRepository;
+    private final OrderEventReader orderEventReader;
+    private final TransactionTemplate transactionTemplate;
+
+    // Serializes reconciliations; the counters themselves are guarded by this
+    private final Object reconcileLock = new Object();
+
+    private Counters counters = new Counters(LocalDate.now());
+    private Map<UUID, OrderChangedEvent.Snapshot> snapshots = new HashMap<>();
+    private volatile boolean initialized;
+    private volatile boolean dirty;
+    private List<OrderArchiveRepository.ArchivedTotals> archivedTotals;
+    // Events received while a reconciliation reads the database, null otherwise
+    private List<DomainEventDto> missed;
+
+    @Override
+    public String name() {
+        return "order-statistics";
+    }
+
+    public Map<String, Object> getStatistics() {
+        if (!initialized) {
+            reconcile();
+        }
+        synchronized (this) {
+            rollOverDay();
+
+            Map<String, Object> statistics = new HashMap<>();
+            statistics.put("totalOrders", counters.totalOrders);
+            statistics.put("todayOrders", counters.todayOrders);
+            statistics.put("pendingOrders", counters.countOf(Order.OrderStatus.PENDING));
+            statistics.put("preparingOrders", counters.countOf(Order.OrderStatus.PREPARING));
+            statistics.put("readyOrders", counters.countOf(Order.OrderStatus.READY));
+            statistics.put("completedOrders", counters.countOf(Order.OrderStatus.COMPLETED));
+            statistics.put("todayRevenue", counters.todayRevenue.doubleValue());
+            statistics.put("averageOrderValue", counters.paidOrders > 0
+                    ? counters.paidRevenue.divide(BigDecimal.valueOf(counters.paidOrders), 2, RoundingMode.HALF_UP).doubleValue()
+                    : 0.0);
+            statistics.put("statusBreakdown", toBreakdown(counters.statusCounts));
+            statistics.put("priorityBreakdown", toBreakdown(counters.priorityCounts));
+            return statistics;
+        }
+    }
+
+    @Override
+    public synchronized void onEvent(DomainEventDto event) {
+        if (!orderEventReader.isOrderEvent(event)) {
+            return;
+        }
+        if (missed != null) {
+            missed.add(event);
+        }
+        if (!initialized) {
+            return; // The first reconciliation will include this change
+        }
+        rollOverDay();
+        apply(event);
+    }
+
+    /**
+     * Orders moved between hot and archive tables: the counters are unchanged, but the next
+     * reconciliation has to re-read the archive totals.
+     */
+    public void archiveChanged() {
+        synchronized (this) {
+            archivedTotals = null;
+        }
+        if (initialized) {
+            reconcile();
+        }
+    }
+
+    @Scheduled(initialDelayString = "${orders.statistics.dirty-check-interval:PT10S}",
+            fixedDelayString = "${orders.statistics.dirty-check-interval:PT10S}")
+    public void reconcileIfDirty() {
+        if (dirty) {
+            reconcile();
+        }
+    }
+
+    @Scheduled(initialDelayString = "${orders.statistics.reconcile-interval:PT5M}",
+            fixedDelayString = "${orders.statistics.reconcile-interval:PT5M}")
+    public void reconcile() {
+        synchronized (reconcileLock) {
+            List<OrderArchiveRepository.ArchivedTotals> archived;
+            synchronized (this) {
+                missed = new ArrayList<>();
+                archived = archivedTotals;
+            }
+            Recount recount;
+            try {
+                TransactionTemplate repeatableRead = new TransactionTemplate(transactionTemplate.getTransactionManager());
+                repeatableRead.setReadOnly(true);
+                repeatableRead.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+                recount = repeatableRead.execute(status -> recount(archived));
+            } catch (RuntimeException e) {
+                synchronized (this) {
+                    missed = null;
+                }
+                throw e;
+            }
+            swap(recount);
+        }
+    }
+
+    // Every query sees the snapshot taken by the first one, so counts and order snapshots agree
+    private Recount recount(List<OrderArchiveRepository.ArchivedTotals> archived) {
+        String snapshot = eventRepository.currentSnapshot();
+        Counters fresh = new Counters(LocalDate.now());
+        LocalDateTime startOfDay = fresh.day.atStartOfDay();
+
+        fresh.totalOrders = orderRepository.count();
+        fresh.todayOrders = orderRepository.countOrdersSince(startOfDay);
+        fresh.todayRevenue = orderRepository.getTotalRevenueSince(startOfDay);
+        fresh.paidOrders = orderRepository.countByPaymentStatus(Order.PaymentStatus.PAID);
+        fresh.paidRevenue = orderRepository.getTotalPaidRevenue();
+        for (Object[] row : orderRepository.getOrderCountByStatus()) {
+            fresh.statusCounts.put((Order.OrderStatus) row[0], (Long) row[1]);
+        }
+        for (Object[] row : orderRepository.getOrderCountByPriority()) {
+            fresh.priorityCounts.put((Order.OrderPriority) row[0], (Long) row[1]);
+        }
+
+        Map<UUID, OrderChangedEvent.Snapshot> freshSnapshots = new HashMap<>();
+        for (Object[] row : orderRepository.findSnapshotsByStatusIn(EnumSet.complementOf(EnumSet.copyOf(FINISHED)))) {
+            freshSnapshots.put((UUID) row[0], new OrderChangedEvent.Snapshot((Order.OrderStatus) row[1],
+                    (Order.OrderPriority) row[2], (Order.PaymentStatus) row[3], (BigDecimal) row[4],
+                    (BigDecimal) row[5], (BigDecimal) row[6], (BigDecimal) row[7], (LocalDateTime) row[8]));
+        }
+
+        List<OrderArchiveRepository.ArchivedTotals> totals = archived != null
+                ? archived
+                : orderRepository.getArchivedOrderTotals();
+        totals.forEach(fresh::addArchived);
+        return new Recount(snapshot, fresh, freshSnapshots, totals);
+    }
+
+    private synchronized void swap(Recount recount) {
+        List<DomainEventDto> received = missed;
+        missed = null;
+        // A dirty aggregator expects the recount to differ
+        if (initialized && !dirty && (recount.counters().totalOrders != counters.totalOrders
+                || !toBreakdown(recount.counters().statusCounts).equals(toBreakdown(counters.statusCounts)))) {
+            log.warn("Order statistics drifted from database (total {} -> {}), reconciled",
+                    counters.totalOrders, recount.counters().totalOrders);
+        }
+        counters = recount.counters();
+        snapshots = recount.snapshots();
+        if (archivedTotals == null) {
+            archivedTotals = recount.archivedTotals();
+        }
+        dirty = false;
+        initialized = true;
+
+        if (!received.isEmpty()) {
+            Set<Long> counted = new HashSet<>(eventRepository.findPositionsVisibleIn(
+                    received.stream().map(DomainEventDto::getPosition).toList(), recount.snapshot()));
+            rollOverDay();
+            received.stream()
+                    .filter(event -> !counted.contains(event.getPosition()))
+                    .forEach(this::apply);
+        }
+        log.debug("Order statistics reconciled: {} orders, {} unfinished", counters.totalOrders, snapshots.size());
+    }
+
+    private void apply(DomainEventDto event) {
+        OrderChangedEvent.Snapshot current = orderEventReader.readOrder(event)
+                .map(OrderChangedEvent.Snapshot::of)
+                .orElse(null);
+        OrderChangedEvent.Snapshot previous = snapshots.remove(event.getAggregateId());
+        if (previous == null && event.getType() != DomainEvent.Type.CREATED) {
+            // A finished order changed, or was deleted or archived; its counted state was not kept
+            dirty = true;
+            return;
+        }
+        if (previous != null) {
+            counters.apply(previous, -1);
+        }
+        if (current != null) {
+            counters.apply(current, 1);
+            if (!FINISHED.contains(current.status())) {
+                snapshots.put(event.getAggregateId(), current);
+            }
+        }
+    }
+
+    private void rollOverDay() {
+        LocalDate today = LocalDate.now();
+        if (!today.equals(counters.day)) {
+            counters.day = today;
+            counters.todayOrders = 0;
+            counters.todayRevenue = BigDecimal.ZERO;
+        }
+    }
+
+    private static <E extends Enum<E>> Map<String, Long> toBreakdown(Map<E, Long> counts) {
+        Map<String, Long> breakdown = new HashMap<>();
+        counts.forEach((key, count) -> {
+            if (count > 0) {
+                breakdown.put(key.name(), count);
+            }
+        });
+        return breakdown;
+    }
+
+    private record Recount(String snapshot, Counters counters, Map<UUID, OrderChangedEvent.Snapshot> snapshots,
+                           List<OrderArchiveRepository.ArchivedTotals> archivedTotals) {
+    }
+
+    private static class Counters {
+        private LocalDate day;
+        private long totalOrders;
+        private long todayOrders;
+        private BigDecimal todayRevenue = BigDecimal.ZERO;
+        private long paidOrders;
+        private BigDecimal paidRevenue = BigDecimal.ZERO;
+        private final Map<Order.OrderStatus, Long> statusCounts = new EnumMap<>(Order.OrderStatus.class);
+        private final Map<Order.OrderPriority, Long> priorityCounts = new EnumMap<>(Order.OrderPriority.class);
+
+        private Counters(LocalDate day) {
+            this.day = day;
+        }
+
+        private long countOf(Order.OrderStatus status) {
+            return statusCounts.getOrDefault(status, 0L);
+        }
+
+        // Archived orders are never from today, see OrderArchiveService
+        private void addArchived(OrderArchiveRepository.ArchivedTotals archived) {
+            totalOrders += archived.orders();
+            statusCounts.merge(archived.status(), archived.orders(), Long::sum);
+            priorityCounts.merge(archived.priority(), archived.orders(), Long::sum);
+            if (archived.paymentStatus() == Order.PaymentStatus.PAID) {
+                paidOrders += archived.orders();
+                paidRevenue = paidRevenue.add(archived.totalAmount());
+            }
+        }
+
+        private void apply(OrderChangedEvent.Snapshot snapshot, int sign) {
+            boolean today = snapshot.createdAt() != null && !snapshot.createdAt().isBefore(day.atStartOfDay());
+            BigDecimal amount = snapshot.totalAmount() != null ? snapshot.totalAmount() : BigDecimal.ZERO;
+            BigDecimal signedAmount = sign > 0 ? amount : amount.negate();
+
+            totalOrders += sign;
+            if (today) {
+                todayOrders += sign;
+            }
+            if (snapshot.status() != null) {
+                statusCounts.merge(snapshot.status(), (long) sign, Long::sum);
+            }
+            if (snapshot.priority() != null) {
+                priorityCounts.merge(snapshot.priority(), (long) sign, Long::sum);
+            }
+            if (snapshot.paymentStatus() == Order.PaymentStatus.PAID) {
+                paidOrders += sign;
+                paidRevenue = paidRevenue.add(signedAmount);
+                if (today) {
+                    todayRevenue = todayRevenue.add(signedAmount);
+                }
+            }
+        }
+    }
+}
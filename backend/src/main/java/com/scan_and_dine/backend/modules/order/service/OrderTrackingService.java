@@ -0,0 +1,267 @@
+package com.scan_and_dine.backend.modules.order.service;
+
+import com.scan_and_dine.backend.config.JwtConfig;
+import com.scan_and_dine.backend.modules.event.dto.DomainEventDto;
+import com.scan_and_dine.backend.modules.event.service.DomainEventSubscriber;
+import com.scan_and_dine.backend.modules.order.dto.OrderResponseDto;
+import com.scan_and_dine.backend.modules.order.dto.OrderTrackingEventDto;
+import com.scan_and_dine.backend.modules.order.entity.Order;
+import com.scan_and_dine.backend.modules.order.event.OrderEventReader;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Server-sent event streams that let a customer follow their own order instead of polling it.
+ * <p>
+ * A stream is opened with the order-scoped token issued when the order was placed. It starts with the
+ * order's current status and ETA and then carries only changes to those fields, as order events
+ * arrive from the domain event log, so changes committed on any instance reach it. Each event's id is the order's updatedAt in microseconds, so a client that
+ * reconnects with Last-Event-ID is sent the current state only if the order moved on while it was away.
+ * Comment heartbeats keep idle connections open through proxies; streams end once the order is
+ * completed, cancelled or deleted. Streams live on the instance that accepted them.
+ * <p>
+ * Writes to a client can block, so changes and heartbeats are sent from a small dedicated pool,
+ * never from the relay or the shared scheduler. When its queue is full a stream is closed instead;
+ * the client reconnects and gets the current state.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OrderTrackingService implements DomainEventSubscriber {
+
+    public static final String STATUS_EVENT = "status";
+
+    private static final Set<Order.OrderStatus> TERMINAL_STATUSES =
+            EnumSet.of(Order.OrderStatus.COMPLETED, Order.OrderStatus.CANCELLED);
+
+    private final OrderService orderService;
+    private final JwtConfig jwtConfig;
+    private final OrderEventReader orderEventReader;
+
+    @Value("${orders.tracking.timeout:PT30M}")
+    private Duration timeout;
+
+    @Value("${orders.tracking.reconnect-delay:PT3S}")
+    private Duration reconnectDelay;
+
+    @Value("${orders.tracking.max-streams-per-order:4}")
+    private int maxStreamsPerOrder;
+
+    @Value("${orders.tracking.heartbeat-interval:PT15S}")
+    private Duration heartbeatInterval;
+
+    @Value("${orders.tracking.send-threads:2}")
+    private int sendThreads;
+
+    @Value("${orders.tracking.send-queue-capacity:10000}")
+    private int sendQueueCapacity;
+
+    private final Map<UUID, List<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private ThreadPoolExecutor sender;
+    private ScheduledExecutorService heartbeats;
+
+    @PostConstruct
+    void startSender() {
+        AtomicInteger threads = new AtomicInteger();
+        sender = new ThreadPoolExecutor(sendThreads, sendThreads, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(sendQueueCapacity), task -> {
+                    Thread thread = new Thread(task, "order-tracking-sender-" + threads.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        heartbeats = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "order-tracking-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        });
+        heartbeats.scheduleWithFixedDelay(this::sendHeartbeats, heartbeatInterval.toMillis(),
+                heartbeatInterval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    void stopSender() {
+        heartbeats.shutdownNow();
+        sender.shutdownNow();
+    }
+
+    @Override
+    public String name() {
+        return "order-tracking";
+    }
+
+    public SseEmitter subscribe(UUID orderId, String token, String lastEventId) {
+        if (!jwtConfig.isOrderTrackingToken(token, orderId)) {
+            throw new BadCredentialsException("Invalid or expired order tracking token");
+        }
+        Subscriber subscriber = new Subscriber(orderId, new SseEmitter(timeout.toMillis()), parseVersion(lastEventId));
+        subscriber.emitter.onCompletion(() -> unregister(subscriber));
+        subscriber.emitter.onTimeout(() -> unregister(subscriber));
+        subscriber.emitter.onError(error -> unregister(subscriber));
+        // Registered before the order is read, so a change committed meanwhile is pushed as well;
+        // push() drops whichever of the two states turns out older
+        register(subscriber);
+        OrderResponseDto order;
+        try {
+            order = orderService.getOrderById(orderId);
+        } catch (RuntimeException e) {
+            unregister(subscriber);
+            throw e;
+        }
+
+        try {
+            subscriber.emitter.send(SseEmitter.event().reconnectTime(reconnectDelay.toMillis()).comment("tracking"));
+        } catch (IOException e) {
+            subscriber.emitter.completeWithError(e);
+            return subscriber.emitter;
+        }
+        subscriber.push(toEvent(order));
+        log.debug("Customer subscribed to order {} ({} streams)", orderId, subscribers.getOrDefault(orderId, List.of()).size());
+        return subscriber.emitter;
+    }
+
+    @Override
+    public void onEvent(DomainEventDto event) {
+        if (!orderEventReader.isOrderEvent(event)) {
+            return;
+        }
+        List<Subscriber> streams = subscribers.get(event.getAggregateId());
+        if (streams == null || streams.isEmpty()) {
+            return;
+        }
+        OrderResponseDto order = orderEventReader.readOrder(event).orElse(null);
+        if (order == null) {
+            streams.forEach(subscriber -> send(subscriber, subscriber.emitter::complete));
+            return;
+        }
+        OrderTrackingEventDto state = toEvent(order);
+        // push() ignores a state older than one already sent, so sends may run in any order
+        streams.forEach(subscriber -> send(subscriber, () -> subscriber.push(state)));
+    }
+
+    private void sendHeartbeats() {
+        subscribers.values().forEach(streams -> streams.forEach(subscriber -> send(subscriber, subscriber::heartbeat)));
+    }
+
+    private void send(Subscriber subscriber, Runnable task) {
+        try {
+            sender.execute(task);
+        } catch (RejectedExecutionException e) {
+            log.warn("Order tracking send queue is full, closing a stream of order {}", subscriber.orderId);
+            subscriber.emitter.complete();
+        }
+    }
+
+    private void register(Subscriber subscriber) {
+        List<Subscriber> streams = subscribers.computeIfAbsent(subscriber.orderId, id -> new CopyOnWriteArrayList<>());
+        streams.add(subscriber);
+        // A client that keeps reconnecting without closing its old streams loses the oldest ones
+        while (streams.size() > maxStreamsPerOrder) {
+            streams.remove(0).emitter.complete();
+        }
+    }
+
+    private void unregister(Subscriber subscriber) {
+        subscribers.computeIfPresent(subscriber.orderId, (id, streams) -> {
+            streams.remove(subscriber);
+            return streams.isEmpty() ? null : streams;
+        });
+    }
+
+    private static OrderTrackingEventDto toEvent(OrderResponseDto order) {
+        LocalDateTime updatedAt = order.getUpdatedAt() != null ? order.getUpdatedAt() : order.getCreatedAt();
+        return new OrderTrackingEventDto(order.getId(), order.getStatus(), order.getEstimatedReadyTime(),
+                order.getActualReadyTime(), updatedAt);
+    }
+
+    private static long versionOf(OrderTrackingEventDto state) {
+        LocalDateTime time = state.getUpdatedAt();
+        return time == null ? 0 : time.toEpochSecond(ZoneOffset.UTC) * 1_000_000 + time.getNano() / 1_000;
+    }
+
+    private static long parseVersion(String lastEventId) {
+        if (lastEventId == null || lastEventId.isBlank()) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(lastEventId.trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    private static final class Subscriber {
+
+        private final UUID orderId;
+        private final SseEmitter emitter;
+        private long lastVersion;
+        private OrderTrackingEventDto lastSent;
+
+        private Subscriber(UUID orderId, SseEmitter emitter, long lastVersion) {
+            this.orderId = orderId;
+            this.emitter = emitter;
+            this.lastVersion = lastVersion;
+        }
+
+        /**
+         * Sends the state if it is newer than what the client has and its status or ETA differ from the
+         * last state sent; ends the stream once the order reached a terminal status.
+         */
+        synchronized void push(OrderTrackingEventDto state) {
+            long version = versionOf(state);
+            if (version <= lastVersion) {
+                return;
+            }
+            boolean changed = lastSent == null
+                    || lastSent.getStatus() != state.getStatus()
+                    || !Objects.equals(lastSent.getEstimatedReadyTime(), state.getEstimatedReadyTime())
+                    || !Objects.equals(lastSent.getActualReadyTime(), state.getActualReadyTime());
+            try {
+                if (changed) {
+                    emitter.send(SseEmitter.event().id(String.valueOf(version)).name(STATUS_EVENT).data(state));
+                    lastSent = state;
+                }
+                lastVersion = version;
+                if (TERMINAL_STATUSES.contains(state.getStatus())) {
+                    emitter.complete();
+                }
+            } catch (IOException | IllegalStateException e) {
+                // The client went away; the emitter's completion callback unregisters it
+                emitter.completeWithError(e);
+            }
+        }
+
+        synchronized void heartbeat() {
+            try {
+                emitter.send(SseEmitter.event().comment("heartbeat"));
+            } catch (IOException | IllegalStateException e) {
+                emitter.completeWithError(e);
+            }
+        }
+    }
+}
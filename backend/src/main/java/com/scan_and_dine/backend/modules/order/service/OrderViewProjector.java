@@ -0,0 +1,169 @@
+package com.scan_and_dine.backend.modules.order.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.scan_and_dine.backend.modules.order.dto.OrderResponseDto;
+import com.scan_and_dine.backend.modules.order.entity.Order;
+import com.scan_and_dine.backend.modules.order.entity.OrderView;
+import com.scan_and_dine.backend.modules.order.event.OrderChangedEvent;
+import com.scan_and_dine.backend.modules.order.mapper.OrderMapper;
+import com.scan_and_dine.backend.modules.order.repository.OrderRepository;
+import com.scan_and_dine.backend.modules.order.repository.OrderViewRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Maintains the order_view read model. Every OrderChangedEvent rewrites the order's view inside the
+ * transaction that changed the order, so a read after a write always sees the write. Table number and
+ * menu item name changes are patched into the affected views by TableService and MenuService.
+ * Orders written before the view existed are projected by {@link #backfill()} at startup.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class OrderViewProjector {
+
+    private final OrderViewRepository orderViewRepository;
+    private final OrderRepository orderRepository;
+    private final OrderMapper orderMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${orders.view.backfill-batch-size:500}")
+    private int backfillBatchSize;
+
+    @Transactional(readOnly = true)
+    public Optional<OrderResponseDto> find(UUID orderId) {
+        return orderViewRepository.findDocumentById(orderId).stream()
+                .findFirst()
+                .map(this::fromJson);
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<Long> findVersion(UUID orderId) {
+        return orderViewRepository.findVersionByOrderId(orderId);
+    }
+
+    @Transactional(readOnly = true)
+    public List<OrderResponseDto> findAllById(Collection<UUID> orderIds) {
+        return orderViewRepository.findDocumentsByIdIn(orderIds).stream()
+                .map(this::fromJson)
+                .toList();
+    }
+
+    @Transactional(readOnly = true)
+    public List<OrderResponseDto> findByTableId(UUID tableId) {
+        return orderViewRepository.findDocumentsByTableId(tableId).stream()
+                .map(this::fromJson)
+                .toList();
+    }
+
+    @Transactional(readOnly = true)
+    public List<OrderResponseDto> findByStatusIn(Collection<Order.OrderStatus> statuses) {
+        return orderViewRepository.findDocumentsByStatusIn(statuses).stream()
+                .map(this::fromJson)
+                .toList();
+    }
+
+    // Runs synchronously in the publishing transaction; the view commits or rolls back with the order
+    @EventListener
+    public void onOrderChanged(OrderChangedEvent event) {
+        if (event.getType() == OrderChangedEvent.Type.DELETED || event.getOrder() == null) {
+            orderViewRepository.deleteById(event.getOrderId());
+            return;
+        }
+        OrderResponseDto order = event.getOrder();
+        OrderView view = event.getType() == OrderChangedEvent.Type.CREATED
+                ? null
+                : orderViewRepository.findById(order.getId()).orElse(null);
+        orderViewRepository.save(project(order, view));
+    }
+
+    /**
+     * Loads the views of orders about to change together in one query, so the per-event lookups in
+     * onOrderChanged are answered from the persistence context instead of one SELECT per order.
+     */
+    public void preload(Collection<UUID> orderIds) {
+        if (!orderIds.isEmpty()) {
+            orderViewRepository.findAllById(orderIds);
+        }
+    }
+
+    @Transactional
+    public void tableRenamed(UUID tableId, String tableNumber) {
+        int updated = orderViewRepository.updateTableNumber(tableId, tableNumber);
+        log.debug("Updated table number in {} order views for table {}", updated, tableId);
+    }
+
+    @Transactional
+    public void menuItemRenamed(UUID menuItemId, String name, String imageUrl) {
+        int updated = orderViewRepository.updateMenuItem(menuItemId, name, imageUrl);
+        log.debug("Updated menu item details in {} order views for menu item {}", updated, menuItemId);
+    }
+
+    /**
+     * Projects every order that has no view yet, in batches.
+     */
+    public void backfill() {
+        int projected = 0;
+        int batch;
+        do {
+            Integer count = transactionTemplate.execute(status -> {
+                List<UUID> orderIds = orderViewRepository.findOrderIdsWithoutView(backfillBatchSize);
+                if (orderIds.isEmpty()) {
+                    return 0;
+                }
+                List<OrderView> views = orderRepository.findWithDetailsByIdIn(orderIds).stream()
+                        .map(order -> project(orderMapper.toResponseDto(order), null))
+                        .toList();
+                orderViewRepository.saveAll(views);
+                return views.size();
+            });
+            batch = count != null ? count : 0;
+            projected += batch;
+        } while (batch == backfillBatchSize);
+        if (projected > 0) {
+            log.info("Projected {} orders into order_view", projected);
+        }
+    }
+
+    private OrderView project(OrderResponseDto order, OrderView existing) {
+        OrderView view = existing;
+        if (view == null) {
+            view = new OrderView();
+            view.setOrderId(order.getId());
+            view.setCreated(true);
+        }
+        view.setTableId(order.getTableId());
+        view.setStatus(order.getStatus());
+        view.setCreatedAt(order.getCreatedAt());
+        view.setDocument(toJson(order));
+        return view;
+    }
+
+    private String toJson(OrderResponseDto order) {
+        try {
+            return objectMapper.writeValueAsString(order);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unable to serialize order view for order " + order.getId(), e);
+        }
+    }
+
+    private OrderResponseDto fromJson(String document) {
+        try {
+            return objectMapper.readValue(document, OrderResponseDto.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Order view is unreadable", e);
+        }
+    }
+}
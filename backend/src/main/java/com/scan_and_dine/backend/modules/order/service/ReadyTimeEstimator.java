@@ -0,0 +1,265 @@
+package com.scan_and_dine.backend.modules.order.service;
+
+import com.scan_and_dine.backend.modules.event.dto.DomainEventDto;
+import com.scan_and_dine.backend.modules.event.service.DomainEventSubscriber;
+import com.scan_and_dine.backend.modules.menu.entity.Menu;
+import com.scan_and_dine.backend.modules.menu.repository.MenuRepository;
+import com.scan_and_dine.backend.modules.order.dto.OrderResponseDto;
+import com.scan_and_dine.backend.modules.order.entity.Order;
+import com.scan_and_dine.backend.modules.order.entity.OrderItem;
+import com.scan_and_dine.backend.modules.order.event.OrderEventReader;
+import com.scan_and_dine.backend.modules.order.repository.OrderRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.Period;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Quotes ready times from an in-memory model, without touching the database.
+ * <p>
+ * Items of an order cook in parallel, so an order takes as long as its slowest line, where a line of
+ * {@code quantity} portions needs {@code ceil(quantity / parallel-units)} rounds of the item's prep time.
+ * Prep times start from Menu.preparationTimeMinutes and are then learned per menu item as an exponentially
+ * weighted average of observed PREPARING -> READY durations, attributed to the order's slowest line.
+ * On startup the averages are replayed from orders that became ready within {@code history}, using
+ * the preparingStartedAt and actualReadyTime the state machine stamps on every order.
+ * Waiting time comes from scheduling the remaining work of every active order onto {@code kitchen-slots}
+ * parallel cooks; the model follows the domain event log like the KitchenQueue does.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ReadyTimeEstimator implements DomainEventSubscriber {
+
+    private static final double DEFAULT_PREP_SECONDS = 15 * 60;
+    private static final double MIN_SAMPLE_SECONDS = 60;
+    private static final double MAX_SAMPLE_SECONDS = 4 * 60 * 60;
+    private static final long MINIMUM_ESTIMATE_SECONDS = 5 * 60;
+
+    private final MenuRepository menuRepository;
+    private final OrderRepository orderRepository;
+    private final KitchenQueue kitchenQueue;
+    private final OrderEventReader orderEventReader;
+
+    @Value("${orders.eta.kitchen-slots:3}")
+    private int kitchenSlots;
+
+    @Value("${orders.eta.parallel-units:4}")
+    private int parallelUnits;
+
+    @Value("${orders.eta.smoothing:0.2}")
+    private double smoothing;
+
+    @Value("${orders.eta.history:P7D}")
+    private Period history;
+
+    private final Map<UUID, ItemStats> itemStats = new ConcurrentHashMap<>();
+    private final Map<UUID, ActiveJob> activeJobs = new ConcurrentHashMap<>();
+
+    @Override
+    public String name() {
+        return "ready-time-estimator";
+    }
+
+    /**
+     * Ready time for a new order that joins the back of the current queue. The order's items must
+     * have their menu entries loaded.
+     */
+    public LocalDateTime estimateReadyTime(Order order) {
+        LocalDateTime now = LocalDateTime.now();
+        double prepSeconds = 0;
+        for (OrderItem item : order.getOrderItems()) {
+            ItemStats stats = statsFor(item.getMenuItem());
+            prepSeconds = Math.max(prepSeconds, stats.lineSeconds(item.getQuantity(), parallelUnits));
+        }
+        long totalSeconds = Math.round(waitSeconds(now) + prepSeconds);
+        return now.plusSeconds(Math.max(totalSeconds, MINIMUM_ESTIMATE_SECONDS));
+    }
+
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        itemStats.clear();
+        for (Menu menu : menuRepository.findAll()) {
+            itemStats.put(menu.getId(), new ItemStats(seedSeconds(menu)));
+        }
+        // Replay recently observed prep times oldest first, so a restart does not forget what was learned
+        List<Order> prepared = orderRepository.findPreparedSince(LocalDateTime.now().minus(history));
+        for (Order order : prepared) {
+            learn(order.getId(), order.getOrderItems().stream()
+                            .map(item -> new Line(item.getMenuItem().getId(), item.getQuantity()))
+                            .toList(),
+                    Duration.between(order.getPreparingStartedAt(), order.getActualReadyTime()));
+        }
+        activeJobs.clear();
+        // Orders already preparing keep their start, so their remaining work is not counted in full again
+        kitchenQueue.getActiveOrders().forEach(order -> activeJobs.put(order.getId(), newJob(order, startOf(order))));
+        log.info("Ready time model rebuilt with {} menu items, {} past orders and {} active orders",
+                itemStats.size(), prepared.size(), activeJobs.size());
+    }
+
+    @Override
+    public void onEvent(DomainEventDto event) {
+        if (!orderEventReader.isOrderEvent(event)) {
+            return;
+        }
+        OrderResponseDto order = orderEventReader.readOrder(event).orElse(null);
+        if (order == null) {
+            activeJobs.remove(event.getAggregateId());
+            return;
+        }
+        // A redelivered READY event finds no job left and learns nothing twice
+        switch (order.getStatus()) {
+            case PENDING, CONFIRMED -> activeJobs.computeIfAbsent(order.getId(), id -> newJob(order, null));
+            case PREPARING -> {
+                LocalDateTime startedAt = order.getPreparingStartedAt() != null
+                        ? order.getPreparingStartedAt()
+                        : event.getCreatedAt();
+                activeJobs.compute(order.getId(), (id, job) -> job == null
+                        ? newJob(order, startedAt)
+                        : job.startedAt() != null ? job : job.withStartedAt(startedAt));
+            }
+            case READY -> {
+                ActiveJob job = activeJobs.remove(order.getId());
+                if (job != null && job.startedAt() != null && order.getActualReadyTime() != null) {
+                    learn(order.getId(), lines(order), Duration.between(job.startedAt(), order.getActualReadyTime()));
+                }
+            }
+            default -> activeJobs.remove(order.getId());
+        }
+    }
+
+    // Earliest time one of the kitchen slots is free once every active order's remaining work is assigned
+    private double waitSeconds(LocalDateTime now) {
+        double[] slots = new double[Math.max(kitchenSlots, 1)];
+        for (ActiveJob job : activeJobs.values()) {
+            double remaining = job.startedAt() == null
+                    ? job.predictedSeconds()
+                    : Math.max(0, job.predictedSeconds() - Duration.between(job.startedAt(), now).toSeconds());
+            slots[earliest(slots)] += remaining;
+        }
+        return slots[earliest(slots)];
+    }
+
+    private static int earliest(double[] slots) {
+        int earliest = 0;
+        for (int i = 1; i < slots.length; i++) {
+            if (slots[i] < slots[earliest]) {
+                earliest = i;
+            }
+        }
+        return earliest;
+    }
+
+    private static LocalDateTime startOf(OrderResponseDto order) {
+        return order.getStatus() == Order.OrderStatus.PREPARING ? order.getPreparingStartedAt() : null;
+    }
+
+    private ActiveJob newJob(OrderResponseDto order, LocalDateTime startedAt) {
+        return new ActiveJob(predictSeconds(order.getOrderItems()), startedAt);
+    }
+
+    private double predictSeconds(List<OrderResponseDto.OrderItemResponseDto> items) {
+        double seconds = 0;
+        if (items != null) {
+            for (OrderResponseDto.OrderItemResponseDto item : items) {
+                seconds = Math.max(seconds, statsFor(item.getMenuItemId()).lineSeconds(item.getQuantity(), parallelUnits));
+            }
+        }
+        return seconds > 0 ? seconds : DEFAULT_PREP_SECONDS;
+    }
+
+    // The slowest line decides how long the order takes, so it is the one that learns from the observation
+    private void learn(UUID orderId, List<Line> lines, Duration observed) {
+        Line slowest = null;
+        double slowestSeconds = -1;
+        for (Line item : lines) {
+            double seconds = statsFor(item.menuItemId()).lineSeconds(item.quantity(), parallelUnits);
+            if (seconds > slowestSeconds) {
+                slowest = item;
+                slowestSeconds = seconds;
+            }
+        }
+        if (slowest == null) {
+            return;
+        }
+        double perRound = observed.toSeconds() / (double) rounds(slowest.quantity(), parallelUnits);
+        if (perRound < MIN_SAMPLE_SECONDS || perRound > MAX_SAMPLE_SECONDS) {
+            log.debug("Ignoring prep time outlier of {}s for order {}", observed.toSeconds(), orderId);
+            return;
+        }
+        statsFor(slowest.menuItemId()).record(perRound, smoothing);
+    }
+
+    private static List<Line> lines(OrderResponseDto order) {
+        if (order.getOrderItems() == null) {
+            return List.of();
+        }
+        return order.getOrderItems().stream()
+                .map(item -> new Line(item.getMenuItemId(), item.getQuantity()))
+                .toList();
+    }
+
+    private ItemStats statsFor(Menu menu) {
+        ItemStats stats = itemStats.computeIfAbsent(menu.getId(), id -> new ItemStats(seedSeconds(menu)));
+        stats.reseed(seedSeconds(menu));
+        return stats;
+    }
+
+    private ItemStats statsFor(UUID menuItemId) {
+        return itemStats.computeIfAbsent(menuItemId, id -> new ItemStats(DEFAULT_PREP_SECONDS));
+    }
+
+    private static double seedSeconds(Menu menu) {
+        return menu.getPreparationTimeMinutes() != null ? menu.getPreparationTimeMinutes() * 60.0 : DEFAULT_PREP_SECONDS;
+    }
+
+    private static int rounds(Integer quantity, int parallelUnits) {
+        int portions = quantity != null && quantity > 0 ? quantity : 1;
+        int units = Math.max(parallelUnits, 1);
+        return (portions + units - 1) / units;
+    }
+
+    private static final class ItemStats {
+        private volatile double baseSeconds;
+        private long samples;
+
+        private ItemStats(double baseSeconds) {
+            this.baseSeconds = baseSeconds;
+        }
+
+        private double lineSeconds(Integer quantity, int parallelUnits) {
+            return baseSeconds * rounds(quantity, parallelUnits);
+        }
+
+        private synchronized void record(double seconds, double smoothing) {
+            baseSeconds += smoothing * (seconds - baseSeconds);
+            samples++;
+        }
+
+        // Until the item has been observed, follow edits to the menu's own prep time
+        private synchronized void reseed(double seconds) {
+            if (samples == 0) {
+                baseSeconds = seconds;
+            }
+        }
+    }
+
+    private record Line(UUID menuItemId, Integer quantity) {
+    }
+
+    private record ActiveJob(double predictedSeconds, LocalDateTime startedAt) {
+
+        ActiveJob withStartedAt(LocalDateTime startedAt) {
+            return new ActiveJob(predictedSeconds, startedAt);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.scan_and_dine.backend.modules.order.service;
+
+import com.scan_and_dine.backend.modules.event.dto.DomainEventDto;
+import com.scan_and_dine.backend.modules.order.dto.StationTicketDeltaDto;
+import com.scan_and_dine.backend.modules.order.dto.StationTicketDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+
+/**
+ * Pushes ticket changes to the topic of the ticket's station only, so each station screen receives
+ * its own share of the kitchen's work. StationQueues calls it once it has applied a ticket event from
+ * the log, so every instance pushes every change and a delta never runs ahead of the queue that
+ * serves the station snapshot.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StationBroadcaster {
+
+    public static final String STATION_TOPIC_PREFIX = "/topic/kitchen/stations/";
+
+    private final SimpMessagingTemplate messagingTemplate;
+
+    /**
+     * Sends the change of one ticket; {@code ticket} is null when the ticket was removed.
+     */
+    public void broadcast(String station, UUID ticketId, StationTicketDto ticket, DomainEventDto event) {
+        StationTicketDeltaDto delta = new StationTicketDeltaDto(ticketId, ticket == null, ticket,
+                event.getCreatedAt(), event.getPosition());
+        try {
+            messagingTemplate.convertAndSend(STATION_TOPIC_PREFIX + station, delta);
+        } catch (Exception e) {
+            // Screens re-subscribe for a fresh snapshot, so a lost push must not stall the log
+            log.error("Failed to broadcast ticket {} to station {}: {}", ticketId, station, e.getMessage());
+        }
+    }
+}
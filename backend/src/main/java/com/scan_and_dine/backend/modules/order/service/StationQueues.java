@@ -0,0 +1,142 @@
+package com.scan_and_dine.backend.modules.order.service;
+
+import com.scan_and_dine.backend.modules.event.dto.DomainEventDto;
+import com.scan_and_dine.backend.modules.event.service.DomainEventSubscriber;
+import com.scan_and_dine.backend.modules.menu.entity.Menu;
+import com.scan_and_dine.backend.modules.order.dto.OrderResponseDto;
+import com.scan_and_dine.backend.modules.order.dto.StationStatusDto;
+import com.scan_and_dine.backend.modules.order.dto.StationTicketDto;
+import com.scan_and_dine.backend.modules.order.entity.Order;
+import com.scan_and_dine.backend.modules.order.entity.StationTicket;
+import com.scan_and_dine.backend.modules.order.event.OrderEventReader;
+import com.scan_and_dine.backend.modules.order.repository.StationTicketRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * In-process queue per kitchen station, holding the station's queued and preparing tickets ordered
+ * like the KitchenQueue: priority (highest first), then order creation time. Ready tickets leave
+ * the queue. Reads never touch the database. Writes are applied from the station ticket events of
+ * the domain event log, so tickets changed on other instances show up too, and the queues are rebuilt
+ * from station_tickets at startup. Each applied change is handed to StationBroadcaster.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StationQueues implements DomainEventSubscriber {
+
+    private static final Set<StationTicket.Status> OPEN_STATUSES =
+            EnumSet.of(StationTicket.Status.QUEUED, StationTicket.Status.PREPARING);
+
+    private static final Comparator<QueueKey> TICKET_ORDER = Comparator
+            .comparingInt(QueueKey::priorityOrdinal).reversed()
+            .thenComparing(QueueKey::orderCreatedAt, Comparator.nullsLast(Comparator.naturalOrder()))
+            .thenComparing(QueueKey::ticketId);
+
+    private final StationTicketRepository ticketRepository;
+    private final StationRouter stationRouter;
+    private final OrderViewProjector orderViewProjector;
+    private final OrderEventReader orderEventReader;
+    private final StationBroadcaster stationBroadcaster;
+
+    private final Map<String, ConcurrentSkipListMap<QueueKey, StationTicketDto>> queues = new ConcurrentHashMap<>();
+    private final Map<UUID, QueueKey> keysByTicketId = new ConcurrentHashMap<>();
+
+    @Override
+    public String name() {
+        return "station-queues";
+    }
+
+    public List<StationTicketDto> getTickets(String station) {
+        ConcurrentSkipListMap<QueueKey, StationTicketDto> queue = queues.get(station);
+        return queue != null ? List.copyOf(queue.values()) : List.of();
+    }
+
+    public StationStatusDto getStatus(String station, Set<Menu.MenuCategory> categories) {
+        int queued = 0;
+        int preparing = 0;
+        LocalDateTime oldest = null;
+        for (StationTicketDto ticket : getTickets(station)) {
+            if (ticket.getStatus() == StationTicket.Status.PREPARING) {
+                preparing++;
+            } else {
+                queued++;
+            }
+            if (ticket.getOrderCreatedAt() != null && (oldest == null || ticket.getOrderCreatedAt().isBefore(oldest))) {
+                oldest = ticket.getOrderCreatedAt();
+            }
+        }
+        return new StationStatusDto(station, categories, queued, preparing, oldest);
+    }
+
+    @Transactional(readOnly = true)
+    public synchronized void rebuild() {
+        List<StationTicket> tickets = ticketRepository.findByStatusIn(OPEN_STATUSES);
+        Map<UUID, OrderResponseDto> orders = orderViewProjector.findByStatusIn(KitchenQueue.ACTIVE_STATUSES).stream()
+                .collect(Collectors.toMap(OrderResponseDto::getId, Function.identity()));
+
+        queues.clear();
+        keysByTicketId.clear();
+        for (StationTicket ticket : tickets) {
+            OrderResponseDto order = orders.get(ticket.getOrderId());
+            if (order != null) {
+                place(stationRouter.toDto(ticket, order));
+            }
+        }
+        log.info("Station queues rebuilt with {} open tickets across {} stations", keysByTicketId.size(), queues.size());
+    }
+
+    @Override
+    public synchronized void onEvent(DomainEventDto event) {
+        if (!orderEventReader.isStationTicketEvent(event)) {
+            return;
+        }
+        QueueKey previous = remove(event.getAggregateId());
+        StationTicketDto ticket = orderEventReader.readTicket(event).orElse(null);
+        if (ticket != null) {
+            place(ticket);
+            stationBroadcaster.broadcast(ticket.getStation(), ticket.getId(), ticket, event);
+        } else if (previous != null) {
+            // A ready ticket already left its station's screen
+            stationBroadcaster.broadcast(previous.station(), previous.ticketId(), null, event);
+        }
+    }
+
+    private void place(StationTicketDto ticket) {
+        if (!OPEN_STATUSES.contains(ticket.getStatus())) {
+            return;
+        }
+        Order.OrderPriority priority = ticket.getPriority() != null ? ticket.getPriority() : Order.OrderPriority.MEDIUM;
+        QueueKey key = new QueueKey(ticket.getStation(), priority.ordinal(), ticket.getOrderCreatedAt(), ticket.getId());
+        queues.computeIfAbsent(ticket.getStation(), station -> new ConcurrentSkipListMap<>(TICKET_ORDER)).put(key, ticket);
+        keysByTicketId.put(ticket.getId(), key);
+    }
+
+    private QueueKey remove(UUID ticketId) {
+        QueueKey key = keysByTicketId.remove(ticketId);
+        if (key != null) {
+            ConcurrentSkipListMap<QueueKey, StationTicketDto> queue = queues.get(key.station());
+            if (queue != null) {
+                queue.remove(key);
+            }
+        }
+        return key;
+    }
+
+    private record QueueKey(String station, int priorityOrdinal, LocalDateTime orderCreatedAt, UUID ticketId) {
+    }
+}
@@ -0,0 +1,189 @@
+package com.scan_and_dine.backend.modules.order.service;
+
+import com.scan_and_dine.backend.modules.menu.entity.Menu;
+import com.scan_and_dine.backend.modules.menu.repository.MenuRepository;
+import com.scan_and_dine.backend.modules.order.dto.OrderResponseDto;
+import com.scan_and_dine.backend.modules.order.dto.StationTicketDto;
+import com.scan_and_dine.backend.modules.order.entity.Order;
+import com.scan_and_dine.backend.modules.order.entity.StationTicket;
+import com.scan_and_dine.backend.modules.order.event.OrderChangedEvent;
+import com.scan_and_dine.backend.modules.order.event.StationTicketChangedEvent;
+import com.scan_and_dine.backend.modules.order.repository.StationTicketRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+
+/**
+ * Splits orders into per-station tickets by the menu category of each item, using the
+ * {@code kitchen.stations.routes} map (CATEGORY=station pairs) and {@code default-station} for
+ * categories not listed. Tickets are created with the order and follow it in the same transaction:
+ * a cancelled or deleted order drops its tickets and an edited order republishes its tickets' order
+ * context. Tickets are only closed by their stations; the order becomes READY with its last ticket.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StationRouter {
+
+    private final StationTicketRepository ticketRepository;
+    private final MenuRepository menuRepository;
+    private final OrderViewProjector orderViewProjector;
+    private final ApplicationEventPublisher eventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${kitchen.stations.routes:BEVERAGE=bar,SALAD=cold,DESSERT=cold}")
+    private String routesProperty;
+
+    @Value("${kitchen.stations.default-station:hot}")
+    private String defaultStation;
+
+    private final Map<Menu.MenuCategory, String> routes = new EnumMap<>(Menu.MenuCategory.class);
+
+    @PostConstruct
+    void parseRoutes() {
+        for (String route : routesProperty.split(",")) {
+            if (route.isBlank()) {
+                continue;
+            }
+            String[] parts = route.split("=", 2);
+            if (parts.length != 2 || parts[1].isBlank()) {
+                throw new IllegalStateException("Invalid kitchen station route: " + route.trim());
+            }
+            routes.put(Menu.MenuCategory.valueOf(parts[0].trim()), parts[1].trim());
+        }
+        log.info("Kitchen stations: {} (default {})", stations(), defaultStation);
+    }
+
+    public String stationOf(Menu.MenuCategory category) {
+        return routes.getOrDefault(category, defaultStation);
+    }
+
+    /**
+     * Every configured station, sorted by name.
+     */
+    public Set<String> stations() {
+        Set<String> stations = new TreeSet<>(routes.values());
+        stations.add(defaultStation);
+        return stations;
+    }
+
+    public Set<Menu.MenuCategory> categoriesOf(String station) {
+        Set<Menu.MenuCategory> categories = EnumSet.noneOf(Menu.MenuCategory.class);
+        for (Menu.MenuCategory category : Menu.MenuCategory.values()) {
+            if (stationOf(category).equals(station)) {
+                categories.add(category);
+            }
+        }
+        return categories;
+    }
+
+    // Runs synchronously in the publishing transaction; tickets commit or roll back with the order
+    @EventListener
+    public void onOrderChanged(OrderChangedEvent event) {
+        OrderResponseDto order = event.getType() != OrderChangedEvent.Type.DELETED ? event.getOrder() : null;
+        if (event.getType() == OrderChangedEvent.Type.CREATED) {
+            if (order != null && KitchenQueue.ACTIVE_STATUSES.contains(order.getStatus())) {
+                route(order);
+            }
+            return;
+        }
+        if (order == null || order.getStatus() == Order.OrderStatus.CANCELLED) {
+            List<StationTicket> tickets = ticketRepository.findByOrderId(event.getOrderId());
+            ticketRepository.deleteAll(tickets);
+            tickets.forEach(ticket -> eventPublisher.publishEvent(
+                    StationTicketChangedEvent.removed(ticket.getStation(), ticket.getId())));
+            return;
+        }
+        // OrderService only lets an order become READY once all its tickets are, so tickets never need closing here
+        boolean contextChanged = event.getType() == OrderChangedEvent.Type.UPDATED
+                || (event.getPrevious() != null && event.getPrevious().priority() != order.getPriority());
+        if (!contextChanged) {
+            return;
+        }
+        for (StationTicket ticket : ticketRepository.findByOrderId(order.getId())) {
+            eventPublisher.publishEvent(StationTicketChangedEvent.changed(toDto(ticket, order)));
+        }
+    }
+
+    /**
+     * Creates tickets for active orders placed before station routing existed.
+     */
+    public void backfill() {
+        Integer routed = transactionTemplate.execute(status -> {
+            List<OrderResponseDto> orders = orderViewProjector.findByStatusIn(KitchenQueue.ACTIVE_STATUSES);
+            if (orders.isEmpty()) {
+                return 0;
+            }
+            Set<UUID> routedIds = new HashSet<>(ticketRepository.findOrderIdsWithTickets(
+                    orders.stream().map(OrderResponseDto::getId).toList()));
+            int count = 0;
+            for (OrderResponseDto order : orders) {
+                if (!routedIds.contains(order.getId())) {
+                    route(order);
+                    count++;
+                }
+            }
+            return count;
+        });
+        if (routed != null && routed > 0) {
+            log.info("Routed {} active orders to kitchen stations", routed);
+        }
+    }
+
+    public StationTicketDto toDto(StationTicket ticket, OrderResponseDto order) {
+        Set<UUID> itemIds = new HashSet<>(ticket.getOrderItemIds());
+        List<OrderResponseDto.OrderItemResponseDto> items = order.getOrderItems() == null ? List.of()
+                : order.getOrderItems().stream().filter(item -> itemIds.contains(item.getId())).toList();
+        return new StationTicketDto(ticket.getId(), ticket.getOrderId(), ticket.getStation(), ticket.getStatus(),
+                order.getPriority(), order.getTableNumber(), order.getCustomerName(), order.getSpecialInstructions(),
+                items, order.getCreatedAt(), ticket.getStartedAt(), ticket.getReadyAt());
+    }
+
+    private void route(OrderResponseDto order) {
+        if (order.getOrderItems() == null || order.getOrderItems().isEmpty()) {
+            return;
+        }
+        Map<UUID, Menu.MenuCategory> categories = categoriesOf(order.getOrderItems());
+        Map<String, StationTicket> tickets = new LinkedHashMap<>();
+        for (OrderResponseDto.OrderItemResponseDto item : order.getOrderItems()) {
+            Menu.MenuCategory category = categories.get(item.getMenuItemId());
+            String station = category != null ? stationOf(category) : defaultStation;
+            tickets.computeIfAbsent(station, name -> {
+                StationTicket ticket = new StationTicket();
+                ticket.setOrderId(order.getId());
+                ticket.setStation(name);
+                return ticket;
+            }).getOrderItemIds().add(item.getId());
+        }
+        for (StationTicket ticket : ticketRepository.saveAll(tickets.values())) {
+            eventPublisher.publishEvent(StationTicketChangedEvent.changed(toDto(ticket, order)));
+        }
+    }
+
+    private Map<UUID, Menu.MenuCategory> categoriesOf(Collection<OrderResponseDto.OrderItemResponseDto> items) {
+        Set<UUID> menuItemIds = new HashSet<>();
+        items.forEach(item -> menuItemIds.add(item.getMenuItemId()));
+        Map<UUID, Menu.MenuCategory> categories = new HashMap<>();
+        for (Object[] row : menuRepository.findCategoriesByIdIn(menuItemIds)) {
+            categories.put((UUID) row[0], (Menu.MenuCategory) row[1]);
+        }
+        return categories;
+    }
+}
@@ -0,0 +1,106 @@
+package com.scan_and_dine.backend.modules.order.service;
+
+import com.scan_and_dine.backend.exception.InvalidStatusTransitionException;
+import com.scan_and_dine.backend.exception.ResourceNotFoundException;
+import com.scan_and_dine.backend.modules.order.dto.OrderResponseDto;
+import com.scan_and_dine.backend.modules.order.dto.StationStatusDto;
+import com.scan_and_dine.backend.modules.order.dto.StationTicketDto;
+import com.scan_and_dine.backend.modules.order.entity.Order;
+import com.scan_and_dine.backend.modules.order.entity.StationTicket;
+import com.scan_and_dine.backend.modules.order.event.StationTicketChangedEvent;
+import com.scan_and_dine.backend.modules.order.repository.StationTicketRepository;
+import com.scan_and_dine.backend.util.concurrency.RetryOnConflict;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Station screens move their own tickets; the order follows. The first ticket started moves a
+ * pending or confirmed order to PREPARING, and the order becomes READY once every one of its
+ * tickets is ready.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional
+public class StationTicketService {
+
+    private final StationTicketRepository ticketRepository;
+    private final StationRouter stationRouter;
+    private final StationQueues stationQueues;
+    private final OrderService orderService;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<StationStatusDto> getStations() {
+        return stationRouter.stations().stream()
+                .map(station -> stationQueues.getStatus(station, stationRouter.categoriesOf(station)))
+                .toList();
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<StationTicketDto> getTickets(String station) {
+        requireStation(station);
+        return stationQueues.getTickets(station);
+    }
+
+    @RetryOnConflict
+    public StationTicketDto updateTicketStatus(String station, UUID ticketId, StationTicket.Status status) {
+        log.info("Updating ticket {} at station {} to: {}", ticketId, station, status);
+        requireStation(station);
+
+        UUID orderId = ticketRepository.findById(ticketId)
+                .filter(ticket -> ticket.getStation().equals(station))
+                .map(StationTicket::getOrderId)
+                .orElseThrow(() -> new ResourceNotFoundException("Ticket not found at station " + station + ": " + ticketId));
+        // Sibling tickets are locked too, so exactly one station sees the order's last ticket become ready
+        List<StationTicket> tickets = ticketRepository.lockByOrderId(orderId);
+        StationTicket ticket = tickets.stream()
+                .filter(candidate -> candidate.getId().equals(ticketId))
+                .findFirst()
+                .orElseThrow(() -> new ResourceNotFoundException("Ticket not found at station " + station + ": " + ticketId));
+        if (ticket.getStatus() == status) {
+            return stationRouter.toDto(ticket, orderService.getOrderById(orderId));
+        }
+        if (status.ordinal() < ticket.getStatus().ordinal()) {
+            throw new InvalidStatusTransitionException(ticket.getStatus(), status);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        if (ticket.getStartedAt() == null) {
+            ticket.setStartedAt(now);
+        }
+        if (status == StationTicket.Status.READY) {
+            ticket.setReadyAt(now);
+        }
+        ticket.setStatus(status);
+        ticketRepository.save(ticket);
+
+        OrderResponseDto order = orderService.getOrderById(orderId);
+        if (order.getStatus() == Order.OrderStatus.PENDING || order.getStatus() == Order.OrderStatus.CONFIRMED) {
+            order = orderService.updateOrderStatus(orderId, Order.OrderStatus.PREPARING);
+        }
+        if (tickets.stream().allMatch(sibling -> sibling.getStatus() == StationTicket.Status.READY)
+                && order.getStatus() == Order.OrderStatus.PREPARING) {
+            order = orderService.updateOrderStatus(orderId, Order.OrderStatus.READY);
+            log.info("All station tickets of order {} are ready", orderId);
+        }
+
+        StationTicketDto ticketDto = stationRouter.toDto(ticket, order);
+        eventPublisher.publishEvent(StationTicketChangedEvent.changed(ticketDto));
+        return ticketDto;
+    }
+
+    private void requireStation(String station) {
+        if (!stationRouter.stations().contains(station)) {
+            throw new ResourceNotFoundException("Kitchen station not found: " + station);
+        }
+    }
+}
@@ -0,0 +1,38 @@
+package com.scan_and_dine.backend.modules.sync.controller;
+
+import com.scan_and_dine.backend.modules.order.dto.OrderResponseDto;
+import com.scan_and_dine.backend.modules.sync.dto.SyncChangesDto;
+import com.scan_and_dine.backend.modules.sync.service.SyncService;
+import com.scan_and_dine.backend.modules.table.dto.TableResponseDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/sync")
+@RequiredArgsConstructor
+@Slf4j
+public class SyncController {
+
+    private final SyncService syncService;
+
+    @GetMapping("/orders")
+    public ResponseEntity<SyncChangesDto<OrderResponseDto>> getOrderChanges(
+            @RequestParam(defaultValue = "0") long since,
+            @RequestParam(defaultValue = "200") int limit) {
+        log.info("Fetching order changes since: {}", since);
+        return ResponseEntity.ok(syncService.getOrderChanges(since, limit));
+    }
+
+    @GetMapping("/tables")
+    public ResponseEntity<SyncChangesDto<TableResponseDto>> getTableChanges(
+            @RequestParam(defaultValue = "0") long since,
+            @RequestParam(defaultValue = "200") int limit) {
+        log.info("Fetching table changes since: {}", since);
+        return ResponseEntity.ok(syncService.getTableChanges(since, limit));
+    }
+}
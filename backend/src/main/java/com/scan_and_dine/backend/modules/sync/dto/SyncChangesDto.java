@@ -0,0 +1,23 @@
+package com.scan_and_dine.backend.modules.sync.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SyncChangesDto<T> {
+    // Pass as since on the next call
+    private long cursor;
+    private boolean hasMore;
+    // The client's cursor is older than the retained change log: reload in full, then sync from cursor
+    private boolean resetRequired;
+    // Current state of every row changed after since
+    private List<T> changed;
+    // Tombstones: ids deleted after since
+    private List<UUID> deleted;
+}
@@ -0,0 +1,93 @@
+package com.scan_and_dine.backend.modules.sync.service;
+
+import com.scan_and_dine.backend.modules.event.dto.DomainEventDto;
+import com.scan_and_dine.backend.modules.event.entity.DomainEvent;
+import com.scan_and_dine.backend.modules.event.service.DomainEventRelay;
+import com.scan_and_dine.backend.modules.order.dto.OrderResponseDto;
+import com.scan_and_dine.backend.modules.order.service.OrderViewProjector;
+import com.scan_and_dine.backend.modules.sync.dto.SyncChangesDto;
+import com.scan_and_dine.backend.modules.table.dto.TableResponseDto;
+import com.scan_and_dine.backend.modules.table.service.TableService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * "What changed since I last looked" for staff clients, read off the domain event log.
+ * <p>
+ * The cursor is a log position: positions are gap-free and handed out only after commit, so a client
+ * that synced up to position n never misses a change later committed below it. Events after the cursor
+ * are collapsed per aggregate; deleted or archived aggregates, and changed ones whose row is already gone,
+ * come back as tombstones and all others as their current row, which may already include changes
+ * after the returned cursor (they are sent again on the next call).
+ * A cursor older than the log's retention, or ahead of its head, asks the client to reload in full.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class SyncService {
+
+    private final DomainEventRelay eventRelay;
+    private final OrderViewProjector orderViewProjector;
+    private final TableService tableService;
+
+    @Value("${sync.max-limit:500}")
+    private int maxLimit;
+
+    public SyncChangesDto<OrderResponseDto> getOrderChanges(long since, int limit) {
+        return changesSince(DomainEvent.AggregateType.ORDER, since, limit, orderViewProjector::findAllById,
+                OrderResponseDto::getId);
+    }
+
+    public SyncChangesDto<TableResponseDto> getTableChanges(long since, int limit) {
+        return changesSince(DomainEvent.AggregateType.TABLE, since, limit, tableService::getTablesById,
+                TableResponseDto::getId);
+    }
+
+    private <T> SyncChangesDto<T> changesSince(DomainEvent.AggregateType aggregateType, long since, int limit,
+                                               Function<Collection<UUID>, List<T>> loader,
+                                               Function<T, UUID> idOf) {
+        long head = eventRelay.getHeadPosition();
+        long tail = eventRelay.getTailPosition();
+        if (since < 0 || since > head || (tail > 0 && since < tail - 1)) {
+            log.info("{} sync cursor {} is outside the retained log ({}..{}), client must reload",
+                    aggregateType, since, tail, head);
+            return new SyncChangesDto<>(head, false, true, List.of(), List.of());
+        }
+
+        int boundedLimit = Math.max(1, Math.min(limit, maxLimit));
+        List<DomainEventDto> events = eventRelay.readFrom(aggregateType, since, boundedLimit);
+        // Latest change per aggregate, kept in the order of that change
+        Map<UUID, DomainEvent.Type> latest = new LinkedHashMap<>();
+        for (DomainEventDto event : events) {
+            latest.remove(event.getAggregateId());
+            latest.put(event.getAggregateId(), event.getType());
+        }
+        List<UUID> changedIds = new ArrayList<>();
+        List<UUID> deleted = new ArrayList<>();
+        latest.forEach((id, type) -> (type == DomainEvent.Type.DELETED ? deleted : changedIds).add(id));
+
+        // A changed id without a row is gone by now (deleted after this page, or archived); send it as a
+        // tombstone, since its DELETED event may be past the client's next cursor or never have been recorded
+        List<T> changed = changedIds.isEmpty() ? List.of() : loader.apply(changedIds);
+        if (changed.size() < changedIds.size()) {
+            Set<UUID> found = changed.stream().map(idOf).collect(Collectors.toSet());
+            changedIds.stream().filter(id -> !found.contains(id)).forEach(deleted::add);
+        }
+        long cursor = events.isEmpty() ? since : events.get(events.size() - 1).getPosition();
+        return new SyncChangesDto<>(cursor, events.size() == boundedLimit, false, changed, deleted);
+    }
+}
@@ -1,22 +1,26 @@
 package com.scan_and_dine.backend.modules.table.controller;
 
 import com.scan_and_dine.backend.modules.table.dto.CreateTableRequestDto;
+import com.scan_and_dine.backend.modules.table.dto.TableBillDto;
 import com.scan_and_dine.backend.modules.table.dto.TableResponseDto;
 import com.scan_and_dine.backend.modules.table.dto.UpdateTableRequestDto;
 import com.scan_and_dine.backend.modules.table.dto.SeatCustomersRequestDto;
 import com.scan_and_dine.backend.modules.table.dto.BulkStatusUpdateRequestDto;
 import com.scan_and_dine.backend.modules.table.entity.Table;
 import com.scan_and_dine.backend.modules.table.service.TableService;
+import com.scan_and_dine.backend.util.http.ConditionalRequests;
+import com.scan_and_dine.backend.util.pagination.CursorPage;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 import java.util.Map;
@@ -38,7 +42,7 @@ public class TableController {
     }
 
     @GetMapping(value = {"", "/"})
-    public ResponseEntity<Page<TableResponseDto>> getAllTables(
+    public ResponseEntity<Slice<TableResponseDto>> getAllTables(
             @RequestParam(required = false) String number,
             @RequestParam(required = false) String location,
             @RequestParam(required = false) Table.TableStatus status,
@@ -46,7 +50,8 @@ public class TableController {
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "number") String sortBy,
-            @RequestParam(defaultValue = "asc") String sortDir) {
+            @RequestParam(defaultValue = "asc") String sortDir,
+            @RequestParam(defaultValue = "true") boolean includeTotal) {
         
         log.info("Fetching tables with filters and pagination: page={}, size={}, sortBy={}, sortDir={}", 
                 page, size, sortBy, sortDir);
@@ -55,16 +60,34 @@ public class TableController {
                 Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
         
         Pageable pageable = PageRequest.of(page, size, sort);
-        Page<TableResponseDto> tables = tableService.getAllTables(number, location, status, isOccupied, pageable);
+        Slice<TableResponseDto> tables = includeTotal
+                ? tableService.getAllTables(number, location, status, isOccupied, pageable)
+                : tableService.getTableSlice(number, location, status, isOccupied, pageable);
+        
+        return ResponseEntity.ok(tables);
+    }
+
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPage<TableResponseDto>> getTablesByCursor(
+            @RequestParam(required = false) String number,
+            @RequestParam(required = false) String location,
+            @RequestParam(required = false) Table.TableStatus status,
+            @RequestParam(required = false) Boolean isOccupied,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "10") int size) {
+        
+        log.info("Fetching tables by cursor: after={}, size={}", after, size);
+        CursorPage<TableResponseDto> tables = tableService.getTablesAfter(
+                number, location, status, isOccupied, after, size);
         
         return ResponseEntity.ok(tables);
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<TableResponseDto> getTableById(@PathVariable UUID id) {
+    public ResponseEntity<TableResponseDto> getTableById(@PathVariable UUID id, WebRequest request) {
         log.info("Fetching table by ID: {}", id);
-        TableResponseDto table = tableService.getTableById(id);
-        return ResponseEntity.ok(table);
+        return ConditionalRequests.okIfModified(request, tableService.getTableEntityTag(id),
+                () -> tableService.getTableById(id));
     }
 
     @GetMapping("/number/{number}")
@@ -127,6 +150,18 @@ public class TableController {
         return ResponseEntity.ok(table);
     }
 
+    @GetMapping("/{id}/bill")
+    public ResponseEntity<TableBillDto> getBill(@PathVariable UUID id) {
+        log.info("Fetching bill for table ID: {}", id);
+        return ResponseEntity.ok(tableService.getBill(id));
+    }
+
+    @PostMapping("/{id}/checkout")
+    public ResponseEntity<TableBillDto> checkout(@PathVariable UUID id) {
+        log.info("Checking out table ID: {}", id);
+        return ResponseEntity.ok(tableService.checkout(id));
+    }
+
     @GetMapping("/{id}/qr-code")
     public ResponseEntity<Map<String, String>> generateQRCode(@PathVariable UUID id) {
         log.info("Generating QR code for table ID: {}", id);
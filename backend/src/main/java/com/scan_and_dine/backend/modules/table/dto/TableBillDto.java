@@ -0,0 +1,34 @@
+package com.scan_and_dine.backend.modules.table.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TableBillDto {
+    private UUID tableId;
+    private String tableNumber;
+    private Integer customers;
+    private LocalDateTime sessionStartTime;
+    // Set once the session has been checked out
+    private LocalDateTime closedAt;
+    private BigDecimal totalAmount;
+    // One line per order charged to the session, cancelled orders with a zero amount
+    private List<BillLineDto> lines;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class BillLineDto {
+        private UUID orderId;
+        private BigDecimal amount;
+        private LocalDateTime chargedAt;
+    }
+}
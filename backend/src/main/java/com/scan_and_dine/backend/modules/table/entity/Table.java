@@ -18,7 +18,9 @@ import java.util.List;
 import java.util.UUID;
 
 @Entity
-@jakarta.persistence.Table(name = "tables")
+@jakarta.persistence.Table(name = "tables", indexes = {
+        @Index(name = "idx_tables_created_at_id", columnList = "createdAt, id")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -84,6 +86,9 @@ public class Table {
     @Column(name = "updatedAt")
     private LocalDateTime updatedAt;
 
+    @Version
+    private Long version;
+
     public enum TableStatus {
         AVAILABLE, OCCUPIED, RESERVED, CLEANING, MAINTENANCE
     }
@@ -0,0 +1,54 @@
+package com.scan_and_dine.backend.modules.table.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.CreationTimestamp;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * One change to the bill of a table session. A session is identified by its table and start time;
+ * the entries of an order sum up to what the order currently adds to that session's bill.
+ */
+@Entity
+@jakarta.persistence.Table(name = "table_session_entries", indexes = {
+        @Index(name = "idx_table_session_entries_session", columnList = "tableId, sessionStartTime, createdAt"),
+        @Index(name = "idx_table_session_entries_order_id", columnList = "orderId")
+})
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TableSessionEntry {
+    @Id
+    @GeneratedValue(strategy = GenerationType.AUTO)
+    private UUID id;
+
+    @Column(nullable = false)
+    private UUID tableId;
+
+    @Column(nullable = false)
+    private LocalDateTime sessionStartTime;
+
+    @Column(nullable = false)
+    private UUID orderId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Reason reason;
+
+    // Signed change of the session total
+    @Column(nullable = false, precision = 10, scale = 2)
+    private BigDecimal amount;
+
+    @CreationTimestamp
+    @Column(name = "createdAt", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    public enum Reason {
+        ORDER_PLACED, ORDER_ADJUSTED, ORDER_CANCELLED, ORDER_DELETED
+    }
+}
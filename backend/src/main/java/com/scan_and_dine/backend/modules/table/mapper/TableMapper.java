@@ -25,6 +25,7 @@ public interface TableMapper {
     @Mapping(target = "lastCleaned", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "version", ignore = true)
     Table toEntity(CreateTableRequestDto requestDto);
 
     @AfterMapping
@@ -38,6 +39,7 @@ public interface TableMapper {
     @Mapping(target = "qrCode", ignore = true)
     @Mapping(target = "createdAt", ignore = true)
     @Mapping(target = "updatedAt", ignore = true)
+    @Mapping(target = "version", ignore = true)
     @BeanMapping(nullValuePropertyMappingStrategy = NullValuePropertyMappingStrategy.IGNORE)
     void updateEntityFromDto(UpdateTableRequestDto requestDto, @MappingTarget Table table);
 
@@ -1,38 +1,27 @@
 package com.scan_and_dine.backend.modules.table.repository;
 
 import com.scan_and_dine.backend.modules.table.entity.Table;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 @Repository
-public interface TableRepository extends JpaRepository<Table, UUID> {
+public interface TableRepository extends JpaRepository<Table, UUID>, JpaSpecificationExecutor<Table>,
+        TableSessionRepository {
 
     Optional<Table> findByNumber(String number);
 
     boolean existsByNumber(String number);
 
-    @Query(value = "SELECT * FROM tables t WHERE " +
-           "(:number IS NULL OR UPPER(t.number) ILIKE UPPER('%' || :number || '%')) AND " +
-           "(:location IS NULL OR UPPER(t.location) ILIKE UPPER('%' || :location || '%')) AND " +
-           "(:status IS NULL OR t.status = :status) AND " +
-           "(:isOccupied IS NULL OR t.is_occupied = :isOccupied)",
-           nativeQuery = true)
-    Page<Table> findTablesWithFilters(@Param("number") String number,
-                                     @Param("location") String location,
-                                     @Param("status") String status,
-                                     @Param("isOccupied") Boolean isOccupied,
-                                     Pageable pageable);
-
     List<Table> findByStatusIn(List<Table.TableStatus> statuses);
 
     List<Table> findByStatus(Table.TableStatus status);
@@ -55,12 +44,30 @@ public interface TableRepository extends JpaRepository<Table, UUID> {
            nativeQuery = true)
     List<Table> searchTables(@Param("query") String query);
 
-    @Modifying
-    @Query(value = "UPDATE tables SET status = :status, updated_at = CURRENT_TIMESTAMP WHERE id IN :tableIds", nativeQuery = true)
-    int bulkUpdateStatus(@Param("tableIds") List<UUID> tableIds, @Param("status") String status);
+    // One UPDATE ... RETURNING round trip. Not @Modifying because the statement yields rows.
+    // Bumps version so in-flight JPA writers of the same rows fail their optimistic check.
+    // Releasing tables clears the session fields the same way TableService.clearTableSession does.
+    @Query(value = "UPDATE tables SET status = :status, is_occupied = :isOccupied, updated_at = :now, version = version + 1, " +
+           "current_customers = CASE WHEN :clearSession THEN NULL ELSE current_customers END, " +
+           "current_order = CASE WHEN :clearSession THEN NULL ELSE current_order END, " +
+           "current_reservation = CASE WHEN :clearSession THEN NULL ELSE current_reservation END, " +
+           "session_start_time = CASE WHEN :clearSession THEN NULL ELSE session_start_time END, " +
+           "total_session_amount = CASE WHEN :clearSession THEN NULL ELSE total_session_amount END " +
+           "WHERE id IN (:tableIds) RETURNING *", nativeQuery = true)
+    List<Table> updateStatusReturning(@Param("tableIds") Collection<UUID> tableIds,
+                                     @Param("status") String status,
+                                     @Param("isOccupied") boolean isOccupied,
+                                     @Param("clearSession") boolean clearSession,
+                                     @Param("now") LocalDateTime now);
+
+    @Query("SELECT t.version FROM Table t WHERE t.id = :tableId")
+    Optional<Long> findVersionById(@Param("tableId") UUID tableId);
+
+    @Query("SELECT t.sessionStartTime FROM Table t WHERE t.id = :tableId")
+    Optional<LocalDateTime> findSessionStartTime(@Param("tableId") UUID tableId);
 
     @Modifying
-    @Query(value = "UPDATE tables SET last_cleaned = CURRENT_TIMESTAMP, updated_at = CURRENT_TIMESTAMP WHERE id = :tableId", nativeQuery = true)
+    @Query(value = "UPDATE tables SET last_cleaned = CURRENT_TIMESTAMP, updated_at = CURRENT_TIMESTAMP, version = version + 1 WHERE id = :tableId", nativeQuery = true)
     int updateLastCleaned(@Param("tableId") UUID tableId);
 
     @Query("SELECT COUNT(t) FROM Table t WHERE t.status = :status")
@@ -0,0 +1,18 @@
+package com.scan_and_dine.backend.modules.table.repository;
+
+import com.scan_and_dine.backend.modules.table.entity.TableSessionEntry;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface TableSessionEntryRepository extends JpaRepository<TableSessionEntry, UUID> {
+
+    List<TableSessionEntry> findByOrderIdOrderByCreatedAtAsc(UUID orderId);
+
+    List<TableSessionEntry> findByTableIdAndSessionStartTimeOrderByCreatedAtAsc(UUID tableId,
+                                                                                 LocalDateTime sessionStartTime);
+}
@@ -0,0 +1,18 @@
+package com.scan_and_dine.backend.modules.table.repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Session bill mutations that update the tables row directly and then bring the managed Table in line.
+ */
+public interface TableSessionRepository {
+
+    /**
+     * Adds {@code amount} to the bill of the given session in one atomic UPDATE, only while that session is
+     * still open; returns 0 once it is closed. A Table already loaded in the transaction is refreshed
+     * afterwards, so it carries the new amount and version instead of overwriting them on flush.
+     */
+    int addToSessionAmount(UUID tableId, LocalDateTime sessionStartTime, BigDecimal amount, LocalDateTime now);
+}
@@ -0,0 +1,37 @@
+package com.scan_and_dine.backend.modules.table.repository;
+
+import com.scan_and_dine.backend.modules.table.entity.Table;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+class TableSessionRepositoryImpl implements TableSessionRepository {
+
+    private static final String ADD_TO_SESSION_AMOUNT =
+            "UPDATE tables SET total_session_amount = COALESCE(total_session_amount, 0) + :amount, " +
+            "updated_at = :now, version = version + 1 " +
+            "WHERE id = :tableId AND session_start_time = :sessionStartTime";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public int addToSessionAmount(UUID tableId, LocalDateTime sessionStartTime, BigDecimal amount,
+                                  LocalDateTime now) {
+        // Pending changes to the table are written first; the refresh below would otherwise discard them
+        entityManager.flush();
+        int updated = entityManager.createNativeQuery(ADD_TO_SESSION_AMOUNT)
+                .setParameter("tableId", tableId)
+                .setParameter("sessionStartTime", sessionStartTime)
+                .setParameter("amount", amount)
+                .setParameter("now", now)
+                .executeUpdate();
+        if (updated > 0) {
+            entityManager.refresh(entityManager.getReference(Table.class, tableId));
+        }
+        return updated;
+    }
+}
@@ -0,0 +1,45 @@
+package com.scan_and_dine.backend.modules.table.repository;
+
+import com.scan_and_dine.backend.modules.table.entity.Table;
+import com.scan_and_dine.backend.util.query.SortWhitelist;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.scan_and_dine.backend.util.query.FilterPredicates.containsIgnoreCase;
+
+/**
+ * Builds table filters that only contain the predicates actually supplied,
+ * so each filter combination maps to one stable SQL shape.
+ */
+public final class TableSpecifications {
+
+    public static final SortWhitelist SORTABLE = SortWhitelist.of(
+            "number", "capacity", "status", "location", "createdAt", "updatedAt", "lastCleaned");
+
+    private TableSpecifications() {
+    }
+
+    public static Specification<Table> withFilters(String number, String location,
+                                                   Table.TableStatus status, Boolean isOccupied) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (StringUtils.hasText(number)) {
+                predicates.add(containsIgnoreCase(cb, root.get("number"), number));
+            }
+            if (StringUtils.hasText(location)) {
+                predicates.add(containsIgnoreCase(cb, root.get("location"), location));
+            }
+            if (status != null) {
+                predicates.add(cb.equal(root.get("status"), status));
+            }
+            if (isOccupied != null) {
+                predicates.add(cb.equal(root.get("isOccupied"), isOccupied));
+            }
+            return cb.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+}
@@ -1,24 +1,39 @@
 package com.scan_and_dine.backend.modules.table.service;
 
+import com.scan_and_dine.backend.exception.BadRequestException;
 import com.scan_and_dine.backend.exception.DuplicateResourceException;
 import com.scan_and_dine.backend.exception.ResourceNotFoundException;
+import com.scan_and_dine.backend.modules.event.entity.DomainEvent;
+import com.scan_and_dine.backend.modules.event.service.DomainEventRecorder;
+import com.scan_and_dine.backend.modules.order.service.OrderViewProjector;
 import com.scan_and_dine.backend.modules.table.dto.CreateTableRequestDto;
+import com.scan_and_dine.backend.modules.table.dto.TableBillDto;
 import com.scan_and_dine.backend.modules.table.dto.TableResponseDto;
 import com.scan_and_dine.backend.modules.table.dto.UpdateTableRequestDto;
 import com.scan_and_dine.backend.modules.table.entity.Table;
 import com.scan_and_dine.backend.modules.table.mapper.TableMapper;
 import com.scan_and_dine.backend.modules.table.repository.TableRepository;
+import com.scan_and_dine.backend.modules.table.repository.TableSpecifications;
+import com.scan_and_dine.backend.util.concurrency.RetryOnConflict;
+import com.scan_and_dine.backend.util.http.ConditionalRequests;
+import com.scan_and_dine.backend.util.pagination.CursorPage;
+import com.scan_and_dine.backend.util.pagination.KeysetCursor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 
 @Service
@@ -29,6 +44,9 @@ public class TableService {
 
     private final TableRepository tableRepository;
     private final TableMapper tableMapper;
+    private final DomainEventRecorder eventRecorder;
+    private final OrderViewProjector orderViewProjector;
+    private final TableSessionLedger sessionLedger;
 
     public TableResponseDto createTable(CreateTableRequestDto requestDto) {
         log.info("Creating table with number: {}", requestDto.getNumber());
@@ -41,7 +59,15 @@ public class TableService {
         Table savedTable = tableRepository.save(table);
         
         log.info("Table created successfully with ID: {}", savedTable.getId());
-        return tableMapper.toResponseDto(savedTable);
+        return recorded(DomainEvent.Type.CREATED, tableMapper.toResponseDto(savedTable));
+    }
+
+    /**
+     * ETag of one table, from its version alone; null when the table does not exist.
+     */
+    @Transactional(readOnly = true)
+    public String getTableEntityTag(UUID id) {
+        return tableRepository.findVersionById(id).map(ConditionalRequests::entityTag).orElse(null);
     }
 
     @Transactional(readOnly = true)
@@ -51,6 +77,13 @@ public class TableService {
         return tableMapper.toResponseDto(table);
     }
 
+    @Transactional(readOnly = true)
+    public List<TableResponseDto> getTablesById(Collection<UUID> ids) {
+        return tableRepository.findAllById(ids).stream()
+                .map(tableMapper::toResponseDto)
+                .toList();
+    }
+
     @Transactional(readOnly = true)
     public TableResponseDto getTableByNumber(String number) {
         log.info("Fetching table by number: {}", number);
@@ -64,11 +97,42 @@ public class TableService {
                                              Table.TableStatus status, Boolean isOccupied, 
                                              Pageable pageable) {
         log.info("Fetching tables with filters and pagination");
-        String statusStr = status != null ? status.name() : null;
-        return tableRepository.findTablesWithFilters(number, location, statusStr, isOccupied, pageable)
+        return tableRepository.findAll(TableSpecifications.withFilters(number, location, status, isOccupied),
+                        TableSpecifications.SORTABLE.apply(pageable))
+                .map(tableMapper::toResponseDto);
+    }
+
+    @Transactional(readOnly = true)
+    public Slice<TableResponseDto> getTableSlice(String number, String location, 
+                                               Table.TableStatus status, Boolean isOccupied, 
+                                               Pageable pageable) {
+        log.info("Fetching table slice with filters (no total count)");
+        Specification<Table> spec = TableSpecifications.withFilters(number, location, status, isOccupied);
+        Pageable sorted = TableSpecifications.SORTABLE.apply(pageable);
+        return tableRepository.findBy(spec, query -> query.slice(sorted))
                 .map(tableMapper::toResponseDto);
     }
 
+    @Transactional(readOnly = true)
+    public CursorPage<TableResponseDto> getTablesAfter(String number, String location,
+                                                      Table.TableStatus status, Boolean isOccupied,
+                                                      String after, int size) {
+        log.info("Fetching tables with filters after cursor: {}", after);
+        Specification<Table> spec = TableSpecifications.withFilters(number, location, status, isOccupied);
+        KeysetCursor cursor = KeysetCursor.decode(after);
+        if (cursor != null) {
+            spec = spec.and(cursor.seek());
+        }
+        Pageable lookahead = KeysetCursor.lookahead(size);
+        
+        List<Table> tables = tableRepository.findBy(spec, query -> query
+                .sortBy(lookahead.getSort())
+                .limit(lookahead.getPageSize())
+                .all());
+        return CursorPage.of(tables, lookahead,
+                table -> new KeysetCursor(table.getCreatedAt(), table.getId()), tableMapper::toResponseDto);
+    }
+
     @Transactional(readOnly = true)
     public List<TableResponseDto> getTablesByStatus(Table.TableStatus status) {
         log.info("Fetching tables with status: {}", status);
@@ -96,6 +160,7 @@ public class TableService {
                 .toList();
     }
 
+    @RetryOnConflict
     public TableResponseDto updateTable(UUID id, UpdateTableRequestDto requestDto) {
         log.info("Updating table with ID: {}", id);
         
@@ -108,13 +173,18 @@ public class TableService {
             throw new DuplicateResourceException("Table number already exists: " + requestDto.getNumber());
         }
         
+        String previousNumber = existingTable.getNumber();
         tableMapper.updateEntityFromDto(requestDto, existingTable);
         Table updatedTable = tableRepository.save(existingTable);
+        if (!updatedTable.getNumber().equals(previousNumber)) {
+            orderViewProjector.tableRenamed(updatedTable.getId(), updatedTable.getNumber());
+        }
         
         log.info("Table updated successfully with ID: {}", updatedTable.getId());
-        return tableMapper.toResponseDto(updatedTable);
+        return recorded(DomainEvent.Type.UPDATED, tableMapper.toResponseDto(updatedTable));
     }
 
+    @RetryOnConflict
     public TableResponseDto updateTableStatus(UUID id, Table.TableStatus status) {
         log.info("Updating table status with ID: {} to status: {}", id, status);
         
@@ -140,9 +210,10 @@ public class TableService {
         
         Table updatedTable = tableRepository.save(table);
         log.info("Table status updated successfully");
-        return tableMapper.toResponseDto(updatedTable);
+        return recorded(DomainEvent.Type.STATUS_CHANGED, tableMapper.toResponseDto(updatedTable));
     }
 
+    @RetryOnConflict
     public TableResponseDto seatCustomers(UUID id, Integer customerCount) {
         log.info("Seating {} customers at table ID: {}", customerCount, id);
         
@@ -160,7 +231,34 @@ public class TableService {
         
         Table updatedTable = tableRepository.save(table);
         log.info("Customers seated successfully");
-        return tableMapper.toResponseDto(updatedTable);
+        return recorded(DomainEvent.Type.STATUS_CHANGED, tableMapper.toResponseDto(updatedTable));
+    }
+
+    @Transactional(readOnly = true)
+    public TableBillDto getBill(UUID id) {
+        log.info("Fetching bill for table ID: {}", id);
+        return sessionLedger.billOf(findTableWithOpenSession(id), null);
+    }
+
+    /**
+     * Closes the table's session and returns its final bill; the total is read from the table row
+     * and the lines from the session's own ledger entries.
+     */
+    @RetryOnConflict
+    public TableBillDto checkout(UUID id) {
+        log.info("Checking out table ID: {}", id);
+
+        Table table = findTableWithOpenSession(id);
+        TableBillDto bill = sessionLedger.billOf(table, LocalDateTime.now());
+
+        table.setStatus(Table.TableStatus.AVAILABLE);
+        table.setIsOccupied(false);
+        clearTableSession(table);
+        Table updatedTable = tableRepository.save(table);
+        recorded(DomainEvent.Type.STATUS_CHANGED, tableMapper.toResponseDto(updatedTable));
+
+        log.info("Table {} checked out with a bill of {}", updatedTable.getNumber(), bill.getTotalAmount());
+        return bill;
     }
 
     public String generateQRCode(UUID id) {
@@ -176,24 +274,17 @@ public class TableService {
     public List<TableResponseDto> bulkUpdateStatus(List<UUID> tableIds, Table.TableStatus status) {
         log.info("Bulk updating status for {} tables to: {}", tableIds.size(), status);
         
-        List<Table> tables = tableRepository.findAllById(tableIds);
-        if (tables.size() != tableIds.size()) {
+        Set<UUID> uniqueIds = new LinkedHashSet<>(tableIds);
+        List<Table> updatedTables = tableRepository.updateStatusReturning(uniqueIds, status.name(),
+                status == Table.TableStatus.OCCUPIED, status == Table.TableStatus.AVAILABLE, LocalDateTime.now());
+        if (updatedTables.size() != uniqueIds.size()) {
             throw new ResourceNotFoundException("Some tables not found");
         }
-        
-        tables.forEach(table -> {
-            table.setStatus(status);
-            table.setIsOccupied(status == Table.TableStatus.OCCUPIED);
-            if (status == Table.TableStatus.AVAILABLE) {
-                clearTableSession(table);
-            }
-        });
-        
-        List<Table> updatedTables = tableRepository.saveAll(tables);
         log.info("Bulk status update completed successfully");
         
         return updatedTables.stream()
                 .map(tableMapper::toResponseDto)
+                .map(table -> recorded(DomainEvent.Type.STATUS_CHANGED, table))
                 .toList();
     }
 
@@ -217,6 +308,7 @@ public class TableService {
         );
     }
 
+    @RetryOnConflict
     public void deleteTable(UUID id) {
         log.info("Deleting table with ID: {}", id);
         
@@ -227,6 +319,7 @@ public class TableService {
         }
         
         tableRepository.deleteById(id);
+        eventRecorder.record(DomainEvent.AggregateType.TABLE, id, DomainEvent.Type.DELETED, null);
         log.info("Table deleted successfully with ID: {}", id);
     }
 
@@ -235,6 +328,20 @@ public class TableService {
                 .orElseThrow(() -> new ResourceNotFoundException("Table not found with ID: " + id));
     }
 
+    private Table findTableWithOpenSession(UUID id) {
+        Table table = findTableById(id);
+        if (table.getSessionStartTime() == null) {
+            throw new BadRequestException("Table " + table.getNumber() + " has no open session");
+        }
+        return table;
+    }
+
+    private TableResponseDto recorded(DomainEvent.Type type, TableResponseDto table) {
+        eventRecorder.record(DomainEvent.AggregateType.TABLE, table.getId(), type, table);
+        return table;
+    }
+
+    // Keep in sync with the session columns cleared by TableRepository.updateStatusReturning
     private void clearTableSession(Table table) {
         table.setCurrentCustomers(null);
         table.setCurrentOrder(null);
@@ -0,0 +1,140 @@
+package com.scan_and_dine.backend.modules.table.service;
+
+import com.scan_and_dine.backend.modules.event.entity.DomainEvent;
+import com.scan_and_dine.backend.modules.event.service.DomainEventRecorder;
+import com.scan_and_dine.backend.modules.order.dto.OrderResponseDto;
+import com.scan_and_dine.backend.modules.order.entity.Order;
+import com.scan_and_dine.backend.modules.order.event.OrderChangedEvent;
+import com.scan_and_dine.backend.modules.table.dto.TableBillDto;
+import com.scan_and_dine.backend.modules.table.dto.TableResponseDto;
+import com.scan_and_dine.backend.modules.table.entity.Table;
+import com.scan_and_dine.backend.modules.table.entity.TableSessionEntry;
+import com.scan_and_dine.backend.modules.table.mapper.TableMapper;
+import com.scan_and_dine.backend.modules.table.repository.TableRepository;
+import com.scan_and_dine.backend.modules.table.repository.TableSessionEntryRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Keeps Table.totalSessionAmount equal to the bill of the table's open session.
+ * <p>
+ * A placed order is charged to the session open on its table at that moment, and any later change to
+ * what the order is billed (a cancellation, a new total, a delete) is charged to that same session as
+ * the difference to what the ledger already holds for the order. Each charge is one atomic increment of
+ * the table row plus one table_session_entries row, in the transaction that changed the order, and only
+ * while the session is open; orders of a checked-out session no longer change its bill. Bills and
+ * checkout read the total from the table row and the lines from the session's own entries. Each charge
+ * also records a TABLE event, so consumers of the event log see the new session amount.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TableSessionLedger {
+
+    private final TableRepository tableRepository;
+    private final TableSessionEntryRepository entryRepository;
+    private final TableMapper tableMapper;
+    private final DomainEventRecorder eventRecorder;
+
+    private static BigDecimal billable(Order.OrderStatus status, BigDecimal totalAmount) {
+        if (status == Order.OrderStatus.CANCELLED || totalAmount == null) {
+            return BigDecimal.ZERO.setScale(2);
+        }
+        return totalAmount.setScale(2, RoundingMode.HALF_UP);
+    }
+
+    // Runs synchronously in the publishing transaction; the bill commits or rolls back with the order
+    @EventListener
+    public void onOrderChanged(OrderChangedEvent event) {
+        OrderResponseDto order = event.getType() != OrderChangedEvent.Type.DELETED ? event.getOrder() : null;
+        if (event.getType() == OrderChangedEvent.Type.CREATED) {
+            if (order != null && order.getTableId() != null) {
+                chargeOpenSession(order);
+            }
+            return;
+        }
+        BigDecimal target = order != null ? billable(order.getStatus(), order.getTotalAmount()) : BigDecimal.ZERO;
+        OrderChangedEvent.Snapshot previous = event.getPrevious();
+        if (order != null && previous != null
+                && billable(previous.status(), previous.totalAmount()).compareTo(target) == 0) {
+            return;
+        }
+
+        List<TableSessionEntry> entries = entryRepository.findByOrderIdOrderByCreatedAtAsc(event.getOrderId());
+        if (entries.isEmpty()) {
+            return; // Placed while its table had no open session
+        }
+        TableSessionEntry placed = entries.get(0);
+        BigDecimal charged = entries.stream().map(TableSessionEntry::getAmount).reduce(BigDecimal.ZERO, BigDecimal::add);
+        BigDecimal delta = target.subtract(charged);
+        if (delta.signum() == 0) {
+            return;
+        }
+        TableSessionEntry.Reason reason = order == null ? TableSessionEntry.Reason.ORDER_DELETED
+                : order.getStatus() == Order.OrderStatus.CANCELLED ? TableSessionEntry.Reason.ORDER_CANCELLED
+                : TableSessionEntry.Reason.ORDER_ADJUSTED;
+        if (!charge(placed.getTableId(), placed.getSessionStartTime(), event.getOrderId(), reason, delta)) {
+            log.info("Session of order {} is already closed, bill left at its checkout amount", event.getOrderId());
+        }
+    }
+
+    /**
+     * The bill of the table's open session. {@code closedAt} marks a bill taken at checkout.
+     */
+    public TableBillDto billOf(Table table, LocalDateTime closedAt) {
+        Map<UUID, TableBillDto.BillLineDto> lines = new LinkedHashMap<>();
+        for (TableSessionEntry entry : entryRepository.findByTableIdAndSessionStartTimeOrderByCreatedAtAsc(
+                table.getId(), table.getSessionStartTime())) {
+            TableBillDto.BillLineDto line = lines.computeIfAbsent(entry.getOrderId(),
+                    orderId -> new TableBillDto.BillLineDto(orderId, BigDecimal.ZERO, entry.getCreatedAt()));
+            line.setAmount(line.getAmount().add(entry.getAmount()));
+        }
+        BigDecimal total = table.getTotalSessionAmount() != null ? table.getTotalSessionAmount() : BigDecimal.ZERO;
+        return new TableBillDto(table.getId(), table.getNumber(), table.getCurrentCustomers(),
+                table.getSessionStartTime(), closedAt, total, List.copyOf(lines.values()));
+    }
+
+    private void chargeOpenSession(OrderResponseDto order) {
+        LocalDateTime sessionStartTime = tableRepository.findSessionStartTime(order.getTableId()).orElse(null);
+        BigDecimal amount = billable(order.getStatus(), order.getTotalAmount());
+        if (sessionStartTime == null
+                || !charge(order.getTableId(), sessionStartTime, order.getId(), TableSessionEntry.Reason.ORDER_PLACED, amount)) {
+            log.debug("Table {} has no open session, order {} is not charged to a bill", order.getTableId(), order.getId());
+        }
+    }
+
+    private boolean charge(UUID tableId, LocalDateTime sessionStartTime, UUID orderId,
+                           TableSessionEntry.Reason reason, BigDecimal amount) {
+        LocalDateTime now = LocalDateTime.now();
+        if (tableRepository.addToSessionAmount(tableId, sessionStartTime, amount, now) == 0) {
+            return false;
+        }
+        TableSessionEntry entry = new TableSessionEntry();
+        entry.setTableId(tableId);
+        entry.setSessionStartTime(sessionStartTime);
+        entry.setOrderId(orderId);
+        entry.setReason(reason);
+        entry.setAmount(amount);
+        entryRepository.save(entry);
+        recordTableChange(tableId);
+        return true;
+    }
+
+    // addToSessionAmount refreshed the managed Table, so it already holds the new amount
+    private void recordTableChange(UUID tableId) {
+        tableRepository.findById(tableId).ifPresent(table -> {
+            TableResponseDto tableDto = tableMapper.toResponseDto(table);
+            eventRecorder.record(DomainEvent.AggregateType.TABLE, tableId, DomainEvent.Type.UPDATED, tableDto);
+        });
+    }
+}
@@ -5,12 +5,14 @@ import com.scan_and_dine.backend.modules.user.dto.UpdateUserRequestDto;
 import com.scan_and_dine.backend.modules.user.dto.UserResponseDto;
 import com.scan_and_dine.backend.modules.user.entity.User;
 import com.scan_and_dine.backend.modules.user.service.UserService;
+import com.scan_and_dine.backend.util.pagination.CursorPage;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
@@ -35,7 +37,7 @@ public class UserController {
     }
 
     @GetMapping(value = {"", "/"})
-    public ResponseEntity<Page<UserResponseDto>> getAllUsers(
+    public ResponseEntity<Slice<UserResponseDto>> getAllUsers(
             @RequestParam(required = false) String username,
             @RequestParam(required = false) String email,
             @RequestParam(required = false) User.UserRole role,
@@ -43,7 +45,8 @@ public class UserController {
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "id") String sortBy,
-            @RequestParam(defaultValue = "asc") String sortDir) {
+            @RequestParam(defaultValue = "asc") String sortDir,
+            @RequestParam(defaultValue = "true") boolean includeTotal) {
         
         log.info("Fetching users with filters and pagination: page={}, size={}, sortBy={}, sortDir={}", 
                 page, size, sortBy, sortDir);
@@ -52,8 +55,24 @@ public class UserController {
                 Sort.by(sortBy).descending() : Sort.by(sortBy).ascending();
         
         Pageable pageable = PageRequest.of(page, size, sort);
-        Page<UserResponseDto> users = userService.getAllUsers(
-                username, email, role, status, pageable);
+        Slice<UserResponseDto> users = includeTotal
+                ? userService.getAllUsers(username, email, role, status, pageable)
+                : userService.getUserSlice(username, email, role, status, pageable);
+        
+        return ResponseEntity.ok(users);
+    }
+
+    @GetMapping("/cursor")
+    public ResponseEntity<CursorPage<UserResponseDto>> getUsersByCursor(
+            @RequestParam(required = false) String username,
+            @RequestParam(required = false) String email,
+            @RequestParam(required = false) User.UserRole role,
+            @RequestParam(required = false) User.UserStatus status,
+            @RequestParam(required = false) String after,
+            @RequestParam(defaultValue = "10") int size) {
+        
+        log.info("Fetching users by cursor: after={}, size={}", after, size);
+        CursorPage<UserResponseDto> users = userService.getUsersAfter(username, email, role, status, after, size);
         
         return ResponseEntity.ok(users);
     }
@@ -0,0 +1,46 @@
+package com.scan_and_dine.backend.modules.user.repository;
+
+import com.scan_and_dine.backend.modules.user.entity.User;
+import com.scan_and_dine.backend.util.query.SortWhitelist;
+import jakarta.persistence.criteria.Predicate;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.util.StringUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.scan_and_dine.backend.util.query.FilterPredicates.containsIgnoreCase;
+
+/**
+ * Builds user filters that only contain the predicates actually supplied,
+ * so each filter combination maps to one stable SQL shape. Admin users are always excluded.
+ */
+public final class UserSpecifications {
+
+    public static final SortWhitelist SORTABLE = SortWhitelist.of(
+            "username", "email", "role", "status", "createdAt", "updatedAt");
+
+    private UserSpecifications() {
+    }
+
+    public static Specification<User> withFilters(String username, String email,
+                                                  User.UserRole role, User.UserStatus status) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            predicates.add(cb.notEqual(root.get("role"), User.UserRole.ADMIN));
+            if (StringUtils.hasText(username)) {
+                predicates.add(containsIgnoreCase(cb, root.get("username"), username));
+            }
+            if (StringUtils.hasText(email)) {
+                predicates.add(containsIgnoreCase(cb, root.get("email"), email));
+            }
+            if (role != null) {
+                predicates.add(cb.equal(root.get("role"), role));
+            }
+            if (status != null) {
+                predicates.add(cb.equal(root.get("status"), status));
+            }
+            return cb.and(predicates.toArray(Predicate[]::new));
+        };
+    }
+}
@@ -9,13 +9,19 @@ import com.scan_and_dine.backend.modules.user.dto.UserResponseDto;
 import com.scan_and_dine.backend.modules.user.entity.User;
 import com.scan_and_dine.backend.modules.user.mapper.UserMapper;
 import com.scan_and_dine.backend.modules.user.repository.UserRepository;
+import com.scan_and_dine.backend.modules.user.repository.UserSpecifications;
+import com.scan_and_dine.backend.util.pagination.CursorPage;
+import com.scan_and_dine.backend.util.pagination.KeysetCursor;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.List;
 import java.util.UUID;
 import java.util.function.Supplier;
 
@@ -67,6 +73,35 @@ public class UserService {
         return findUsersWithFilters(username, email, role, status, pageable);
     }
 
+    @Transactional(readOnly = true)
+    public Slice<UserResponseDto> getUserSlice(String username, String email, User.UserRole role,
+                                             User.UserStatus status, Pageable pageable) {
+        log.info("Fetching user slice with filters (no total count, excluding admin users)");
+        Specification<User> spec = UserSpecifications.withFilters(username, email, role, status);
+        Pageable sorted = UserSpecifications.SORTABLE.apply(pageable);
+        return userRepository.findBy(spec, query -> query.slice(sorted))
+                .map(userMapper::toResponseDto);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<UserResponseDto> getUsersAfter(String username, String email, User.UserRole role,
+                                                    User.UserStatus status, String after, int size) {
+        log.info("Fetching users with filters after cursor: {}", after);
+        Specification<User> spec = UserSpecifications.withFilters(username, email, role, status);
+        KeysetCursor cursor = KeysetCursor.decode(after);
+        if (cursor != null) {
+            spec = spec.and(cursor.seek());
+        }
+        Pageable lookahead = KeysetCursor.lookahead(size);
+        
+        List<User> users = userRepository.findBy(spec, query -> query
+                .sortBy(lookahead.getSort())
+                .limit(lookahead.getPageSize())
+                .all());
+        return CursorPage.of(users, lookahead,
+                user -> new KeysetCursor(user.getCreatedAt(), user.getId()), userMapper::toResponseDto);
+    }
+
     @Transactional(readOnly = true)
     public Page<UserResponseDto> getUsersByRole(User.UserRole role, Pageable pageable) {
         log.info("Fetching users with role: {}", role);
@@ -81,9 +116,8 @@ public class UserService {
 
     private Page<UserResponseDto> findUsersWithFilters(String username, String email, User.UserRole role,
                                                       User.UserStatus status, Pageable pageable) {
-        String roleStr = role != null ? role.name() : null;
-        String statusStr = status != null ? status.name() : null;
-        return userRepository.findUsersWithFilters(username, email, roleStr, statusStr, pageable)
+        return userRepository.findAll(UserSpecifications.withFilters(username, email, role, status),
+                        UserSpecifications.SORTABLE.apply(pageable))
                 .map(userMapper::toResponseDto);
     }
 
@@ -79,10 +79,13 @@ public class SecurityConfig {
                 .requestMatchers("/api/auth/**").permitAll()
                 .requestMatchers("/error").permitAll()
                 .requestMatchers("/actuator/health").permitAll() // Health check endpoint
+                .requestMatchers("/ws/**").permitAll() // WebSocket handshake; STOMP CONNECT carries the JWT
                 .requestMatchers(HttpMethod.POST, "/api/orders").permitAll() // Allow order creation without authentication
                 .requestMatchers(HttpMethod.GET, "/api/menu/**").permitAll() // Allow public access to menu for customers
+                .requestMatchers(HttpMethod.GET, "/api/tables/cursor").authenticated() // Table listing stays private; must precede {id}
                 .requestMatchers(HttpMethod.GET, "/api/tables/{id}").permitAll() // Allow customers to get table details for QR codes
                 .requestMatchers(HttpMethod.GET, "/api/orders/kitchen/**").authenticated() // Kitchen endpoints require authentication
+                .requestMatchers(HttpMethod.GET, "/api/orders/*/events").permitAll() // Customer order tracking; the stream checks its order-scoped token
                 .requestMatchers(HttpMethod.GET, "/api/orders/{id}").authenticated() // Order details require authentication
                 .requestMatchers(HttpMethod.GET, "/api/orders/table/**").authenticated() // Table orders require authentication
                 .requestMatchers(HttpMethod.PATCH, "/api/orders/*/status").authenticated() // Order status updates require authentication
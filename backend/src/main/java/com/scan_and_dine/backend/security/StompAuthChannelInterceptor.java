@@ -0,0 +1,76 @@
+package com.scan_and_dine.backend.security;
+
+import com.scan_and_dine.backend.config.JwtConfig;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.lang.NonNull;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.messaging.support.MessageHeaderAccessor;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+/**
+ * Authenticates STOMP sessions with the same access tokens used for REST calls.
+ * The token is sent as an Authorization header on the CONNECT frame, since browsers
+ * cannot attach headers to the WebSocket upgrade request itself.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StompAuthChannelInterceptor implements ChannelInterceptor {
+
+    private final JwtConfig jwtConfig;
+    private final UserDetailsService userDetailsService;
+
+    @Override
+    public Message<?> preSend(@NonNull Message<?> message, @NonNull MessageChannel channel) {
+        StompHeaderAccessor accessor = MessageHeaderAccessor.getAccessor(message, StompHeaderAccessor.class);
+        if (accessor == null) {
+            return message;
+        }
+
+        if (StompCommand.CONNECT.equals(accessor.getCommand())) {
+            accessor.setUser(authenticate(accessor.getFirstNativeHeader("Authorization")));
+        } else if (requiresUser(accessor.getCommand()) && accessor.getUser() == null) {
+            throw new BadCredentialsException("STOMP session is not authenticated");
+        }
+
+        return message;
+    }
+
+    private boolean requiresUser(StompCommand command) {
+        return command == StompCommand.SUBSCRIBE || command == StompCommand.SEND;
+    }
+
+    private UsernamePasswordAuthenticationToken authenticate(String bearerToken) {
+        if (!StringUtils.hasText(bearerToken) || !bearerToken.startsWith("Bearer ")) {
+            throw new BadCredentialsException("Missing bearer token on STOMP CONNECT");
+        }
+
+        String jwt = bearerToken.substring(7);
+        if (!jwtConfig.isAccessToken(jwt)) {
+            throw new BadCredentialsException("Invalid token type provided for STOMP CONNECT");
+        }
+
+        String email = jwtConfig.getEmailFromToken(jwt);
+        if (!StringUtils.hasText(email) || !jwtConfig.validateToken(jwt, email)) {
+            throw new BadCredentialsException("JWT token validation failed for STOMP CONNECT");
+        }
+
+        UserDetails userDetails = userDetailsService.loadUserByUsername(email);
+        if (!userDetails.isEnabled() || !userDetails.isAccountNonLocked()) {
+            throw new BadCredentialsException("User account is not valid: " + email);
+        }
+
+        log.debug("Authenticated STOMP session for user: {}", email);
+        return new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
+    }
+}
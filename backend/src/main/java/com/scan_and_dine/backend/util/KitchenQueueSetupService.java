@@ -0,0 +1,38 @@
+package com.scan_and_dine.backend.util;
+
+import com.scan_and_dine.backend.modules.analytics.service.ItemPopularityService;
+import com.scan_and_dine.backend.modules.order.service.KitchenQueue;
+import com.scan_and_dine.backend.modules.order.service.OrderViewProjector;
+import com.scan_and_dine.backend.modules.order.service.ReadyTimeEstimator;
+import com.scan_and_dine.backend.modules.order.service.StationQueues;
+import com.scan_and_dine.backend.modules.order.service.StationRouter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Service;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Order(10) // Run after sample data has been created
+public class KitchenQueueSetupService implements CommandLineRunner {
+
+    private final OrderViewProjector orderViewProjector;
+    private final KitchenQueue kitchenQueue;
+    private final StationRouter stationRouter;
+    private final StationQueues stationQueues;
+    private final ReadyTimeEstimator readyTimeEstimator;
+    private final ItemPopularityService itemPopularityService;
+
+    @Override
+    public void run(String... args) {
+        orderViewProjector.backfill();
+        log.info("Rebuilding kitchen queue from database...");
+        kitchenQueue.rebuild();
+        stationRouter.backfill();
+        stationQueues.rebuild();
+        readyTimeEstimator.rebuild();
+        itemPopularityService.rebuild();
+    }
+}
@@ -0,0 +1,71 @@
+package com.scan_and_dine.backend.util.concurrency;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Runs a unit of work, repeating it with jittered backoff when it fails on an optimistic locking conflict.
+ * The unit must open (and commit) its own transaction, otherwise a retry would reuse the stale state.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ConflictRetryExecutor {
+
+    public static final int DEFAULT_MAX_ATTEMPTS = 3;
+
+    private static final long BASE_BACKOFF_MILLIS = 20;
+
+    private final ConflictRetryMetrics metrics;
+
+    public <T> T execute(String operation, int maxAttempts, Supplier<T> unit) {
+        try {
+            return invoke(operation, maxAttempts, unit::get);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new IllegalStateException(e); // Unreachable: a Supplier cannot throw checked exceptions
+        }
+    }
+
+    <T> T invoke(String operation, int maxAttempts, Attempt<T> unit) throws Throwable {
+        ConflictRetryMetrics.OperationStats stats = metrics.forOperation(operation);
+        stats.invocations.increment();
+        for (int attempt = 1; ; attempt++) {
+            stats.attempts.increment();
+            try {
+                return unit.run();
+            } catch (OptimisticLockingFailureException e) {
+                stats.conflicts.increment();
+                if (attempt >= maxAttempts) {
+                    stats.exhausted.increment();
+                    log.warn("{} still conflicting after {} attempts: {}", operation, attempt, e.getMessage());
+                    throw e;
+                }
+                stats.retries.increment();
+                log.debug("{} hit a concurrent update (attempt {}), retrying", operation, attempt);
+                backoff(attempt, e);
+            }
+        }
+    }
+
+    private void backoff(int attempt, OptimisticLockingFailureException conflict) {
+        long ceiling = BASE_BACKOFF_MILLIS << (attempt - 1);
+        try {
+            Thread.sleep(ceiling / 2 + ThreadLocalRandom.current().nextLong(ceiling / 2 + 1));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw conflict;
+        }
+    }
+
+    @FunctionalInterface
+    interface Attempt<T> {
+        T run() throws Throwable;
+    }
+}
@@ -0,0 +1,36 @@
+package com.scan_and_dine.backend.util.concurrency;
+
+import lombok.RequiredArgsConstructor;
+import org.aopalliance.intercept.MethodInterceptor;
+import org.aopalliance.intercept.MethodInvocation;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.lang.reflect.Method;
+
+/**
+ * Applies {@link RetryOnConflict}. Ordered outside the transaction interceptor, so each attempt
+ * is a complete transaction whose commit-time version check can be retried.
+ */
+@RequiredArgsConstructor
+public class ConflictRetryInterceptor implements MethodInterceptor {
+
+    private final ObjectProvider<ConflictRetryExecutor> executor;
+
+    @Override
+    public Object invoke(MethodInvocation invocation) throws Throwable {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return invocation.proceed(); // The outer transaction owns the retry
+        }
+        Method method = invocation.getMethod();
+        RetryOnConflict retry = AnnotatedElementUtils.findMergedAnnotation(method, RetryOnConflict.class);
+        if (retry == null) {
+            return invocation.proceed();
+        }
+        String operation = retry.value().isEmpty()
+                ? method.getDeclaringClass().getSimpleName() + "." + method.getName()
+                : retry.value();
+        return executor.getObject().invoke(operation, retry.maxAttempts(), invocation::proceed);
+    }
+}
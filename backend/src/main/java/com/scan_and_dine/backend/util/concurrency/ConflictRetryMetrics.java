@@ -0,0 +1,48 @@
+package com.scan_and_dine.backend.util.concurrency;
+
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-operation counters for optimistic locking conflicts and the retries they caused.
+ */
+@Component
+public class ConflictRetryMetrics {
+
+    private final Map<String, OperationStats> operations = new ConcurrentHashMap<>();
+
+    OperationStats forOperation(String operation) {
+        return operations.computeIfAbsent(operation, name -> new OperationStats());
+    }
+
+    public Map<String, Map<String, Object>> snapshot() {
+        Map<String, Map<String, Object>> snapshot = new TreeMap<>();
+        operations.forEach((operation, stats) -> snapshot.put(operation, stats.toMap()));
+        return snapshot;
+    }
+
+    static final class OperationStats {
+        final LongAdder invocations = new LongAdder();
+        final LongAdder attempts = new LongAdder();
+        final LongAdder conflicts = new LongAdder();
+        final LongAdder retries = new LongAdder();
+        final LongAdder exhausted = new LongAdder();
+
+        private Map<String, Object> toMap() {
+            long attemptCount = attempts.sum();
+            long conflictCount = conflicts.sum();
+            Map<String, Object> values = new TreeMap<>();
+            values.put("invocations", invocations.sum());
+            values.put("attempts", attemptCount);
+            values.put("conflicts", conflictCount);
+            values.put("retries", retries.sum());
+            values.put("exhausted", exhausted.sum());
+            values.put("conflictRate", attemptCount > 0 ? (double) conflictCount / attemptCount : 0.0);
+            return values;
+        }
+    }
+}
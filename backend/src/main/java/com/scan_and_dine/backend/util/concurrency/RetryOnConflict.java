@@ -0,0 +1,25 @@
+package com.scan_and_dine.backend.util.concurrency;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Re-runs a method whose transaction lost an optimistic locking race (a stale @Version).
+ * The retry wraps the method's own @Transactional boundary, so every attempt re-reads fresh state.
+ * Calls that join an already running transaction are not retried here: the transaction owner must retry.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface RetryOnConflict {
+
+    /**
+     * Operation name used for metrics. Defaults to {@code SimpleClassName.methodName}.
+     */
+    String value() default "";
+
+    int maxAttempts() default ConflictRetryExecutor.DEFAULT_MAX_ATTEMPTS;
+}
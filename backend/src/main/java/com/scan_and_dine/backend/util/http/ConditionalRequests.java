@@ -0,0 +1,48 @@
+package com.scan_and_dine.backend.util.http;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.Arrays;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Conditional GETs driven by cheap version lookups: the ETag is computed from a version or timestamp
+ * query, and a matching If-None-Match is answered with 304 before the body is loaded or mapped.
+ * Responses carry {@code Cache-Control: no-cache}, so clients keep the body but revalidate every time.
+ */
+public final class ConditionalRequests {
+
+    private ConditionalRequests() {
+    }
+
+    /**
+     * A strong ETag built from the parts that identify one state of a resource.
+     */
+    public static String entityTag(Object... parts) {
+        return Arrays.stream(parts)
+                .map(String::valueOf)
+                .collect(Collectors.joining("-", "\"", "\""));
+    }
+
+    /**
+     * 304 when {@code eTag} matches the request's If-None-Match, otherwise 200 with the supplied body.
+     * The tag must be read before the body, so a body is never older than the tag it is sent with.
+     * A null tag skips the check.
+     */
+    public static <T> ResponseEntity<T> okIfModified(WebRequest request, String eTag, Supplier<T> body) {
+        if (eTag == null) {
+            return ResponseEntity.ok(body.get());
+        }
+        // Sets the 304 status and the ETag header; a null return tells Spring MVC the response is complete
+        if (request.checkNotModified(eTag)) {
+            return null;
+        }
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache())
+                .body(body.get());
+    }
+}
@@ -0,0 +1,32 @@
+package com.scan_and_dine.backend.util.pagination;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.function.Function;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPage<T> {
+    private List<T> content;
+    private int size;
+    private boolean hasNext;
+    private String nextCursor;
+
+    /**
+     * Builds a page from rows fetched with {@link KeysetCursor#lookahead(int)}.
+     */
+    public static <E, T> CursorPage<T> of(List<E> rows, Pageable lookahead,
+                                          Function<E, KeysetCursor> cursorExtractor,
+                                          Function<E, T> mapper) {
+        int pageSize = lookahead.getPageSize() - 1;
+        boolean hasNext = rows.size() > pageSize;
+        List<E> pageRows = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = hasNext ? cursorExtractor.apply(pageRows.get(pageRows.size() - 1)).encode() : null;
+        return new CursorPage<>(pageRows.stream().map(mapper).toList(), pageRows.size(), hasNext, nextCursor);
+    }
+}
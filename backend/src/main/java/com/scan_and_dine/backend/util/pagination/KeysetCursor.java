@@ -0,0 +1,71 @@
+package com.scan_and_dine.backend.util.pagination;
+
+import com.scan_and_dine.backend.exception.BadRequestException;
+import jakarta.persistence.criteria.Path;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Position in a (createdAt DESC, id DESC) ordered list, exchanged with clients as an opaque token.
+ */
+@Getter
+@AllArgsConstructor
+public class KeysetCursor {
+    public static final int MAX_PAGE_SIZE = 100;
+
+    public static final Sort SORT = Sort.by(Sort.Direction.DESC, "createdAt", "id");
+
+    private final LocalDateTime createdAt;
+    private final UUID id;
+
+    public String encode() {
+        String raw = createdAt + "|" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static KeysetCursor decode(String token) {
+        if (!StringUtils.hasText(token)) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separator = raw.indexOf('|');
+            return new KeysetCursor(LocalDateTime.parse(raw.substring(0, separator)),
+                    UUID.fromString(raw.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException | IndexOutOfBoundsException e) {
+            throw new BadRequestException("Invalid pagination cursor: " + token);
+        }
+    }
+
+    /**
+     * Restricts a query to rows strictly after this cursor in {@link #SORT} order.
+     * Written as createdAt <= c AND (createdAt < c OR id < i) so the leading column bounds the index range.
+     */
+    public <T> Specification<T> seek() {
+        return (root, query, cb) -> {
+            Path<LocalDateTime> createdAtPath = root.get("createdAt");
+            Path<UUID> idPath = root.get("id");
+            return cb.and(
+                    cb.lessThanOrEqualTo(createdAtPath, createdAt),
+                    cb.or(cb.lessThan(createdAtPath, createdAt), cb.lessThan(idPath, id)));
+        };
+    }
+
+    /**
+     * Fetches one row more than requested so the caller can tell whether another page exists.
+     */
+    public static Pageable lookahead(int size) {
+        return PageRequest.of(0, Math.min(Math.max(size, 1), MAX_PAGE_SIZE) + 1, SORT);
+    }
+}
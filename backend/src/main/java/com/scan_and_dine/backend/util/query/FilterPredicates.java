@@ -0,0 +1,26 @@
+package com.scan_and_dine.backend.util.query;
+
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+
+/**
+ * Predicate helpers shared by the module Specification classes.
+ */
+public final class FilterPredicates {
+
+    private static final char LIKE_ESCAPE = '\\';
+
+    private FilterPredicates() {
+    }
+
+    public static Predicate containsIgnoreCase(CriteriaBuilder cb, Expression<String> field, String value) {
+        return cb.like(cb.upper(field), "%" + escapeLike(value.toUpperCase()) + "%", LIKE_ESCAPE);
+    }
+
+    public static String escapeLike(String value) {
+        return value.replace("\\", "\\\\")
+                .replace("%", "\\%")
+                .replace("_", "\\_");
+    }
+}
@@ -0,0 +1,41 @@
+package com.scan_and_dine.backend.util.query;
+
+import com.scan_and_dine.backend.exception.BadRequestException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+
+import java.util.Set;
+
+/**
+ * Restricts client-supplied sort properties to known entity attributes and appends
+ * the primary key as a tie-breaker so page boundaries are deterministic.
+ */
+public class SortWhitelist {
+
+    private static final String TIE_BREAKER = "id";
+
+    private final Set<String> sortableFields;
+
+    private SortWhitelist(Set<String> sortableFields) {
+        this.sortableFields = sortableFields;
+    }
+
+    public static SortWhitelist of(String... sortableFields) {
+        return new SortWhitelist(Set.of(sortableFields));
+    }
+
+    public Pageable apply(Pageable pageable) {
+        Sort sort = pageable.getSort();
+        for (Sort.Order order : sort) {
+            if (!sortableFields.contains(order.getProperty()) && !TIE_BREAKER.equals(order.getProperty())) {
+                throw new BadRequestException("Unsupported sort field: " + order.getProperty()
+                        + ". Allowed fields: " + sortableFields);
+            }
+        }
+        if (sort.getOrderFor(TIE_BREAKER) == null) {
+            sort = sort.and(Sort.by(TIE_BREAKER));
+        }
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), sort);
+    }
+}
@@ -0,0 +1,61 @@
+-- Runs after Hibernate has updated the schema (spring.jpa.defer-datasource-initialization).
+-- Every statement must be idempotent: this script executes on each startup.
+
+-- Trigram indexes for substring search on orders.customer_name / customer_phone_digits
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+UPDATE orders
+SET customer_phone_digits = regexp_replace(customer_phone, '[^0-9]', '', 'g')
+WHERE customer_phone_digits IS NULL;
+
+CREATE INDEX IF NOT EXISTS idx_orders_customer_name_trgm
+    ON orders USING gin (upper(customer_name) gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_orders_customer_phone_digits_trgm
+    ON orders USING gin (customer_phone_digits gin_trgm_ops);
+
+-- Optimistic locking: rows created before the version column existed start at 0
+UPDATE orders SET version = 0 WHERE version IS NULL;
+UPDATE tables SET version = 0 WHERE version IS NULL;
+UPDATE menu_items SET version = 0 WHERE version IS NULL;
+UPDATE order_view SET version = 0 WHERE version IS NULL;
+
+-- Hot/cold order storage: OrderArchiveService moves finished orders past orders.archive.horizon
+-- out of orders / order_items into these tables, range partitioned by month on the order's
+-- created_at. Monthly partitions (orders_archive_YYYY_MM) are created by the archiver as needed.
+CREATE TABLE IF NOT EXISTS orders_archive (
+    LIKE orders INCLUDING DEFAULTS,
+    PRIMARY KEY (id, created_at)
+) PARTITION BY RANGE (created_at);
+
+CREATE TABLE IF NOT EXISTS order_items_archive (
+    LIKE order_items INCLUDING DEFAULTS,
+    order_created_at TIMESTAMP(6) NOT NULL,
+    PRIMARY KEY (id, order_created_at)
+) PARTITION BY RANGE (order_created_at);
+
+CREATE INDEX IF NOT EXISTS idx_order_items_archive_order_id ON order_items_archive (order_id);
+
+-- Partial index over unfinished orders: kitchen and status queries stay small however much history is left
+CREATE INDEX IF NOT EXISTS idx_orders_active_created_at
+    ON orders (created_at)
+    WHERE status IN ('PENDING', 'CONFIRMED', 'PREPARING', 'READY', 'SERVED');
+
+-- Order event log: insert_seq records the order in which outbox rows were written, independent of the
+-- Hibernate id allocation. DomainEventRelay turns it into gap-free log positions once the rows committed.
+CREATE SEQUENCE IF NOT EXISTS order_events_insert_seq;
+
+ALTER TABLE order_events
+    ADD COLUMN IF NOT EXISTS insert_seq BIGINT NOT NULL DEFAULT nextval('order_events_insert_seq');
+
+-- insert_xid is the writing transaction; the relay only sequences rows below the oldest running transaction.
+ALTER TABLE order_events
+    ADD COLUMN IF NOT EXISTS insert_xid xid8 NOT NULL DEFAULT pg_current_xact_id();
+
+-- Hibernate only creates the enum check constraint with the table, so it would reject aggregate types
+-- added later (STATION_TICKET); the entity mapping already limits the values.
+ALTER TABLE order_events DROP CONSTRAINT IF EXISTS order_events_aggregate_type_check;
+
+CREATE INDEX IF NOT EXISTS idx_order_events_unsequenced
+    ON order_events (insert_seq)
+    WHERE log_position IS NULL;
@@ -1,5 +1,16 @@
-import { DashboardStats, ChartData } from '@/lib/types';
-import { mockDashboardStats, mockDailyOrdersData, mockMenuCategoryData } from '@/lib/services/mock-data';
+import { apiClient } from '@/lib/api/client';
+import { DashboardStats, ChartData, SalesSeries } from '@/lib/types';
+import { API_ENDPOINTS } from '@/lib/constants';
+import { mockDashboardStats, mockMenuCategoryData } from '@/lib/services/mock-data';
+
+const DAY_NAMES = ['Sun', 'Mon', 'Tue', 'Wed', 'Thu', 'Fri', 'Sat'];
+
+// Local calendar date as YYYY-MM-DD, matching the server's day buckets
+function toIsoDate(date: Date): string {
+  const month = String(date.getMonth() + 1).padStart(2, '0');
+  const day = String(date.getDate()).padStart(2, '0');
+  return `${date.getFullYear()}-${month}-${day}`;
+}
 
 export class DashboardService {
   async getDashboardStats(): Promise<DashboardStats> {
@@ -8,10 +19,30 @@ export class DashboardService {
     return mockDashboardStats;
   }
 
+  async getSalesSeries(granularity: SalesSeries['granularity'], from: Date, to: Date): Promise<SalesSeries> {
+    const params = new URLSearchParams({
+      granularity,
+      from: toIsoDate(from),
+      to: toIsoDate(to),
+    });
+    return apiClient.get<SalesSeries>(`${API_ENDPOINTS.ANALYTICS}/sales?${params.toString()}`);
+  }
+
+  // Orders sold per day over the last 7 days, read from the daily sales rollups
   async getDailyOrdersData(): Promise<ChartData[]> {
-    // Simulate API call
-    await new Promise(resolve => setTimeout(resolve, 300));
-    return mockDailyOrdersData;
+    const to = new Date();
+    const from = new Date(to);
+    from.setDate(to.getDate() - 6);
+
+    const series = await this.getSalesSeries('DAY', from, to);
+    return series.points.map(point => {
+      const [year, month, day] = point.bucketStart.slice(0, 10).split('-').map(Number);
+      return {
+        name: DAY_NAMES[new Date(year, month - 1, day).getDay()],
+        value: point.orderCount,
+        orders: point.orderCount,
+      };
+    });
   }
 
   async getMenuCategoryData(): Promise<ChartData[]> {
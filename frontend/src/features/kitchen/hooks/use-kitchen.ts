@@ -1,7 +1,15 @@
 import { useState, useCallback, useEffect } from 'react';
 import { Order, OrderStatus } from '@/lib/types/index';
-import { Order as ApiOrder } from '@/lib/types';
+import { Order as ApiOrder, KitchenOrderDelta, KitchenSnapshot } from '@/lib/types';
 import { orderService } from '@/features/order/services/order.service';
+import { StompClient } from '@/lib/api/stomp-client';
+import { WS_URL } from '@/lib/constants';
+
+// Backend statuses shown on the kitchen board (active + ready)
+const KITCHEN_STATUSES = ['PENDING', 'CONFIRMED', 'PREPARING', 'READY'];
+
+// Polling is only used as a fallback while the STOMP connection is down
+const FALLBACK_POLL_INTERVAL_MS = 30000;
 
 // Transform API Order to Kitchen Order format
 function transformApiOrderToKitchenOrder(apiOrder: ApiOrder): Order {
@@ -34,10 +42,39 @@ function transformApiOrderToKitchenOrder(apiOrder: ApiOrder): Order {
   };
 }
 
+// Apply a single pushed change to the current kitchen board
+function applyKitchenDelta(orders: Order[], delta: KitchenOrderDelta): Order[] {
+  const remaining = orders.filter(order => order.id !== delta.orderId);
+
+  switch (delta.type) {
+    case 'DELETED':
+      return remaining;
+    case 'CREATED':
+    case 'UPDATED':
+      if (!delta.order || !KITCHEN_STATUSES.includes(delta.order.status)) return remaining;
+      return [...remaining, transformApiOrderToKitchenOrder(delta.order)];
+    case 'STATUS_CHANGED': {
+      const existing = orders.find(order => order.id === delta.orderId);
+      if (!existing || !delta.status || !KITCHEN_STATUSES.includes(delta.status)) return remaining;
+      return orders.map(order => order.id === delta.orderId
+        ? {
+            ...order,
+            status: delta.status!.toLowerCase() as OrderStatus,
+            priority: (delta.priority?.toLowerCase() ?? order.priority) as Order['priority'],
+            updatedAt: new Date(delta.occurredAt),
+          }
+        : order);
+    }
+    default:
+      return orders;
+  }
+}
+
 export function useKitchenOrders() {
   const [orders, setOrders] = useState<Order[]>([]);
   const [isLoading, setIsLoading] = useState(true);
   const [error, setError] = useState<string | null>(null);
+  const [isLive, setIsLive] = useState(false);
 
   const fetchOrders = useCallback(async () => {
     try {
@@ -65,19 +102,59 @@ export function useKitchenOrders() {
     }
   }, []);
 
+  // Live updates: one snapshot per (re)subscribe, then deltas only
+  useEffect(() => {
+    // Position of the last change on the board; null until the snapshot of the current connection arrived
+    let position: number | null = null;
+    let pending: KitchenOrderDelta[] = [];
+
+    const client = new StompClient(WS_URL, () => localStorage.getItem('accessToken'), connected => {
+      if (!connected) {
+        position = null;
+        pending = [];
+      }
+      setIsLive(connected);
+    });
+
+    client.subscribe<KitchenOrderDelta>('/topic/kitchen/orders', delta => {
+      if (position === null) {
+        pending.push(delta);
+        return;
+      }
+      if (delta.position <= position) return; // Already part of the snapshot
+      position = delta.position;
+      setOrders(current => applyKitchenDelta(current, delta));
+    });
+    client.subscribe<KitchenSnapshot>('/app/kitchen/orders', snapshot => {
+      const newer = pending.filter(delta => delta.position > snapshot.position);
+      position = newer.reduce((latest, delta) => Math.max(latest, delta.position), snapshot.position);
+      pending = [];
+      setOrders(newer.reduce(applyKitchenDelta,
+        [...snapshot.activeOrders, ...snapshot.readyOrders].map(transformApiOrderToKitchenOrder)));
+      setError(null);
+      setIsLoading(false);
+    });
+    client.connect();
+
+    return () => client.disconnect();
+  }, []);
+
   useEffect(() => {
+    if (isLive) return;
+
     fetchOrders();
     
-    // Poll for updates every 30 seconds
-    const interval = setInterval(fetchOrders, 30000);
+    // Poll for updates while the live connection is unavailable
+    const interval = setInterval(fetchOrders, FALLBACK_POLL_INTERVAL_MS);
     
     return () => clearInterval(interval);
-  }, [fetchOrders]);
+  }, [fetchOrders, isLive]);
 
   return {
     data: orders,
     isLoading,
     error,
+    isLive,
     execute: fetchOrders,
   };
 }
@@ -124,21 +201,23 @@ export function useUpdateOrderStatus() {
 
 // Main hook for kitchen management
 export function useKitchenManagement() {
-  const { data: orders, isLoading, error, execute: refetchOrders } = useKitchenOrders();
+  const { data: orders, isLoading, error, isLive, execute: refetchOrders } = useKitchenOrders();
   const { updateStatus, isUpdating, updatingOrderId } = useUpdateOrderStatus();
 
   const handleUpdateStatus = useCallback(async (orderId: string, newStatus: OrderStatus) => {
     try {
       await updateStatus(orderId, newStatus);
-      // Refetch orders after status update to get latest data
-      await refetchOrders();
+      // Live sessions receive the change as a pushed delta; otherwise refetch
+      if (!isLive) {
+        await refetchOrders();
+      }
     } catch (error) {
       console.error('Failed to update order status:', error);
       // On error, refetch to ensure consistency
       await refetchOrders();
       throw error; // Re-throw to allow UI to handle the error
     }
-  }, [updateStatus, refetchOrders]);
+  }, [updateStatus, refetchOrders, isLive]);
 
   const getFilteredOrders = useCallback((status: string) => {
     if (!orders) return [];
@@ -173,5 +252,6 @@ export function useKitchenManagement() {
     updatingOrderId,
     getFilteredOrders,
     refetchOrders,
+    isLive,
   };
 } 
\ No newline at end of file
@@ -1,5 +1,5 @@
 import { useState, useEffect, useCallback, useRef } from "react";
-import { CreateOrderData, Order, CartItem, Menu } from "@/lib/types";
+import { CreateOrderData, Order, CartItem, Menu, OrderTrackingEvent } from "@/lib/types";
 import { orderService } from "../services/order.service";
 import { API_ENDPOINTS } from "@/lib/constants";
 
@@ -234,13 +234,23 @@ export function useCart() {
 export function useOrderCreation() {
   const [isCreating, setIsCreating] = useState(false);
   const [error, setError] = useState<string | null>(null);
+  // Retries of the same order reuse one key so the backend never creates it twice
+  const pendingAttemptRef = useRef<{ payload: string; key: string } | null>(null);
 
   const createOrder = async (orderData: CreateOrderData): Promise<Order | null> => {
     setIsCreating(true);
     setError(null);
 
+    const payload = JSON.stringify(orderData);
+    let attempt = pendingAttemptRef.current;
+    if (!attempt || attempt.payload !== payload) {
+      attempt = { payload, key: crypto.randomUUID() };
+      pendingAttemptRef.current = attempt;
+    }
+
     try {
-      const order = await orderService.createOrder(orderData);
+      const order = await orderService.createOrder(orderData, attempt.key);
+      pendingAttemptRef.current = null;
       return order;
     } catch (err) {
       const errorMessage = err instanceof Error ? err.message : "Failed to create order";
@@ -263,6 +273,37 @@ export function useOrderCreation() {
   };
 }
 
+const FINISHED_ORDER_STATUSES = ["COMPLETED", "CANCELLED"];
+
+// Follows a placed order over server-sent events instead of polling it
+export function useOrderTracking(orderId?: string, trackingToken?: string) {
+  const [tracking, setTracking] = useState<OrderTrackingEvent | null>(null);
+  const [isConnected, setIsConnected] = useState(false);
+
+  useEffect(() => {
+    if (!orderId || !trackingToken) return;
+
+    const source = orderService.trackOrder(orderId, trackingToken);
+    source.onopen = () => setIsConnected(true);
+    source.onerror = () => setIsConnected(false);
+    source.addEventListener("status", (event) => {
+      const update: OrderTrackingEvent = JSON.parse((event as MessageEvent).data);
+      setTracking(update);
+      if (FINISHED_ORDER_STATUSES.includes(update.status)) {
+        source.close();
+        setIsConnected(false);
+      }
+    });
+
+    return () => source.close();
+  }, [orderId, trackingToken]);
+
+  return {
+    tracking,
+    isConnected,
+  };
+}
+
 export function useKitchenOrders() {
   const [orders, setOrders] = useState<Order[]>([]);
   const [isLoading, setIsLoading] = useState(false);
@@ -4,11 +4,13 @@ import { API_ENDPOINTS } from "@/lib/constants";
 export class OrderService {
   private readonly baseUrl = API_ENDPOINTS.ORDERS;
 
-  async createOrder(orderData: CreateOrderData): Promise<Order> {
+  // The idempotency key lets the backend return the original order when a request is retried
+  async createOrder(orderData: CreateOrderData, idempotencyKey?: string): Promise<Order> {
     const response = await fetch(this.baseUrl, {
       method: "POST",
       headers: {
         "Content-Type": "application/json",
+        ...(idempotencyKey && { "Idempotency-Key": idempotencyKey }),
       },
       body: JSON.stringify(orderData),
     });
@@ -18,7 +20,17 @@ export class OrderService {
       throw new Error(errorData.message || "Failed to create order");
     }
 
-    return response.json();
+    const order: Order = await response.json();
+    // Lets the customer follow this order through trackOrder without signing in
+    const trackingToken = response.headers.get("Order-Tracking-Token");
+    return trackingToken ? { ...order, trackingToken } : order;
+  }
+
+  // EventSource reconnects by itself and resends the last event id it saw
+  trackOrder(orderId: string, trackingToken: string): EventSource {
+    return new EventSource(
+      `${this.baseUrl}/${orderId}/events?token=${encodeURIComponent(trackingToken)}`
+    );
   }
 
   async getOrderById(orderId: string): Promise<Order> {
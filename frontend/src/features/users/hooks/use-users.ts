@@ -127,7 +127,7 @@ export function useUserFilters() {
   const [pagination, setPagination] = useState<PaginationParams>({
     page: 0,
     size: 10,
-    sortBy: 'created_at',
+    sortBy: 'createdAt',
     sortDir: 'desc',
   });
 
@@ -176,7 +176,7 @@ export function useUserFilters() {
     setPagination({
       page: 0,
       size: 10,
-      sortBy: 'created_at',
+      sortBy: 'createdAt',
       sortDir: 'desc',
     });
   }, []);
@@ -0,0 +1,151 @@
+// Minimal STOMP 1.2 client over a native WebSocket.
+// Supports CONNECT with a bearer token, SUBSCRIBE/UNSUBSCRIBE and automatic reconnects.
+
+type MessageHandler<T> = (body: T) => void;
+
+interface Subscription {
+  destination: string;
+  handler: MessageHandler<unknown>;
+}
+
+interface StompFrame {
+  command: string;
+  headers: Record<string, string>;
+  body: string;
+}
+
+const RECONNECT_DELAY_MS = 5000;
+
+export class StompClient {
+  private socket: WebSocket | null = null;
+  private connected = false;
+  private closedByUser = false;
+  private reconnectTimer: ReturnType<typeof setTimeout> | null = null;
+  private subscriptions = new Map<string, Subscription>();
+  private nextSubscriptionId = 0;
+
+  constructor(
+    private readonly url: string,
+    private readonly getToken: () => string | null,
+    private readonly onConnectionChange?: (connected: boolean) => void,
+  ) {}
+
+  connect(): void {
+    this.closedByUser = false;
+    const socket = new WebSocket(this.url);
+    this.socket = socket;
+
+    socket.onopen = () => {
+      const token = this.getToken();
+      this.sendFrame('CONNECT', {
+        'accept-version': '1.2',
+        host: new URL(this.url).host,
+        'heart-beat': '0,0',
+        ...(token && { Authorization: `Bearer ${token}` }),
+      });
+    };
+
+    socket.onmessage = (event: MessageEvent) => {
+      this.parseFrames(String(event.data)).forEach(frame => this.handleFrame(frame));
+    };
+
+    socket.onclose = () => {
+      this.setConnected(false);
+      this.socket = null;
+      if (!this.closedByUser) {
+        this.reconnectTimer = setTimeout(() => this.connect(), RECONNECT_DELAY_MS);
+      }
+    };
+
+    socket.onerror = () => {
+      socket.close();
+    };
+  }
+
+  disconnect(): void {
+    this.closedByUser = true;
+    if (this.reconnectTimer) {
+      clearTimeout(this.reconnectTimer);
+      this.reconnectTimer = null;
+    }
+    if (this.socket && this.connected) {
+      this.sendFrame('DISCONNECT', {});
+    }
+    this.socket?.close();
+    this.socket = null;
+    this.setConnected(false);
+  }
+
+  // Subscriptions survive reconnects; returns an unsubscribe function
+  subscribe<T>(destination: string, handler: MessageHandler<T>): () => void {
+    const id = `sub-${this.nextSubscriptionId++}`;
+    this.subscriptions.set(id, { destination, handler: handler as MessageHandler<unknown> });
+    if (this.connected) {
+      this.sendFrame('SUBSCRIBE', { id, destination });
+    }
+
+    return () => {
+      this.subscriptions.delete(id);
+      if (this.connected) {
+        this.sendFrame('UNSUBSCRIBE', { id });
+      }
+    };
+  }
+
+  private handleFrame(frame: StompFrame): void {
+    switch (frame.command) {
+      case 'CONNECTED':
+        this.setConnected(true);
+        this.subscriptions.forEach((subscription, id) =>
+          this.sendFrame('SUBSCRIBE', { id, destination: subscription.destination }));
+        break;
+      case 'MESSAGE': {
+        const subscription = this.subscriptions.get(frame.headers['subscription']);
+        if (!subscription) return;
+        try {
+          subscription.handler(frame.body ? JSON.parse(frame.body) : null);
+        } catch (err) {
+          console.error('Failed to handle STOMP message:', err);
+        }
+        break;
+      }
+      case 'ERROR':
+        console.error('STOMP error:', frame.headers['message'] || frame.body);
+        break;
+    }
+  }
+
+  private parseFrames(data: string): StompFrame[] {
+    return data
+      .split('\0')
+      .map(raw => raw.replace(/^\n+/, ''))
+      .filter(raw => raw.length > 0)
+      .map(raw => {
+        const separator = raw.indexOf('\n\n');
+        const head = separator >= 0 ? raw.substring(0, separator) : raw;
+        const body = separator >= 0 ? raw.substring(separator + 2) : '';
+        const [command, ...headerLines] = head.split('\n');
+        const headers: Record<string, string> = {};
+        headerLines.forEach(line => {
+          const index = line.indexOf(':');
+          if (index > 0 && !(line.substring(0, index) in headers)) {
+            headers[line.substring(0, index)] = line.substring(index + 1);
+          }
+        });
+        return { command: command.trim(), headers, body };
+      });
+  }
+
+  private sendFrame(command: string, headers: Record<string, string>, body = ''): void {
+    if (!this.socket || this.socket.readyState !== WebSocket.OPEN) return;
+    const headerLines = Object.entries(headers).map(([key, value]) => `${key}:${value}`);
+    this.socket.send(`${command}\n${headerLines.join('\n')}\n\n${body}\0`);
+  }
+
+  private setConnected(connected: boolean): void {
+    if (this.connected !== connected) {
+      this.connected = connected;
+      this.onConnectionChange?.(connected);
+    }
+  }
+}
@@ -1,12 +1,17 @@
 // API base URL
 export const API_BASE_URL = process.env.NEXT_PUBLIC_API_BASE_URL || 'http://localhost:5000/api';
 
+// STOMP WebSocket endpoint (served outside the /api prefix)
+export const WS_URL = process.env.NEXT_PUBLIC_WS_URL ||
+  `${API_BASE_URL.replace(/^http/, 'ws').replace(/\/api\/?$/, '')}/ws`;
+
 // API endpoints
 export const API_ENDPOINTS = {
   ORDERS: `${API_BASE_URL}/orders`,
   TABLES: `${API_BASE_URL}/tables`,
   MENU: `${API_BASE_URL}/menu`,
   DASHBOARD: `${API_BASE_URL}/dashboard`,
+  ANALYTICS: `${API_BASE_URL}/analytics`,
   AUTH: `${API_BASE_URL}/auth`,
   USERS: `${API_BASE_URL}/users`,
   TABLES_QR: `${API_BASE_URL}/tables/qr-codes`,
@@ -176,6 +176,7 @@ export interface Order {
   paymentStatus: PaymentStatus;
   paymentMethod?: PaymentMethod;
   estimatedReadyTime?: string;
+  preparingStartedAt?: string;
   actualReadyTime?: string;
   servedTime?: string;
   createdAt: string;
@@ -205,6 +206,29 @@ export type OrderStatus =
 
 export type OrderPriority = "LOW" | "MEDIUM" | "HIGH" | "URGENT";
 
+// Real-time kitchen types (STOMP /topic/kitchen/orders)
+export type KitchenOrderDeltaType = "CREATED" | "UPDATED" | "STATUS_CHANGED" | "DELETED";
+
+export interface KitchenOrderDelta {
+  type: KitchenOrderDeltaType;
+  orderId: string;
+  previousStatus?: OrderStatus;
+  status?: OrderStatus;
+  priority?: OrderPriority;
+  estimatedReadyTime?: string;
+  actualReadyTime?: string;
+  occurredAt: string;
+  order?: Order;
+  position: number; // event log position of the change
+}
+
+export interface KitchenSnapshot {
+  activeOrders: Order[];
+  readyOrders: Order[];
+  generatedAt: string;
+  position: number; // deltas at or below this position are already included
+}
+
 export type PaymentStatus = "PENDING" | "PAID" | "FAILED" | "REFUNDED";
 
 export type PaymentMethod = "CASH" | "CARD" | "DIGITAL_WALLET" | "BANK_TRANSFER";
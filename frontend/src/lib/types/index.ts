@@ -47,6 +47,16 @@ export interface Order {
   notes?: string;
   paymentStatus?: 'pending' | 'paid' | 'refunded';
   paymentMethod?: 'cash' | 'card' | 'digital';
+  trackingToken?: string;
+}
+
+// Status and ETA pushed to the customer who placed an order
+export interface OrderTrackingEvent {
+  orderId: string;
+  status: string;
+  estimatedReadyTime?: string;
+  actualReadyTime?: string;
+  updatedAt: string;
 }
 
 // Reservation interface
@@ -127,6 +137,26 @@ export interface ChartData {
   orders?: number;
 }
 
+// Sales rollups from /analytics/sales
+export interface SalesPoint {
+  bucketStart: string;
+  orderCount: number;
+  revenue: number;
+  tax: number;
+  tip: number;
+  discount: number;
+  averageTicket: number | null;
+  categoryRevenue: Record<string, number>;
+}
+
+export interface SalesSeries {
+  granularity: 'HOUR' | 'DAY';
+  from: string;
+  to: string;
+  totals: SalesPoint;
+  points: SalesPoint[];
+}
+
 // Table filter options
 export type TableStatus = 'all' | 'AVAILABLE' | 'OCCUPIED' | 'RESERVED' | 'CLEANING' | 'MAINTENANCE';
 export type TableSortBy = 'number' | 'capacity' | 'status' | 'revenue';